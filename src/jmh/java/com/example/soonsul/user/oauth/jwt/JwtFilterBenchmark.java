@@ -0,0 +1,72 @@
+package com.example.soonsul.user.oauth.jwt;
+
+import com.example.soonsul.config.filter.JwtAuthenticationFilter;
+import com.example.soonsul.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Base64;
+
+//검증된 토큰 캐시 사용/미사용 비교, ./gradlew jmh
+//filter*는 JwtAuthenticationFilter 전체 (헤더 읽기 + 토큰 검증 + SecurityContext 설정)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+    private static final String SECRET= Base64.getEncoder().encodeToString("soonsul-benchmark-secret-key-0123456789".getBytes());
+    private static final FilterChain CHAIN= (req, res) -> { };
+
+    private String token;
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response= new MockHttpServletResponse();
+
+
+    @Setup
+    public void setUp(){
+        uncached= new JwtTokenProvider(SECRET, new SimpleMeterRegistry(), 0, System::currentTimeMillis);
+        cached= new JwtTokenProvider(SECRET, new SimpleMeterRegistry());
+        uncachedFilter= new JwtAuthenticationFilter(uncached);
+        cachedFilter= new JwtAuthenticationFilter(cached);
+
+        token= cached.generateJwtToken(User.builder().userId("benchmark-user").build());
+        request= new MockHttpServletRequest("GET", "/api/liquors");
+        request.addHeader(AuthConstants.AUTH_HEADER_ACCESS, token);
+    }
+
+
+    @Benchmark
+    public Claims parse(){
+        return uncached.getClaimsFormToken(token);
+    }
+
+    @Benchmark
+    public String verifyUncached(){
+        return uncached.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public String verifyCached(){
+        return cached.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public void filterUncached() throws ServletException, IOException {
+        uncachedFilter.doFilterInternal(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterCached() throws ServletException, IOException {
+        cachedFilter.doFilterInternal(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+}
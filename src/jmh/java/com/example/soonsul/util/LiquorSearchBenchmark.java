@@ -0,0 +1,120 @@
+package com.example.soonsul.util;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//기존 검색(LIKE %q%)과 검색 인덱스 비교, ./gradlew jmh
+//DB는 H2 메모리(MySQL 모드)라 네트워크 왕복은 빠져 있음 -> 실제 차이는 이보다 큼
+@State(Scope.Benchmark)
+public class LiquorSearchBenchmark {
+    private static final String OLD_SEARCH= "SELECT * FROM liquor l WHERE l.name like ? order by l.name";
+    private static final String TYPO= "생막걸니";
+    private static final String[] PREFIX= {"지평", "복순도가", "해창", "느린마을", "화요", "문배", "한산", "이화", "송명섭", "솔송"};
+    private static final String[] KIND= {"생막걸리", "약주", "청주", "소주", "과실주", "탁주", "동동주", "증류주"};
+    private static final String[] BREWERY= {"지평주조", "복순도가", "해창주조장", "배상면주가", "화요", "문배주양조원", "한산소곡주", "술샘"};
+    private static final String[] INGREDIENT= {"쌀, 누룩, 정제수", "찹쌀, 누룩", "멥쌀, 효모", "사과, 정제수", "보리, 누룩"};
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"막걸리", "해창"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement like;
+    private LiquorSearchIndex index;
+
+
+    @Setup
+    public void setUp() throws SQLException {
+        final List<Liquor> liquors= liquors(size);
+
+        connection= DriverManager.getConnection("jdbc:h2:mem:liquor"+ size+ ";MODE=MySQL");
+        try(Statement st= connection.createStatement()){
+            st.execute("DROP TABLE IF EXISTS liquor");
+            st.execute("CREATE TABLE liquor (liquor_id VARCHAR(20) PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE, " +
+                    "ingredient VARCHAR(255), brewery VARCHAR(255), liquor_category VARCHAR(10), image_url VARCHAR(255))");
+        }
+        try(PreparedStatement ps= connection.prepareStatement("INSERT INTO liquor VALUES (?, ?, ?, ?, ?, ?)")){
+            for(Liquor l: liquors){
+                ps.setString(1, l.getLiquorId());
+                ps.setString(2, l.getName());
+                ps.setString(3, l.getIngredient());
+                ps.setString(4, l.getBrewery());
+                ps.setString(5, l.getLiquorCategory());
+                ps.setString(6, l.getImageUrl());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        like= connection.prepareStatement(OLD_SEARCH);
+
+        index= new LiquorSearchIndex(repository(liquors));
+        index.rebuild();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        like.close();
+        connection.close();
+    }
+
+
+    @Benchmark
+    public void like(Blackhole bh) throws SQLException {
+        like.setString(1, "%"+ query+ "%");
+        try(ResultSet rs= like.executeQuery()){
+            while(rs.next()) bh.consume(rs.getString("liquor_id"));
+        }
+    }
+
+    @Benchmark
+    public List<LiquorSearchIndex.Hit> index(){
+        return index.search(query);
+    }
+
+    //한 글자 오타 ("생막걸리" -> "생막걸니"), 기존 LIKE 검색으로는 찾을 수 없음
+    @Benchmark
+    public List<LiquorSearchIndex.Hit> fuzzy(){
+        return index.fuzzySearch(TYPO);
+    }
+
+
+    private static List<Liquor> liquors(int size){
+        final Random random= new Random(42);
+        final List<Liquor> list= new ArrayList<>();
+        for(int i=0; i<size; i++){
+            list.add(Liquor.builder()
+                    .liquorId(String.format("LQ%02d%06d", i% 8, i))
+                    .name(PREFIX[random.nextInt(PREFIX.length)]+ " "+ KIND[random.nextInt(KIND.length)]+ " "+ i)
+                    .brewery(BREWERY[random.nextInt(BREWERY.length)])
+                    .ingredient(INGREDIENT[random.nextInt(INGREDIENT.length)])
+                    .liquorCategory(String.format("LQ%02d", i% 8))
+                    .imageUrl("")
+                    .build());
+        }
+        return list;
+    }
+
+    //인덱스는 findAll만 사용
+    private static LiquorRepository repository(List<Liquor> liquors){
+        return (LiquorRepository) Proxy.newProxyInstance(LiquorRepository.class.getClassLoader(),
+                new Class[]{LiquorRepository.class}, (proxy, method, args) -> {
+                    if(method.getName().equals("findAll") && (args==null || args.length==0)) return liquors;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -3,9 +3,11 @@ package com.example.soonsul;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 
+@EnableCaching
 @EnableScheduling
 @SpringBootApplication(exclude = SecurityAutoConfiguration.class)
 public class SoonsulApplication {
@@ -3,5 +3,9 @@ package com.example.soonsul.cache;
 public class CacheKey {
     public static final int DEFAULT_EXPIRE_SEC = 600;
     public static final int POST_EXPIRE_SEC = 3600;
+    public static final int LOCAL_EXPIRE_SEC = 60;
+    public static final int LOCAL_MAX_SIZE = 1000;
     public static final String LIQUOR = "liquor";
+    public static final int USER_EXPIRE_SEC = 60;
+    public static final String USER = "user";
 }
@@ -0,0 +1,73 @@
+package com.example.soonsul.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+//L1 캐시: 크기 제한(LRU) + TTL
+//조회 시 직렬화 없이 같은 인스턴스를 돌려주므로 캐시 값은 불변 객체만 사용 (LiquorDetailDto, UserCache.Snapshot)
+public class LocalCache {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Runnable onEviction;
+    private final LinkedHashMap<String, Entry> map;
+
+
+    public LocalCache(int maxSize, Duration ttl, LongSupplier clock, Runnable onEviction){
+        this.maxSize= maxSize;
+        this.ttlMillis= ttl.toMillis();
+        this.clock= clock;
+        this.onEviction= onEviction;
+        this.map= new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    public synchronized Cache.ValueWrapper get(String key){
+        final Entry entry= map.get(key);
+        if(entry==null) return null;
+        if(entry.expireAt <= clock.getAsLong()){
+            map.remove(key);
+            onEviction.run();
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(String key, Cache.ValueWrapper value){
+        map.put(key, new Entry(value, clock.getAsLong()+ ttlMillis));
+        final Iterator<Map.Entry<String, Entry>> it= map.entrySet().iterator();
+        while(map.size() > maxSize && it.hasNext()){
+            it.next();
+            it.remove();
+            onEviction.run();
+        }
+    }
+
+    public synchronized void evict(String key){
+        map.remove(key);
+    }
+
+    public synchronized void clear(){
+        map.clear();
+    }
+
+    public synchronized int size(){
+        return map.size();
+    }
+
+
+    private static class Entry {
+        private final Cache.ValueWrapper value;
+        private final long expireAt;
+
+        private Entry(Cache.ValueWrapper value, long expireAt){
+            this.value= value;
+            this.expireAt= expireAt;
+        }
+    }
+}
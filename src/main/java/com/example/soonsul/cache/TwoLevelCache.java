@@ -0,0 +1,129 @@
+package com.example.soonsul.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+//L1(로컬) -> L2(redis) 순서로 조회, 쓰기/삭제는 양쪽 반영
+//put은 조회 결과를 채우는 용도라 전파하지 않고, 변경은 evict/clear로 다른 서버의 L1 무효화
+public class TwoLevelCache implements Cache {
+    private final String name;
+    private final Cache remote;
+    private final LocalCache local;
+    private final InvalidationPublisher publisher;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+
+    public TwoLevelCache(String name, Cache remote, LocalCache local, InvalidationPublisher publisher, MeterRegistry meterRegistry){
+        this.name= name;
+        this.remote= remote;
+        this.local= local;
+        this.publisher= publisher;
+        this.l1Hit= counter(meterRegistry, "l1", "hit");
+        this.l1Miss= counter(meterRegistry, "l1", "miss");
+        this.l2Hit= counter(meterRegistry, "l2", "hit");
+        this.l2Miss= counter(meterRegistry, "l2", "miss");
+    }
+
+
+    @Override
+    public String getName(){
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache(){
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key){
+        final String localKey= String.valueOf(key);
+        final ValueWrapper cached= local.get(localKey);
+        if(cached!=null){
+            l1Hit.increment();
+            return cached;
+        }
+        l1Miss.increment();
+
+        final ValueWrapper value= remote.get(key);
+        if(value==null){
+            l2Miss.increment();
+            return null;
+        }
+        l2Hit.increment();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type){
+        final ValueWrapper value= get(key);
+        if(value==null) return null;
+        final Object result= value.get();
+        if(result!=null && type!=null && !type.isInstance(result)){
+            throw new IllegalStateException("cached value is not of required type [" + type.getName() + "]: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader){
+        final ValueWrapper cached= get(key);
+        if(cached!=null) return (T) cached.get();
+
+        final T value= remote.get(key, valueLoader);
+        local.put(String.valueOf(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value){
+        remote.put(key, value);
+        local.put(String.valueOf(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public void evict(Object key){
+        remote.evict(key);
+        local.evict(String.valueOf(key));
+        publisher.publish(name, String.valueOf(key));
+    }
+
+    @Override
+    public void clear(){
+        remote.clear();
+        local.clear();
+        publisher.publish(name, null);
+    }
+
+
+    //다른 서버에서 받은 무효화 메세지 (key가 null이면 전체)
+    public void invalidateLocal(String key){
+        if(key==null) local.clear();
+        else local.evict(key);
+    }
+
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result){
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+
+    public interface InvalidationPublisher {
+        void publish(String cacheName, String key);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.soonsul.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+//redis 캐시 앞에 서버별 L1 캐시, 변경은 pub/sub으로 다른 서버 L1에 전파
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+    public static final String CHANNEL= "cache:invalidate";
+    private static final String SEPARATOR= "|";
+
+    private final String instanceId= UUID.randomUUID().toString();
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> twoLevelCaches= new ConcurrentHashMap<>();
+
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry){
+        this.remoteCacheManager= remoteCacheManager;
+        this.stringRedisTemplate= stringRedisTemplate;
+        this.meterRegistry= meterRegistry;
+    }
+
+
+    @Override
+    protected Collection<? extends Cache> loadCaches(){
+        return remoteCacheManager.getCacheNames()
+                .stream()
+                .map(this::createCache)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected Cache getMissingCache(String name){
+        return createCache(name);
+    }
+
+
+    //메세지: {보낸 서버}|{캐시 이름}|{key}, key가 비어있으면 전체 삭제
+    @Override
+    public void onMessage(Message message, byte[] pattern){
+        final String[] parts= new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if(parts.length<3 || parts[0].equals(instanceId)) return;
+
+        final TwoLevelCache cache= twoLevelCaches.get(parts[1]);
+        if(cache!=null) cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+    }
+
+
+    private TwoLevelCache createCache(String name){
+        return twoLevelCaches.computeIfAbsent(name, n -> {
+            final Counter eviction= Counter.builder("cache.tier.evictions")
+                    .tag("cache", n)
+                    .tag("tier", "l1")
+                    .register(meterRegistry);
+            final LocalCache local= new LocalCache(CacheKey.LOCAL_MAX_SIZE, Duration.ofSeconds(CacheKey.LOCAL_EXPIRE_SEC),
+                    System::currentTimeMillis, eviction::increment);
+            return new TwoLevelCache(n, remoteCacheManager.getCache(n), local, this::publish, meterRegistry);
+        });
+    }
+
+    private void publish(String cacheName, String key){
+        try{
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + cacheName + SEPARATOR + (key==null ? "" : key));
+        }catch (RuntimeException e){
+            log.warn("cache invalidation publish failed: cache={}, key={}", cacheName, key, e);     //L1 TTL 지나면 맞춰짐
+        }
+    }
+}
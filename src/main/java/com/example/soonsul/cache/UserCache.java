@@ -0,0 +1,129 @@
+package com.example.soonsul.cache;
+
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.oauth.OAuthProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+//유저 조회 캐시 (TTL 60초), 유저 정보 수정은 커밋 후 evict
+//캐시 장애 시 DB 조회로 넘어가도록 예외는 삼킴
+//엔티티 대신 불변 Snapshot을 저장 (L1은 같은 인스턴스를 공유), 꺼낼 때마다 새 준영속 User를 만들어서 반환
+@Slf4j
+@Component
+public class UserCache {
+    private final Cache cache;
+
+
+    public UserCache(@Qualifier("cacheManager") CacheManager cacheManager){
+        this.cache= cacheManager.getCache(CacheKey.USER);
+    }
+
+
+    public User get(String userId){
+        try{
+            final Snapshot snapshot= cache.get(userId, Snapshot.class);
+            return snapshot==null ? null : snapshot.toUser();
+        }catch (RuntimeException e){
+            log.warn("user cache get failed: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    public void put(User user){
+        try{
+            cache.put(user.getUserId(), new Snapshot(user));
+        }catch (RuntimeException e){
+            log.warn("user cache put failed: userId={}", user.getUserId(), e);
+        }
+    }
+
+    public void evict(String userId){
+        try{
+            cache.evict(userId);
+        }catch (RuntimeException e){
+            log.warn("user cache evict failed: userId={}", userId, e);
+        }
+    }
+
+
+    static final class Snapshot implements Serializable {
+        private final String userId;
+        private final String nickname;
+        private final String profileImage;
+        private final String phoneNumber;
+        private final String gender;
+        private final Integer age;
+        private final boolean flagAge;
+        private final boolean flagTerms;
+        private final boolean flagPrivacy;
+        private final boolean flagWithdrawal;
+        private final OAuthProvider oAuthProvider;
+        private final LocalDate birthday;
+        private final String period;
+        private final String liquor;
+        private final String place;
+        private final String deviceToken;
+        private final boolean flagActivity;
+        private final boolean flagAdvertising;
+        private final LocalDateTime createdDate;
+        private final Integer reviewNumber;
+        private final Integer unreadNumber;
+
+        private Snapshot(User u){
+            this.userId= u.getUserId();
+            this.nickname= u.getNickname();
+            this.profileImage= u.getProfileImage();
+            this.phoneNumber= u.getPhoneNumber();
+            this.gender= u.getGender();
+            this.age= u.getAge();
+            this.flagAge= u.isFlagAge();
+            this.flagTerms= u.isFlagTerms();
+            this.flagPrivacy= u.isFlagPrivacy();
+            this.flagWithdrawal= u.isFlagWithdrawal();
+            this.oAuthProvider= u.getOAuthProvider();
+            this.birthday= u.getBirthday();
+            this.period= u.getPeriod();
+            this.liquor= u.getLiquor();
+            this.place= u.getPlace();
+            this.deviceToken= u.getDeviceToken();
+            this.flagActivity= u.isFlagActivity();
+            this.flagAdvertising= u.isFlagAdvertising();
+            this.createdDate= u.getCreatedDate();
+            this.reviewNumber= u.getReviewNumber();
+            this.unreadNumber= u.getUnreadNumber();
+        }
+
+        private User toUser(){
+            return User.builder()
+                    .userId(userId)
+                    .nickname(nickname)
+                    .profileImage(profileImage)
+                    .phoneNumber(phoneNumber)
+                    .gender(gender)
+                    .age(age)
+                    .flagAge(flagAge)
+                    .flagTerms(flagTerms)
+                    .flagPrivacy(flagPrivacy)
+                    .flagWithdrawal(flagWithdrawal)
+                    .oAuthProvider(oAuthProvider)
+                    .birthday(birthday)
+                    .period(period)
+                    .liquor(liquor)
+                    .place(place)
+                    .deviceToken(deviceToken)
+                    .flagActivity(flagActivity)
+                    .flagAdvertising(flagAdvertising)
+                    .createdDate(createdDate)
+                    .reviewNumber(reviewNumber)
+                    .unreadNumber(unreadNumber)
+                    .build();
+        }
+    }
+}
@@ -6,11 +6,9 @@ import com.example.soonsul.liquor.dto.ReCommentDto;
 import com.example.soonsul.liquor.response.ReCommentListResponse;
 import com.example.soonsul.liquor.service.CommentService;
 import com.example.soonsul.notification.NotificationService;
-import com.example.soonsul.notification.dto.PushNotification;
 import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.response.result.ResultCode;
 import com.example.soonsul.response.result.ResultResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -33,9 +31,8 @@ public class CommentController {
 
     @ApiOperation(value = "댓글 작성")
     @PostMapping("/reviews/{reviewId}/comment")
-    public ResponseEntity<ResultResponse> postComment(@PathVariable("reviewId") Long reviewId, @RequestBody CommentRequest request) throws FirebaseMessagingException {
-        final PushNotification pushNotification= commentService.postComment(reviewId, request);
-        notificationService.sendNotification(NotificationType.COMMENT, pushNotification);
+    public ResponseEntity<ResultResponse> postComment(@PathVariable("reviewId") Long reviewId, @RequestBody CommentRequest request) {
+        commentService.postComment(reviewId, request);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.POST_COMMENT_SUCCESS));
     }
 
@@ -59,9 +56,8 @@ public class CommentController {
 
     @ApiOperation(value = "대댓글 작성")
     @PostMapping("/re-comments/{upperCommentId}")
-    public ResponseEntity<ResultResponse> postReComment(@PathVariable("upperCommentId") Long upperCommentId, @RequestBody CommentRequest request) throws FirebaseMessagingException {
-        final PushNotification pushNotification= commentService.postReComment(upperCommentId, request);
-        notificationService.sendNotification(NotificationType.RECOMMENT, pushNotification);
+    public ResponseEntity<ResultResponse> postReComment(@PathVariable("upperCommentId") Long upperCommentId, @RequestBody CommentRequest request) {
+        commentService.postReComment(upperCommentId, request);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.POST_RECOMMENT_SUCCESS));
     }
 
@@ -107,11 +103,12 @@ public class CommentController {
     }
 
 
-    @ApiOperation(value = "대댓글 전체 조회 - 최신순")
+    @ApiOperation(value = "대댓글 전체 조회 - 최신순", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/comments/{commentId}/re-comments")
     public ResponseEntity<ReCommentListResponse> getReCommentList(@PageableDefault(size=10, sort = "comment_id", direction = Sort.Direction.DESC) Pageable pageable,
-                                                                  @PathVariable("commentId") Long commentId) {
-        final List<ReCommentDto> data= commentService.getReCommentList(pageable, commentId);
+                                                                  @PathVariable("commentId") Long commentId,
+                                                                  @RequestParam(value = "after", required = false) Long after) {
+        final List<ReCommentDto> data= commentService.getReCommentList(pageable, commentId, after);
         return ResponseEntity.ok(ReCommentListResponse.of(ResultCode.GET_RECOMMENT_LIST_SUCCESS, data));
     }
 
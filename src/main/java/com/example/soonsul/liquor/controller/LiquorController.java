@@ -60,13 +60,12 @@ public class LiquorController {
     @PostMapping("/{liquorId}/click")
     public ResponseEntity<ResultResponse> postClick(@PathVariable("liquorId") String liquorId) {
         clickService.postClick(liquorId);
-        clickService.postRegionClick(liquorId);
-        clickService.postFilteringClick(liquorId);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.POST_CLICK_SUCCESS));
     }
 
 
-    @ApiOperation(value = "모든 전통주 이름 조회")
+    @Deprecated
+    @ApiOperation(value = "모든 전통주 이름 조회", notes = "자동완성은 /search/suggest 사용, 구버전 앱 지원용")
     @GetMapping("/name")
     public ResponseEntity<ResultResponse> getLiquorListName() {
         final List<String> data= liquorService.getLiquorListName();
@@ -8,11 +8,9 @@ import com.example.soonsul.liquor.response.ReviewResponse;
 import com.example.soonsul.liquor.service.CommentService;
 import com.example.soonsul.liquor.service.ReviewService;
 import com.example.soonsul.notification.NotificationService;
-import com.example.soonsul.notification.dto.PushNotification;
 import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.response.result.ResultCode;
 import com.example.soonsul.response.result.ResultResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -34,18 +32,21 @@ public class ReviewController {
     private final NotificationService notificationService;
 
 
-    @ApiOperation(value = "전통주 리뷰 전체 조회 - 최신순")
+    @ApiOperation(value = "전통주 리뷰 전체 조회 - 최신순", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/{liquorId}/reviews/latest")
-    public ResponseEntity<ReviewListResponse> getReviewListByLatest(@PageableDefault(size=10, sort = "review_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("liquorId") String liquorId) {
-        final List<ReviewDto> data= reviewService.getReviewListByLatest(pageable, liquorId);
+    public ResponseEntity<ReviewListResponse> getReviewListByLatest(@PageableDefault(size=10, sort = "review_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("liquorId") String liquorId,
+                                                                    @RequestParam(value = "after", required = false) Long after) {
+        final List<ReviewDto> data= reviewService.getReviewListByLatest(pageable, liquorId, after);
         return ResponseEntity.ok(ReviewListResponse.of(ResultCode.GET_REVIEW_LIST_SUCCESS, data));
     }
 
 
-    @ApiOperation(value = "전통주 리뷰 전체 조회 - 평점순")
+    @ApiOperation(value = "전통주 리뷰 전체 조회 - 평점순", notes = "afterRating, after: 마지막으로 받은 리뷰의 liquorRating, id, 둘 다 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/{liquorId}/reviews/rating")
-    public ResponseEntity<ReviewListResponse> getReviewListByRating(@PageableDefault(size=10, sort = "review_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("liquorId") String liquorId) {
-        final List<ReviewDto> data= reviewService.getReviewListByRating(pageable, liquorId);
+    public ResponseEntity<ReviewListResponse> getReviewListByRating(@PageableDefault(size=10, sort = "review_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("liquorId") String liquorId,
+                                                                    @RequestParam(value = "afterRating", required = false) Double afterRating,
+                                                                    @RequestParam(value = "after", required = false) Long after) {
+        final List<ReviewDto> data= reviewService.getReviewListByRating(pageable, liquorId, afterRating, after);
         return ResponseEntity.ok(ReviewListResponse.of(ResultCode.GET_REVIEW_LIST_SUCCESS, data));
     }
 
@@ -58,19 +59,19 @@ public class ReviewController {
     }
 
 
-    @ApiOperation(value = "해당하는 리뷰의 댓글 전체 조회 - 최신순")
+    @ApiOperation(value = "해당하는 리뷰의 댓글 전체 조회 - 최신순", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/reviews/{reviewId}/comments")
-    public ResponseEntity<CommentListResponse> getCommentList(@PageableDefault(size=10, sort = "comment_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("reviewId") Long reviewId) {
-        final List<CommentDto> data= commentService.getCommentList(pageable, reviewId);
+    public ResponseEntity<CommentListResponse> getCommentList(@PageableDefault(size=10, sort = "comment_id", direction = Sort.Direction.DESC) Pageable pageable, @PathVariable("reviewId") Long reviewId,
+                                                              @RequestParam(value = "after", required = false) Long after) {
+        final List<CommentDto> data= commentService.getCommentList(pageable, reviewId, after);
         return ResponseEntity.ok(CommentListResponse.of(ResultCode.GET_COMMENT_LIST_SUCCESS, data));
     }
 
 
     @ApiOperation(value = "리뷰 좋아요 추가")
     @PostMapping("/reviews/{reviewId}/like")
-    public ResponseEntity<ResultResponse> postReviewLike(@PathVariable("reviewId") Long reviewId) throws FirebaseMessagingException {
-        final PushNotification pushNotification= reviewService.postReviewLike(reviewId);
-        notificationService.sendNotification(NotificationType.REVIEW_GOOD, pushNotification);
+    public ResponseEntity<ResultResponse> postReviewLike(@PathVariable("reviewId") Long reviewId) {
+        reviewService.postReviewLike(reviewId);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.POST_REVIEW_LIKE_SUCCESS));
     }
 
@@ -0,0 +1,15 @@
+package com.example.soonsul.liquor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//클릭 큐에 쌓이는 이벤트 (조회는 배치에서 한번에)
+@Getter
+@AllArgsConstructor
+public class ClickEvent {
+
+    private String liquorId;
+
+    private String userId;
+
+}
@@ -0,0 +1,58 @@
+package com.example.soonsul.liquor.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//전통주 상세 정보 중 사용자와 무관한 부분 (캐시 대상)
+//L1 캐시가 같은 인스턴스를 여러 요청에 돌려주므로 불변 (setter 없음, filtering은 수정 불가 리스트)
+@Getter
+public class LiquorDetailDto implements Serializable {
+
+    private final String liquorId;
+
+    private final String name;
+
+    private final String ingredient;
+
+    private final Double averageRating;
+
+    private final Long lowestPrice;
+
+    private final Double alcohol;
+
+    private final Integer capacity;
+
+    private final String region;
+
+    private final String imageUrl;
+
+    private final String liquorCategory;
+
+    private final Integer ratingNumber;
+
+    private final List<LiquorFilteringDto> filtering;
+
+
+    @Builder
+    private LiquorDetailDto(String liquorId, String name, String ingredient, Double averageRating, Long lowestPrice, Double alcohol,
+                            Integer capacity, String region, String imageUrl, String liquorCategory, Integer ratingNumber,
+                            List<LiquorFilteringDto> filtering){
+        this.liquorId= liquorId;
+        this.name= name;
+        this.ingredient= ingredient;
+        this.averageRating= averageRating;
+        this.lowestPrice= lowestPrice;
+        this.alcohol= alcohol;
+        this.capacity= capacity;
+        this.region= region;
+        this.imageUrl= imageUrl;
+        this.liquorCategory= liquorCategory;
+        this.ratingNumber= ratingNumber;
+        this.filtering= (filtering==null) ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(filtering));
+    }
+}
@@ -7,12 +7,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @ApiModel(description = "전통주 필터링 정보")
-public class LiquorFilteringDto {
+public class LiquorFilteringDto implements Serializable {
 
     @ApiModelProperty(value = "나이", position = 1)
     private Integer age;
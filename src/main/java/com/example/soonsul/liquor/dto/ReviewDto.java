@@ -52,4 +52,7 @@ public class ReviewDto {
 
     @ApiModelProperty(value = "총 리뷰 개수", position = 12)
     private Integer totalReviewNumber;
+
+    @ApiModelProperty(value = "리뷰 평점 (평점순 조회의 afterRating)", position = 13)
+    private Double liquorRating;
 }
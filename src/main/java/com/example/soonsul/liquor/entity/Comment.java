@@ -13,7 +13,9 @@ import java.util.List;
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="comment")
+@Table(name="comment", indexes = {
+        @Index(name = "idx_comment_review_id", columnList = "review_id, comment_id"),
+        @Index(name = "idx_comment_upper_comment_id", columnList = "upper_comment_id, comment_id")})
 public class Comment {
 
     @Id
@@ -39,6 +41,14 @@ public class Comment {
     @Column(name = "upper_comment_id")
     private Long upperCommentId;
 
+    @Builder.Default
+    @Column(name = "good_number", nullable = false, columnDefinition = "int default 0")
+    private Integer goodNumber= 0;
+
+    @Builder.Default
+    @Column(name = "re_comment_number", nullable = false, columnDefinition = "int default 0")
+    private Integer reCommentNumber= 0;
+
     @OneToMany(mappedBy = "comment", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
     private final List<CommentGood> commentGoods = new ArrayList<>();
 
@@ -3,7 +3,9 @@ package com.example.soonsul.liquor.entity;
 import lombok.*;
 
 import javax.persistence.*;
+import java.math.BigDecimal;
 
+//맛 평가 합계 (평균= 합계/evaluation_number 인원수, 조회 시 계산)
 @Getter
 @AllArgsConstructor
 @Builder
@@ -16,89 +18,74 @@ public class Evaluation {
     @Column(name = "evaluation_id", nullable = false, unique = true)
     private String evaluationId;
 
-    @Column(name = "sweetness")
-    private Double sweetness;
+    @Builder.Default
+    @Column(name = "sweetness_sum", columnDefinition = "bigint default 0")
+    private Long sweetnessSum= 0L;
 
-    @Column(name = "acidity")
-    private Double acidity;
+    @Builder.Default
+    @Column(name = "acidity_sum", columnDefinition = "bigint default 0")
+    private Long aciditySum= 0L;
 
-    @Column(name = "carbonic_acid")
-    private Double carbonicAcid;
+    @Builder.Default
+    @Column(name = "carbonic_acid_sum", columnDefinition = "bigint default 0")
+    private Long carbonicAcidSum= 0L;
 
-    @Column(name = "heavy")
-    private Double heavy;
+    @Builder.Default
+    @Column(name = "heavy_sum", columnDefinition = "bigint default 0")
+    private Long heavySum= 0L;
 
-    @Column(name = "scent")
-    private Double scent;
+    @Builder.Default
+    @Column(name = "scent_sum", columnDefinition = "bigint default 0")
+    private Long scentSum= 0L;
 
-    @Column(name = "density")
-    private Double density;
+    @Builder.Default
+    @Column(name = "density_sum", columnDefinition = "bigint default 0")
+    private Long densitySum= 0L;
 
 
-    public void updateSweetness(Double sweetness){
-        this.sweetness= sweetness;
-    }
-
-    public void updateAcidity(Double acidity){
-        this.acidity= acidity;
-    }
-
-    public void updateCarbonicAcid(Double carbonicAcid){
-        this.carbonicAcid= carbonicAcid;
-    }
-
-    public void updateHeavy(Double heavy){
-        this.heavy= heavy;
-    }
-
-    public void updateScent(Double scent){
-        this.scent= scent;
-    }
-
-    public void updateDensity(Double density){
-        this.density= density;
-    }
-
-
-    public void updateFlavor(FlavorType flavorType, Double value){
+    public void addFlavor(FlavorType flavorType, long delta){
         switch (flavorType){
             case SWEETNESS:
-                this.sweetness= value;
+                this.sweetnessSum+= delta;
                 break;
             case ACIDITY:
-                this.acidity= value;
+                this.aciditySum+= delta;
                 break;
             case CARBONIC_ACID:
-                this.carbonicAcid= value;
+                this.carbonicAcidSum+= delta;
                 break;
             case HEAVY:
-                this.heavy= value;
+                this.heavySum+= delta;
                 break;
             case SCENT:
-                this.scent= value;
+                this.scentSum+= delta;
                 break;
             case DENSITY:
-                this.density= value;
+                this.densitySum+= delta;
                 break;
         }
     }
 
-    public Double getFlavor(FlavorType flavorType){
+    public Long getFlavorSum(FlavorType flavorType){
         switch (flavorType){
             case SWEETNESS:
-                return this.sweetness;
+                return this.sweetnessSum;
             case ACIDITY:
-                return this.acidity;
+                return this.aciditySum;
             case CARBONIC_ACID:
-                return this.carbonicAcid;
+                return this.carbonicAcidSum;
             case HEAVY:
-                return this.heavy;
+                return this.heavySum;
             case SCENT:
-                return this.scent;
+                return this.scentSum;
             case DENSITY:
-                return this.density;
+                return this.densitySum;
             default:
-                return 1.0;
+                return 0L;
         }
     }
+
+    public Double getFlavorAverage(FlavorType flavorType, EvaluationNumber number){
+        return EvaluationNumber.average(BigDecimal.valueOf(getFlavorSum(flavorType)), number.getFlavor(flavorType));
+    }
 }
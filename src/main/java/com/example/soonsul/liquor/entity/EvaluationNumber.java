@@ -6,7 +6,10 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 
+//평가 인원수 (average_rating: 평점 인원수, rating_sum: 평점 합계)
 @Getter
 @AllArgsConstructor
 @Builder
@@ -22,6 +25,10 @@ public class EvaluationNumber {
     @Column(name = "average_rating")
     private Integer averageRating;
 
+    @Builder.Default
+    @Column(name = "rating_sum", columnDefinition = "decimal(12,1) default 0")
+    private BigDecimal ratingSum= BigDecimal.ZERO;
+
     @Column(name = "sweetness")
     private Integer sweetness;
 
@@ -52,6 +59,14 @@ public class EvaluationNumber {
         }
     }
 
+    public void addRatingSum(double delta){
+        this.ratingSum= this.ratingSum.add(BigDecimal.valueOf(delta));
+    }
+
+    public Double getRatingAverage(){
+        return average(this.ratingSum, this.averageRating);
+    }
+
 
     public void updateFlavor(FlavorType fType, CalculationType cType){
         switch (fType){
@@ -101,4 +116,11 @@ public class EvaluationNumber {
                 return 1;
         }
     }
+
+
+    //소수점 첫째 자리 반올림, 조회 시점에만 반올림
+    public static Double average(BigDecimal sum, Integer number){
+        if(number==null || number==0) return 0.0;
+        return sum.divide(BigDecimal.valueOf(number), 1, RoundingMode.HALF_UP).doubleValue();
+    }
 }
@@ -67,6 +67,14 @@ public class Liquor {
     @Column(name = "site_url")
     private String siteUrl;
 
+    @Builder.Default
+    @Column(name = "review_number", nullable = false, columnDefinition = "int default 0")
+    private Integer reviewNumber= 0;
+
+    //구글 시트 행 hash (바뀐 행만 import)
+    @Column(name = "source_hash", length = 44)
+    private String sourceHash;
+
 
 
     public void updateAverageRating(Double averageRating){
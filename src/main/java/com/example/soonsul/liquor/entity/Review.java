@@ -14,7 +14,9 @@ import java.util.List;
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="review")
+@Table(name="review", indexes = {
+        @Index(name = "idx_review_liquor_id", columnList = "liquor_id, review_id"),
+        @Index(name = "idx_review_liquor_rating", columnList = "liquor_id, liquor_rating, review_id")})
 public class Review {
 
     @Id
@@ -31,6 +33,14 @@ public class Review {
     @Column(name = "liquor_rating", nullable = false)
     private Double liquorRating;
 
+    @Builder.Default
+    @Column(name = "good_number", nullable = false, columnDefinition = "int default 0")
+    private Integer goodNumber= 0;
+
+    @Builder.Default
+    @Column(name = "comment_number", nullable = false, columnDefinition = "int default 0")
+    private Integer commentNumber= 0;      //대댓글 포함
+
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="liquor_id")
@@ -0,0 +1,62 @@
+package com.example.soonsul.liquor.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ClickRankingRepository {
+    private static final String KEY_PREFIX= "click:week:";
+    private static final Duration EXPIRE= Duration.ofDays(14);     //지난주 랭킹까지 보관
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+
+    //배치 단위로 모은 클릭수를 한번의 파이프라인으로 반영
+    public void increaseAll(Map<String, Long> countMap){
+        if(countMap.isEmpty()) return;
+        final byte[] key= weekKey(LocalDate.now()).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            countMap.forEach((liquorId, count) ->
+                    connection.zSetCommands().zIncrBy(key, count, liquorId.getBytes(StandardCharsets.UTF_8)));
+            connection.keyCommands().expire(key, EXPIRE.getSeconds());
+            return null;
+        });
+    }
+
+
+    public List<String> findTopLiquorIds(int size){
+        return findTopLiquorIds(size, LocalDate.now());
+    }
+
+    //월요일 0시에 새 주차 key로 바뀌므로 이번주 클릭이 쌓이기 전까지는 지난주 랭킹 사용
+    public List<String> findTopLiquorIds(int size, LocalDate date){
+        final List<String> ids= findTop(weekKey(date), size);
+        if(!ids.isEmpty()) return ids;
+        return findTop(weekKey(date.minusWeeks(1)), size);
+    }
+
+    private List<String> findTop(String key, int size){
+        final Set<String> ids= stringRedisTemplate.opsForZSet().reverseRange(key, 0, size- 1);
+        if(ids==null) return new ArrayList<>();
+        return new ArrayList<>(ids);
+    }
+
+
+    //ISO 주차 단위 key (ex. click:week:2023-W27)
+    public static String weekKey(LocalDate date){
+        return KEY_PREFIX+ date.get(IsoFields.WEEK_BASED_YEAR)
+                + "-W"+ String.format("%02d", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
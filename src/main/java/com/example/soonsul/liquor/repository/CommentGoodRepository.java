@@ -10,5 +10,5 @@ import org.springframework.stereotype.Repository;
 public interface CommentGoodRepository extends JpaRepository<CommentGood, Long> {
     Integer countByComment(Comment comment);
     boolean existsByCommentAndUser(Comment comment, User user);
-    void deleteByCommentAndUser(Comment comment, User user);
+    Long deleteByCommentAndUser(Comment comment, User user);
 }
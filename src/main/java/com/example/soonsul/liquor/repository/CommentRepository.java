@@ -3,9 +3,10 @@ package com.example.soonsul.liquor.repository;
 import com.example.soonsul.liquor.entity.Comment;
 import com.example.soonsul.liquor.entity.Review;
 import io.lettuce.core.dynamic.annotation.Param;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -15,13 +16,20 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Integer countByReview(Review review);
-    void deleteAllByUpperCommentId(Long upperCommentId);
+    Long deleteAllByUpperCommentId(Long upperCommentId);
 
     @Query(nativeQuery = true,
             value="SELECT * FROM comment c WHERE c.review_id = :reviewId" +
                     " AND c.comment_id = c.upper_comment_id" +
                     " ORDER BY c.comment_id DESC")
-    Page<Comment> findAllByLatest(Pageable pageable, @Param("reviewId") Long reviewId);
+    Slice<Comment> findAllByLatest(Pageable pageable, @Param("reviewId") Long reviewId);
+
+    @Query(nativeQuery = true,
+            value="SELECT * FROM comment c WHERE c.review_id = :reviewId" +
+                    " AND c.comment_id = c.upper_comment_id" +
+                    " AND c.comment_id < :after" +
+                    " ORDER BY c.comment_id DESC")
+    Slice<Comment> findAllByLatestAfter(Pageable pageable, @Param("reviewId") Long reviewId, @Param("after") Long after);
 
     @Query(nativeQuery = true,
             value="SELECT * FROM comment c WHERE c.upper_comment_id = :upperCommentId" +
@@ -34,7 +42,44 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             value="SELECT * FROM comment c WHERE c.upper_comment_id = :upperCommentId" +
                     " AND c.comment_id <> :upperCommentId" +
                     " ORDER BY c.comment_id DESC")
-    Page<Comment> findByUpperComment(Pageable pageable, @Param("upperCommentId") Long upperCommentId);
+    Slice<Comment> findByUpperComment(Pageable pageable, @Param("upperCommentId") Long upperCommentId);
 
-    List<Comment> findAllByUpperCommentId(Long upperCommentId);
+    @Query(nativeQuery = true,
+            value="SELECT * FROM comment c WHERE c.upper_comment_id = :upperCommentId" +
+                    " AND c.comment_id <> :upperCommentId" +
+                    " AND c.comment_id < :after" +
+                    " ORDER BY c.comment_id DESC")
+    Slice<Comment> findByUpperCommentAfter(Pageable pageable, @Param("upperCommentId") Long upperCommentId, @Param("after") Long after);
+
+    //댓글 자신 포함
+    @Query("SELECT c.commentId FROM Comment c WHERE c.upperCommentId = :upperCommentId")
+    List<Long> findIdsByUpperCommentId(@Param("upperCommentId") Long upperCommentId);
+
+    //대댓글 포함
+    @Query("SELECT c.commentId FROM Comment c WHERE c.review.reviewId = :reviewId")
+    List<Long> findIdsByReviewId(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.goodNumber = c.goodNumber + :delta WHERE c.commentId = :commentId")
+    void updateGoodNumber(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.reCommentNumber = c.reCommentNumber + :delta WHERE c.commentId = :commentId")
+    void updateReCommentNumber(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE comment c SET c.good_number =" +
+                    " (SELECT COUNT(*) FROM comment_good g WHERE g.comment_id = c.comment_id)")
+    int reconcileGoodNumber();
+
+    //MySQL은 같은 테이블 서브쿼리 UPDATE 불가-> 집계 결과를 derived table로 join
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE comment c LEFT JOIN" +
+                    " (SELECT r.upper_comment_id, COUNT(*) AS cnt FROM comment r" +
+                    " WHERE r.comment_id <> r.upper_comment_id GROUP BY r.upper_comment_id) s" +
+                    " ON s.upper_comment_id = c.comment_id" +
+                    " SET c.re_comment_number = COALESCE(s.cnt, 0)")
+    int reconcileReCommentNumber();
 }
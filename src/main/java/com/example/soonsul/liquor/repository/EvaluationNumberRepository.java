@@ -1,9 +1,39 @@
 package com.example.soonsul.liquor.repository;
 
 import com.example.soonsul.liquor.entity.EvaluationNumber;
+import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Optional;
+
 @Repository
 public interface EvaluationNumberRepository extends JpaRepository<EvaluationNumber, String> {
+
+    //전통주 단위 락 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "3000")})
+    @Query("SELECT n FROM EvaluationNumber n WHERE n.liquorId = :liquorId")
+    Optional<EvaluationNumber> findByIdForUpdate(@Param("liquorId") String liquorId);
+
+    //COUNT(컬럼)은 NULL 제외-> 항목별 평가 인원수
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE evaluation_number n LEFT JOIN" +
+                    " (SELECT p.liquor_id, COUNT(p.liquor_personal_rating) AS rating, SUM(p.liquor_personal_rating) AS rating_sum," +
+                    " COUNT(p.sweetness) AS sweetness, COUNT(p.acidity) AS acidity, COUNT(p.carbonic_acid) AS carbonic_acid," +
+                    " COUNT(p.heavy) AS heavy, COUNT(p.scent) AS scent, COUNT(p.density) AS density" +
+                    " FROM personal_evaluation p GROUP BY p.liquor_id) s" +
+                    " ON s.liquor_id = n.liquor_id" +
+                    " SET n.average_rating = COALESCE(s.rating, 0), n.rating_sum = COALESCE(s.rating_sum, 0)," +
+                    " n.sweetness = COALESCE(s.sweetness, 0), n.acidity = COALESCE(s.acidity, 0)," +
+                    " n.carbonic_acid = COALESCE(s.carbonic_acid, 0), n.heavy = COALESCE(s.heavy, 0)," +
+                    " n.scent = COALESCE(s.scent, 0), n.density = COALESCE(s.density, 0)")
+    int reconcileNumber();
 }
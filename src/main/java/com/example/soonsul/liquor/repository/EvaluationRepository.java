@@ -2,8 +2,22 @@ package com.example.soonsul.liquor.repository;
 
 import com.example.soonsul.liquor.entity.Evaluation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EvaluationRepository extends JpaRepository<Evaluation, String> {
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE evaluation e LEFT JOIN" +
+                    " (SELECT p.liquor_id, SUM(p.sweetness) AS sweetness, SUM(p.acidity) AS acidity," +
+                    " SUM(p.carbonic_acid) AS carbonic_acid, SUM(p.heavy) AS heavy, SUM(p.scent) AS scent, SUM(p.density) AS density" +
+                    " FROM personal_evaluation p GROUP BY p.liquor_id) s" +
+                    " ON s.liquor_id = e.evaluation_id" +
+                    " SET e.sweetness_sum = COALESCE(s.sweetness, 0), e.acidity_sum = COALESCE(s.acidity, 0)," +
+                    " e.carbonic_acid_sum = COALESCE(s.carbonic_acid, 0), e.heavy_sum = COALESCE(s.heavy, 0)," +
+                    " e.scent_sum = COALESCE(s.scent, 0), e.density_sum = COALESCE(s.density, 0)")
+    int reconcileFlavorSum();
 }
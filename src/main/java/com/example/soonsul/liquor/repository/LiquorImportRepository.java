@@ -0,0 +1,81 @@
+package com.example.soonsul.liquor.repository;
+
+import com.example.soonsul.manager.dto.LiquorSheetRow;
+import com.example.soonsul.manager.dto.StoredLiquor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//구글 시트 import 전용, 바뀐 행만 JDBC batch로 저장 (rewriteBatchedStatements로 multi-row 실행)
+@Repository
+@RequiredArgsConstructor
+public class LiquorImportRepository {
+    private static final String INSERT_LIQUOR= "INSERT INTO liquor (liquor_id, name, ingredient, average_rating, lowest_price, alcohol, capacity, " +
+            "view_count, region, image_url, liquor_category, brewery, location, latitude, longitude, sale_place, phone_number, site_url, " +
+            "review_number, source_hash) VALUES (?, ?, ?, 0, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final String UPDATE_LIQUOR= "UPDATE liquor SET name = ?, ingredient = ?, lowest_price = ?, alcohol = ?, capacity = ?, " +
+            "region = ?, image_url = ?, liquor_category = ?, brewery = ?, location = ?, latitude = ?, longitude = ?, sale_place = ?, " +
+            "phone_number = ?, site_url = ?, source_hash = ? WHERE liquor_id = ?";
+    private static final String INSERT_EVALUATION= "INSERT IGNORE INTO evaluation (evaluation_id, sweetness_sum, acidity_sum, " +
+            "carbonic_acid_sum, heavy_sum, scent_sum, density_sum) VALUES (?, 0, 0, 0, 0, 0, 0)";
+    private static final String INSERT_EVALUATION_NUMBER= "INSERT IGNORE INTO evaluation_number (liquor_id, average_rating, rating_sum, " +
+            "sweetness, acidity, carbonic_acid, heavy, scent, density) VALUES (?, 0, 0, 0, 0, 0, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public Map<String, StoredLiquor> findAllStored(){
+        final Map<String, StoredLiquor> map= new HashMap<>();
+        jdbcTemplate.query("SELECT liquor_id, source_hash, location, latitude, longitude FROM liquor", rs -> {
+            map.put(rs.getString(1), new StoredLiquor(rs.getString(1), rs.getString(2), rs.getString(3),
+                    rs.getObject(4, Double.class), rs.getObject(5, Double.class)));
+        });
+        return map;
+    }
+
+
+    //청크 하나가 트랜잭션 하나 (import 전체가 lock을 오래 잡지 않도록)
+    @Transactional
+    public void saveAll(List<LiquorSheetRow> inserts, List<LiquorSheetRow> updates){
+        if(!inserts.isEmpty()){
+            final List<Object[]> liquors= new ArrayList<>();
+            final List<Object[]> ids= new ArrayList<>();
+            for(LiquorSheetRow r: inserts){
+                liquors.add(new Object[]{r.getLiquorId(), r.getName(), r.getIngredient(), r.getLowestPrice(), r.getAlcohol(),
+                        r.getCapacity(), r.getRegion(), r.getImageUrl(), r.getLiquorCategory(), r.getBrewery(), r.getLocation(),
+                        r.getLatitude(), r.getLongitude(), r.getSalePlace(), r.getPhoneNumber(), r.getSiteUrl(), r.getHash()});
+                ids.add(new Object[]{r.getLiquorId()});
+            }
+            jdbcTemplate.batchUpdate(INSERT_LIQUOR, liquors);
+            jdbcTemplate.batchUpdate(INSERT_EVALUATION, ids);
+            jdbcTemplate.batchUpdate(INSERT_EVALUATION_NUMBER, ids);
+        }
+
+        if(!updates.isEmpty()){
+            final List<Object[]> liquors= new ArrayList<>();
+            final List<Object[]> ids= new ArrayList<>();
+            for(LiquorSheetRow r: updates){
+                liquors.add(new Object[]{r.getName(), r.getIngredient(), r.getLowestPrice(), r.getAlcohol(), r.getCapacity(),
+                        r.getRegion(), r.getImageUrl(), r.getLiquorCategory(), r.getBrewery(), r.getLocation(), r.getLatitude(), r.getLongitude(),
+                        r.getSalePlace(), r.getPhoneNumber(), r.getSiteUrl(), r.getHash(), r.getLiquorId()});
+                ids.add(new Object[]{r.getLiquorId()});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_LIQUOR, liquors);
+            jdbcTemplate.batchUpdate("DELETE FROM prize WHERE liquor_id = ?", ids);
+        }
+
+        final List<Object[]> prizes= new ArrayList<>();
+        for(List<LiquorSheetRow> rows: List.of(inserts, updates)){
+            for(LiquorSheetRow r: rows){
+                for(String name: r.getPrizeList()) prizes.add(new Object[]{name, r.getLiquorId()});
+            }
+        }
+        if(!prizes.isEmpty()) jdbcTemplate.batchUpdate("INSERT INTO prize (name, liquor_id) VALUES (?, ?)", prizes);
+    }
+}
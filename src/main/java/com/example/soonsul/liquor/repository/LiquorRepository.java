@@ -5,16 +5,14 @@ import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface LiquorRepository extends JpaRepository<Liquor, String> {
-    Optional<Liquor> findByName(String name);
-
     @Query(nativeQuery = true,
             value="SELECT l.name FROM liquor l")
     List<String> findAllName();
@@ -23,8 +21,20 @@ public interface LiquorRepository extends JpaRepository<Liquor, String> {
             value="SELECT l.liquor_id FROM liquor l")
     List<String> findAllId();
 
+    @Modifying
+    @Query("UPDATE Liquor l SET l.reviewNumber = l.reviewNumber + :delta WHERE l.liquorId = :liquorId")
+    void updateReviewNumber(@Param("liquorId") String liquorId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE liquor l SET l.review_number =" +
+                    " (SELECT COUNT(*) FROM review r WHERE r.liquor_id = l.liquor_id)")
+    int reconcileReviewNumber();
+
+    @Modifying
     @Query(nativeQuery = true,
-            value="SELECT * FROM liquor l WHERE l.name like %:name% order by l.name")
-    List<Liquor> findSearch(@Param("name") String name);
+            value="UPDATE liquor l JOIN evaluation_number n ON n.liquor_id = l.liquor_id" +
+                    " SET l.average_rating = IF(n.average_rating = 0, 0, ROUND(n.rating_sum / n.average_rating, 1))")
+    int reconcileAverageRating();
 
 }
@@ -0,0 +1,118 @@
+package com.example.soonsul.liquor.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+//지역별 최근 24시간 클릭수 (click:region:{지역코드} = 최근 24개 버킷 합계, click:region:{지역코드}:{yyyyMMddHH} = 시간 버킷)
+@Repository
+@RequiredArgsConstructor
+public class RegionClickRankingRepository {
+    private static final String KEY_PREFIX= "click:region:";
+    private static final String REGION_SET= "click:region-codes";
+    private static final int WINDOW_HOURS= 24;
+    private static final Duration BUCKET_EXPIRE= Duration.ofHours(WINDOW_HOURS+ 3);
+    private static final DateTimeFormatter HOUR= DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+
+    //key: 지역코드, value: (전통주 id, 클릭수)
+    public void increaseAll(Map<String, Map<String, Long>> regionCountMap){
+        if(regionCountMap.isEmpty()) return;
+        final String hour= LocalDateTime.now().format(HOUR);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            regionCountMap.forEach((region, countMap) -> {
+                final byte[] key= bytes(liveKey(region));
+                final byte[] bucket= bytes(bucketKey(region, hour));
+                countMap.forEach((liquorId, count) -> {
+                    connection.zSetCommands().zIncrBy(key, count, bytes(liquorId));
+                    connection.zSetCommands().zIncrBy(bucket, count, bytes(liquorId));
+                });
+                connection.keyCommands().expire(key, BUCKET_EXPIRE.getSeconds());
+                connection.keyCommands().expire(bucket, BUCKET_EXPIRE.getSeconds());
+                connection.setCommands().sAdd(bytes(REGION_SET), bytes(region));
+            });
+            return null;
+        });
+    }
+
+
+    //누적값을 빼는 대신 최근 24개 버킷을 ZUNIONSTORE로 다시 합산 (명령 하나라 원자적)
+    //서버마다 실행되거나 실행을 놓쳐도 결과가 같고, 만료된 버킷은 합산에서 빠짐
+    public void rebuildLive(LocalDateTime now){
+        final Set<String> regions= stringRedisTemplate.opsForSet().members(REGION_SET);
+        if(regions==null) return;
+
+        final ZSetOperations<String, String> zSet= stringRedisTemplate.opsForZSet();
+        for(String region: regions){
+            final List<String> buckets= new ArrayList<>();
+            for(int h=1; h< WINDOW_HOURS; h++) buckets.add(bucketKey(region, now.minusHours(h).format(HOUR)));
+
+            final String key= liveKey(region);
+            zSet.unionAndStore(bucketKey(region, now.format(HOUR)), buckets, key);
+            stringRedisTemplate.expire(key, BUCKET_EXPIRE);
+        }
+    }
+
+
+    //지역별 상위 size개 (전체 상위 size개는 지역별 상위 size개 안에 있음)
+    public Map<String, Integer> findTop(List<String> regions, int size){
+        final Map<String, Integer> result= new HashMap<>();
+        for(String region: regions){
+            final Set<ZSetOperations.TypedTuple<String>> tuples=
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(liveKey(region), 0, size- 1);
+            if(tuples==null) continue;
+            for(ZSetOperations.TypedTuple<String> t: tuples){
+                if(t.getValue()==null || t.getScore()==null) continue;
+                result.put(t.getValue(), t.getScore().intValue());
+            }
+        }
+        return result;
+    }
+
+
+    //key: 전통주 id, value: 지역코드
+    public Map<String, Integer> findClickNumbers(Map<String, String> regionMap){
+        final List<String> liquorIds= new ArrayList<>();
+        regionMap.forEach((liquorId, region) -> {
+            if(region!=null) liquorIds.add(liquorId);
+        });
+        if(liquorIds.isEmpty()) return new HashMap<>();
+
+        final List<Object> scores= stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(String liquorId: liquorIds){
+                connection.zSetCommands().zScore(bytes(liveKey(regionMap.get(liquorId))), bytes(liquorId));
+            }
+            return null;
+        });
+
+        final Map<String, Integer> result= new HashMap<>();
+        for(int i=0; i<liquorIds.size(); i++){
+            final Object score= scores.get(i);
+            if(score!=null) result.put(liquorIds.get(i), ((Double) score).intValue());
+        }
+        return result;
+    }
+
+
+    private static String liveKey(String region){
+        return KEY_PREFIX+ region;
+    }
+
+    private static String bucketKey(String region, String hour){
+        return KEY_PREFIX+ region+ ":"+ hour;
+    }
+
+    private static byte[] bytes(String value){
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,9 +3,12 @@ package com.example.soonsul.liquor.repository;
 import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.liquor.entity.ReviewGood;
 import com.example.soonsul.user.entity.User;
+import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +17,11 @@ public interface ReviewGoodRepository extends JpaRepository<ReviewGood, Long> {
     boolean existsByReviewAndUser(Review review, User user);
     void deleteByReviewAndUser(Review review, User user);
     Optional<ReviewGood> findByReviewAndUser(Review review, User user);
+
+    @Query("SELECT rg.review.reviewId FROM ReviewGood rg" +
+            " WHERE rg.user = :user AND rg.review.reviewId IN :reviewIds")
+    List<Long> findReviewIdsByUser(@Param("user") User user, @Param("reviewIds") List<Long> reviewIds);
+
+    @Query("SELECT rg.reviewGoodId FROM ReviewGood rg WHERE rg.review.reviewId = :reviewId")
+    List<Long> findIdsByReviewId(@Param("reviewId") Long reviewId);
 }
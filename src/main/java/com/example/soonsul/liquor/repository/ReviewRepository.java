@@ -4,9 +4,10 @@ import com.example.soonsul.liquor.entity.Liquor;
 import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,15 +18,50 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query(nativeQuery = true,
             value="SELECT * FROM review r WHERE r.liquor_id = :liquorId" +
                     " ORDER BY r.review_id DESC")
-    Page<Review> findAllByLatest(Pageable pageable, @Param("liquorId") String liquorId);
+    Slice<Review> findAllByLatest(Pageable pageable, @Param("liquorId") String liquorId);
 
     @Query(nativeQuery = true,
             value="SELECT * FROM review r WHERE r.liquor_id = :liquorId" +
+                    " AND r.review_id < :after" +
+                    " ORDER BY r.review_id DESC")
+    Slice<Review> findAllByLatestAfter(Pageable pageable, @Param("liquorId") String liquorId, @Param("after") Long after);
+
+    @Query(nativeQuery = true,
+            value="SELECT * FROM review r WHERE r.liquor_id = :liquorId" +
+                    " ORDER BY r.liquor_rating DESC, r.review_id DESC")
+    Slice<Review> findAllByRating(Pageable pageable, @Param("liquorId") String liquorId);
+
+    //(평점, id) 기준으로 커서 다음부터, 커서 값은 클라이언트가 마지막으로 받은 리뷰의 값
+    @Query(nativeQuery = true,
+            value="SELECT * FROM review r WHERE r.liquor_id = :liquorId" +
+                    " AND (r.liquor_rating < :afterRating" +
+                    " OR (r.liquor_rating = :afterRating AND r.review_id < :after))" +
                     " ORDER BY r.liquor_rating DESC, r.review_id DESC")
-    Page<Review> findAllByRating(Pageable pageable, @Param("liquorId") String liquorId);
+    Slice<Review> findAllByRatingAfter(Pageable pageable, @Param("liquorId") String liquorId,
+                                       @Param("afterRating") Double afterRating, @Param("after") Long after);
 
     Integer countByUser(User user);
     Optional<Review> findByUserAndLiquor(User user, Liquor liquor);
     Integer countByLiquor(Liquor liquor);
     void deleteByUserAndLiquor(User user, Liquor liquor);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.goodNumber = r.goodNumber + :delta WHERE r.reviewId = :reviewId")
+    void updateGoodNumber(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.commentNumber = r.commentNumber + :delta WHERE r.reviewId = :reviewId")
+    void updateCommentNumber(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE review r SET r.good_number =" +
+                    " (SELECT COUNT(*) FROM review_good g WHERE g.review_id = r.review_id)")
+    int reconcileGoodNumber();
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE review r SET r.comment_number =" +
+                    " (SELECT COUNT(*) FROM comment c WHERE c.review_id = r.review_id)")
+    int reconcileCommentNumber();
 }
@@ -0,0 +1,132 @@
+package com.example.soonsul.liquor.service;
+
+import com.example.soonsul.liquor.dto.ClickEvent;
+import com.example.soonsul.liquor.entity.FilteringClick;
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.ClickRankingRepository;
+import com.example.soonsul.liquor.repository.FilteringClickRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.liquor.repository.RegionClickRankingRepository;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+//클릭 write-behind: 요청은 큐에 넣고 바로 반환, 1초마다 모아서 저장
+@Slf4j
+@Service
+public class ClickBatchService {
+    private static final int CAPACITY= 10000;
+    private static final int BATCH_SIZE= 500;
+
+    private final ClickRankingRepository clickRankingRepository;
+    private final RegionClickRankingRepository regionClickRankingRepository;
+    private final FilteringClickRepository filteringClickRepository;
+    private final LiquorRepository liquorRepository;
+    private final UserRepository userRepository;
+
+    private final BlockingQueue<ClickEvent> queue= new ArrayBlockingQueue<>(CAPACITY);
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+
+
+    public ClickBatchService(ClickRankingRepository clickRankingRepository, RegionClickRankingRepository regionClickRankingRepository,
+                             FilteringClickRepository filteringClickRepository, LiquorRepository liquorRepository,
+                             UserRepository userRepository, MeterRegistry meterRegistry){
+        this.clickRankingRepository= clickRankingRepository;
+        this.regionClickRankingRepository= regionClickRankingRepository;
+        this.filteringClickRepository= filteringClickRepository;
+        this.liquorRepository= liquorRepository;
+        this.userRepository= userRepository;
+        meterRegistry.gauge("click.queue.size", queue, BlockingQueue::size);
+        this.droppedCounter= meterRegistry.counter("click.dropped");
+        this.flushedCounter= meterRegistry.counter("click.flushed");
+    }
+
+
+    //큐가 가득 차면 버림 (클릭 통계는 유실 허용, 요청은 막지 않음)
+    public void enqueue(ClickEvent event){
+        if(!queue.offer(event)) droppedCounter.increment();
+    }
+
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush(){
+        final List<ClickEvent> batch= new ArrayList<>(BATCH_SIZE);
+        while(queue.drainTo(batch, BATCH_SIZE) > 0){
+            try{
+                save(batch);
+                flushedCounter.increment(batch.size());
+            }catch (RuntimeException e){
+                log.error("click flush failed: size={}", batch.size(), e);
+                droppedCounter.increment(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+
+    //지역 클릭은 최근 24시간만 집계 (매시 정각에 최근 버킷으로 다시 합산)
+    @Scheduled(cron = "0 0 * * * *")
+    public void rebuildLiveRegionClicks(){
+        regionClickRankingRepository.rebuildLive(LocalDateTime.now());
+    }
+
+
+    //종료 시 남은 이벤트 저장
+    @PreDestroy
+    public void shutdown(){
+        flush();
+    }
+
+
+    private void save(List<ClickEvent> batch){
+        final Map<String, Long> countMap= batch.stream()
+                .collect(Collectors.groupingBy(ClickEvent::getLiquorId, Collectors.counting()));
+        final Map<String, Liquor> liquorMap= liquorRepository.findAllById(countMap.keySet())
+                .stream()
+                .collect(Collectors.toMap(Liquor::getLiquorId, l -> l));
+        final Set<String> userIds= batch.stream()
+                .map(ClickEvent::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<String, User> userMap= userRepository.findAllById(userIds)
+                .stream()
+                .collect(Collectors.toMap(User::getUserId, u -> u));
+
+        countMap.keySet().retainAll(liquorMap.keySet());
+        clickRankingRepository.increaseAll(countMap);
+
+        final Map<String, Map<String, Long>> regionCountMap= new HashMap<>();
+        countMap.forEach((liquorId, count) -> {
+            final String region= liquorMap.get(liquorId).getRegion();
+            if(region!=null) regionCountMap.computeIfAbsent(region, r -> new HashMap<>()).put(liquorId, count);
+        });
+        regionClickRankingRepository.increaseAll(regionCountMap);
+
+        final List<FilteringClick> filteringClicks= new ArrayList<>();
+        for(ClickEvent e: batch){
+            final Liquor liquor= liquorMap.get(e.getLiquorId());
+            if(liquor==null) continue;
+
+            final User user= userMap.get(e.getUserId());
+            if(user==null) continue;
+            filteringClicks.add(FilteringClick.builder()
+                    .age(user.getAge())
+                    .gender(user.getGender())
+                    .liquorId(liquor.getLiquorId())
+                    .build());
+        }
+        filteringClickRepository.saveAll(filteringClicks);
+    }
+}
@@ -7,11 +7,16 @@ import com.example.soonsul.liquor.entity.Comment;
 import com.example.soonsul.liquor.entity.CommentGood;
 import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.liquor.repository.*;
+import com.example.soonsul.notification.NotificationOutboxService;
+import com.example.soonsul.notification.NotificationRepository;
 import com.example.soonsul.notification.dto.PushNotification;
+import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.entity.Notifications;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +25,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -30,12 +36,17 @@ public class CommentService {
     private final LiquorUtil liquorUtil;
     private final CommentRepository commentRepository;
     private final CommentGoodRepository commentGoodRepository;
+    private final ReviewRepository reviewRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationRepository notificationRepository;
 
 
     @Transactional(readOnly = true)
-    public List<CommentDto> getCommentList(Pageable pageable, Long reviewId){
+    public List<CommentDto> getCommentList(Pageable pageable, Long reviewId, Long after){
         final User user= userUtil.getUserByAuthentication();
-        final List<Comment> commentList= commentRepository.findAllByLatest(pageable, reviewId).toList();
+        final List<Comment> commentList= (after==null)
+                ? commentRepository.findAllByLatest(pageable, reviewId).toList()
+                : commentRepository.findAllByLatestAfter(PageRequest.of(0, pageable.getPageSize()), reviewId, after).toList();
         final List<CommentDto> result= new ArrayList<>();
 
         for(Comment c: commentList){
@@ -50,7 +61,7 @@ public class CommentService {
                         .upperCommentNickname(c.getUser().getNickname())
                         .content(rc.getContent())
                         .createdDate(dateConversion(rc.getCreatedDate()))
-                        .good(commentGoodRepository.countByComment(rc))
+                        .good(rc.getGoodNumber())
                         .flagMySelf(Objects.equals(rc.getUser().getUserId(), user.getUserId()))
                         .flagGood(commentGoodRepository.existsByCommentAndUser(rc, user))
                         .build();
@@ -65,9 +76,9 @@ public class CommentService {
                     .commentId(c.getCommentId())
                     .content(c.getContent())
                     .createdDate(dateConversion(c.getCreatedDate()))
-                    .good(commentGoodRepository.countByComment(c))
+                    .good(c.getGoodNumber())
                     .reCommentList(reCommentList)
-                    .reCommentNumber(commentRepository.findAllByUpperCommentId(c.getCommentId()).size()-1)
+                    .reCommentNumber(c.getReCommentNumber())
                     .flagMySelf(Objects.equals(c.getUser().getUserId(), user.getUserId()))
                     .flagGood(commentGoodRepository.existsByCommentAndUser(c, user))
                     .build();
@@ -78,11 +89,13 @@ public class CommentService {
 
 
     @Transactional(readOnly = true)
-    public List<ReCommentDto> getReCommentList(Pageable pageable, Long commentId){
+    public List<ReCommentDto> getReCommentList(Pageable pageable, Long commentId, Long after){
         final User user= userUtil.getUserByAuthentication();
         final Comment c= liquorUtil.getComment(commentId);
 
-        final List<Comment> reCommentList= commentRepository.findByUpperComment(pageable, commentId).toList();
+        final List<Comment> reCommentList= (after==null)
+                ? commentRepository.findByUpperComment(pageable, commentId).toList()
+                : commentRepository.findByUpperCommentAfter(PageRequest.of(0, pageable.getPageSize()), commentId, after).toList();
         final List<ReCommentDto> result= new ArrayList<>();
 
         for(Comment rc: reCommentList){
@@ -94,7 +107,7 @@ public class CommentService {
                     .upperCommentNickname(c.getUser().getNickname())
                     .content(rc.getContent())
                     .createdDate(dateConversion(rc.getCreatedDate()))
-                    .good(commentGoodRepository.countByComment(rc))
+                    .good(rc.getGoodNumber())
                     .flagMySelf(Objects.equals(rc.getUser().getUserId(), user.getUserId()))
                     .flagGood(commentGoodRepository.existsByCommentAndUser(rc, user))
                     .build();
@@ -105,7 +118,7 @@ public class CommentService {
 
 
     @Transactional
-    public PushNotification postComment(Long reviewId, CommentRequest request){
+    public void postComment(Long reviewId, CommentRequest request){
         final User user= userUtil.getUserByAuthentication();
         final Review review= liquorUtil.getReview(reviewId);
 
@@ -118,11 +131,14 @@ public class CommentService {
                 .build();
         final Comment savedComment= commentRepository.save(comment);
         savedComment.updateUpperCommentId(savedComment.getCommentId());
+        reviewRepository.updateCommentNumber(reviewId, 1);
 
-        return PushNotification.builder()
+        notificationOutboxService.enqueue(NotificationType.COMMENT, PushNotification.builder()
                 .objectId(savedComment.getCommentId())
                 .receiveUser(review.getUser())
-                .build();
+                .targetId(savedComment.getCommentId())
+                .excerpt(savedComment.getContent())
+                .build());
     }
 
 
@@ -130,20 +146,24 @@ public class CommentService {
     public void putComment(Long commentId, CommentRequest request){
         final Comment comment= liquorUtil.getComment(commentId);
 
-        if(!comment.getContent().equals(request.getContent()))
+        if(!comment.getContent().equals(request.getContent())){
             comment.updateContent(request.getContent());
+            notificationRepository.updateExcerpt(Arrays.asList(NotificationType.COMMENT.name(), NotificationType.RECOMMENT.name()),
+                    commentId, Notifications.excerpt(request.getContent()));
+        }
     }
 
 
     @Transactional
     public void deleteComment(Long commentId){
-        commentRepository.deleteAllByUpperCommentId(commentId);
-        commentRepository.findById(commentId);
+        final Long reviewId= liquorUtil.getComment(commentId).getReview().getReviewId();
+        final Long deleteNumber= commentRepository.deleteAllByUpperCommentId(commentId);      //대댓글 포함
+        reviewRepository.updateCommentNumber(reviewId, -deleteNumber.intValue());
     }
 
 
     @Transactional
-    public PushNotification postReComment(Long upperCommentId, CommentRequest request){
+    public void postReComment(Long upperCommentId, CommentRequest request){
         final User user= userUtil.getUserByAuthentication();
         final Comment upperComment= liquorUtil.getComment(upperCommentId);
 
@@ -154,16 +174,24 @@ public class CommentService {
                 .review(upperComment.getReview())
                 .upperCommentId(upperComment.getCommentId())
                 .build();
+        final Comment savedComment= commentRepository.save(comment);
+        reviewRepository.updateCommentNumber(upperComment.getReview().getReviewId(), 1);
+        commentRepository.updateReCommentNumber(upperCommentId, 1);
 
-        return PushNotification.builder()
-                .objectId(commentRepository.save(comment).getCommentId())
+        notificationOutboxService.enqueue(NotificationType.RECOMMENT, PushNotification.builder()
+                .objectId(savedComment.getCommentId())
                 .receiveUser(upperComment.getUser())
-                .build();
+                .targetId(savedComment.getCommentId())
+                .excerpt(savedComment.getContent())
+                .build());
     }
 
 
     @Transactional
     public void deleteReComment(Long commentId){
+        final Comment reComment= liquorUtil.getComment(commentId);
+        reviewRepository.updateCommentNumber(reComment.getReview().getReviewId(), -1);
+        commentRepository.updateReCommentNumber(reComment.getUpperCommentId(), -1);
         commentRepository.deleteById(commentId);
     }
 
@@ -178,6 +206,7 @@ public class CommentService {
                 .user(user)
                 .build();
         commentGoodRepository.save(good);
+        commentRepository.updateGoodNumber(commentId, 1);
     }
 
 
@@ -186,14 +215,15 @@ public class CommentService {
         final User user= userUtil.getUserByAuthentication();
         final Comment comment= liquorUtil.getComment(commentId);
 
-        commentGoodRepository.deleteByCommentAndUser(comment, user);
+        final Long deleteNumber= commentGoodRepository.deleteByCommentAndUser(comment, user);
+        commentRepository.updateGoodNumber(commentId, -deleteNumber.intValue());
     }
 
 
     @Transactional(readOnly = true)
     public Integer getCommentLike(Long commentId){
         final Comment comment= liquorUtil.getComment(commentId);
-        return commentGoodRepository.countByComment(comment);
+        return comment.getGoodNumber();
     }
 
 
@@ -0,0 +1,52 @@
+package com.example.soonsul.liquor.service;
+
+import com.example.soonsul.cache.CacheKey;
+import com.example.soonsul.liquor.repository.CommentRepository;
+import com.example.soonsul.liquor.repository.EvaluationNumberRepository;
+import com.example.soonsul.liquor.repository.EvaluationRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.liquor.repository.ReviewRepository;
+import com.example.soonsul.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+//좋아요수, 댓글수, 리뷰수 카운터 컬럼과 평가 합계/인원수를 실제 row 기준으로 재계산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+    private final ReviewRepository reviewRepository;
+    private final CommentRepository commentRepository;
+    private final LiquorRepository liquorRepository;
+    private final UserRepository userRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final EvaluationNumberRepository evaluationNumberRepository;
+
+
+    @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
+    public void reconcileCounters(){
+        final int review= reviewRepository.reconcileGoodNumber();
+        reviewRepository.reconcileCommentNumber();
+        final int comment= commentRepository.reconcileGoodNumber();
+        commentRepository.reconcileReCommentNumber();
+        final int liquor= liquorRepository.reconcileReviewNumber();
+        final int user= userRepository.reconcileReviewNumber();
+        userRepository.reconcileUnreadNumber();
+        log.info("reconcile counters: review={}, comment={}, liquor={}, user={}", review, comment, liquor, user);
+    }
+
+
+    //평가 작성과 같은 잠금 순서 (evaluation_number 먼저)
+    @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
+    public void reconcileEvaluations(){
+        final int number= evaluationNumberRepository.reconcileNumber();
+        final int evaluation= evaluationRepository.reconcileFlavorSum();
+        final int liquor= liquorRepository.reconcileAverageRating();
+        log.info("reconcile evaluations: number={}, evaluation={}, liquor={}", number, evaluation, liquor);
+    }
+}
@@ -1,29 +1,33 @@
 package com.example.soonsul.liquor.service;
 
+import com.example.soonsul.cache.CacheKey;
 import com.example.soonsul.liquor.dto.EvaluationRequest;
 import com.example.soonsul.liquor.entity.*;
 import com.example.soonsul.liquor.exception.PersonalRatingNull;
 import com.example.soonsul.liquor.repository.CommentRepository;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
 import com.example.soonsul.liquor.repository.ReviewRepository;
 import com.example.soonsul.notification.NotificationRepository;
+import com.example.soonsul.notification.NotificationService;
 import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.entity.Notifications;
 import com.example.soonsul.response.error.ErrorCode;
 import com.example.soonsul.user.entity.PersonalEvaluation;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.user.repository.UserRepository;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.TransactionDefinition;
-import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,68 +38,64 @@ public class EvaluationService {
     private final UserUtil userUtil;
     private final ReviewRepository reviewRepository;
     private final LiquorUtil liquorUtil;
-    private final PlatformTransactionManager transactionManager;
     private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final CommentRepository commentRepository;
+    private final ReviewGoodRepository reviewGoodRepository;
+    private final LiquorRepository liquorRepository;
+    private final UserRepository userRepository;
 
     private final List<FlavorType> flavorTypes= Arrays.asList(FlavorType.SWEETNESS, FlavorType.ACIDITY,
             FlavorType.CARBONIC_ACID, FlavorType.HEAVY, FlavorType.SCENT, FlavorType.DENSITY);
 
 
-    public synchronized void postEvaluation(String liquorId, EvaluationRequest request){
-        DefaultTransactionDefinition transactionDefinition = new DefaultTransactionDefinition();
-        transactionDefinition.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    //같은 전통주에 대한 평가만 evaluation_number row 락으로 직렬화 (서버 여러 대여도 동일)
+    @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, key = "#liquorId", cacheManager = "cacheManager")
+    public void postEvaluation(String liquorId, EvaluationRequest request){
+        final EvaluationNumber number= liquorUtil.getEvaluationNumberForUpdate(liquorId);     //락 획득 후 조회해야 최신 평균을 읽음
+        final User user= userUtil.getUserByAuthentication();
+        final Liquor liquor= liquorUtil.getLiquor(liquorId);
+        final Evaluation evaluation= liquorUtil.getEvaluation(liquorId);
 
-        TransactionStatus transactionStatus = transactionManager.getTransaction(transactionDefinition);
+        final PersonalEvaluation personalEvaluation= PersonalEvaluation.builder()
+                .evaluationDate(LocalDate.now())
+                .user(user)
+                .liquor(liquor)
+                .build();
+        final PersonalEvaluation pe= personalEvaluationRepository.save(personalEvaluation);
 
-        try {
-            final User user= userUtil.getUserByAuthentication();
-            final Liquor liquor= liquorUtil.getLiquor(liquorId);
-            final Evaluation evaluation= liquorUtil.getEvaluation(liquorId);
-            final EvaluationNumber number= liquorUtil.getEvaluationNumber(liquorId);
+        calAverageRating(MethodType.POST, liquor, number, request.getLiquorPersonalRating(), pe);
 
-            final PersonalEvaluation personalEvaluation= PersonalEvaluation.builder()
-                    .evaluationDate(LocalDate.now())
+        for(FlavorType fType: flavorTypes){
+            if(request.getFlavor(fType)!=null)
+                calAverageFlavor(fType, MethodType.POST, evaluation, number, request.getFlavor(fType), pe);
+        }
+
+        if(request.getReviewContent()!=null){
+            final Review review= Review.builder()
+                    .content(request.getReviewContent())
+                    .createdDate(LocalDateTime.now())
+                    .liquorRating(request.getLiquorPersonalRating())
                     .user(user)
                     .liquor(liquor)
                     .build();
-            final PersonalEvaluation pe= personalEvaluationRepository.save(personalEvaluation);
-
-            calAverageRating(MethodType.POST, liquor, number, request.getLiquorPersonalRating(), pe);
-
-            for(FlavorType fType: flavorTypes){
-                if(request.getFlavor(fType)!=null)
-                    calAverageFlavor(fType, MethodType.POST, evaluation, number, request.getFlavor(fType), pe);
-            }
-
-            if(request.getReviewContent()!=null){
-                final Review review= Review.builder()
-                        .content(request.getReviewContent())
-                        .createdDate(LocalDateTime.now())
-                        .liquorRating(request.getLiquorPersonalRating())
-                        .user(user)
-                        .liquor(liquor)
-                        .build();
-                reviewRepository.save(review);
-            }
-
-            transactionManager.commit(transactionStatus);
-        } catch (Exception e) {
-            transactionManager.rollback(transactionStatus);
-            throw e;
+            reviewRepository.save(review);
+            updateReviewNumber(user, liquor, 1);
         }
     }
 
 
     @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, key = "#liquorId", cacheManager = "cacheManager")
     public void putEvaluation(String liquorId, EvaluationRequest request){
         if(request.getLiquorPersonalRating()==null) throw new PersonalRatingNull("personal rating is null", ErrorCode.PERSONAL_RATING_NULL);
 
+        final EvaluationNumber number= liquorUtil.getEvaluationNumberForUpdate(liquorId);
         final User user= userUtil.getUserByAuthentication();
         final Liquor liquor= liquorUtil.getLiquor(liquorId);
         final PersonalEvaluation pe= liquorUtil.getPersonalEvaluation(user, liquor);
         final Evaluation evaluation= liquorUtil.getEvaluation(liquorId);
-        final EvaluationNumber number= liquorUtil.getEvaluationNumber(liquorId);
 
 
         if(!pe.getLiquorPersonalRating().equals(request.getLiquorPersonalRating())){
@@ -115,11 +115,16 @@ public class EvaluationService {
         if(request.getReviewContent() == null && review.isPresent()){
             deleteReviewNotification(review.get());
             review.ifPresent(value -> reviewRepository.deleteById(value.getReviewId()));
+            updateReviewNumber(user, liquor, -1);
         }
         else if(request.getReviewContent()!= null && review.isPresent()){
             if(!request.getLiquorPersonalRating().equals(review.get().getLiquorRating()))
                 review.get().updateLiquorRating(request.getLiquorPersonalRating());
-            review.get().updateContent(request.getReviewContent());
+            if(!request.getReviewContent().equals(review.get().getContent())){
+                review.get().updateContent(request.getReviewContent());
+                notificationRepository.updateExcerpt(Collections.singletonList(NotificationType.REVIEW_GOOD.name()),
+                        review.get().getReviewId(), Notifications.excerpt(request.getReviewContent()));
+            }
         }
         else if(request.getReviewContent() != null){
             final Review newReview= Review.builder()
@@ -130,6 +135,7 @@ public class EvaluationService {
                     .liquor(liquor)
                     .build();
             reviewRepository.save(newReview);
+            updateReviewNumber(user, liquor, 1);
         }
     }
 
@@ -140,11 +146,12 @@ public class EvaluationService {
 
 
     @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, key = "#liquorId", cacheManager = "cacheManager")
     public void deletePersonalEvaluation(String liquorId){
+        final EvaluationNumber number= liquorUtil.getEvaluationNumberForUpdate(liquorId);
         final User user= userUtil.getUserByAuthentication();
         final Liquor liquor= liquorUtil.getLiquor(liquorId);
         final Evaluation evaluation= liquorUtil.getEvaluation(liquorId);
-        final EvaluationNumber number= liquorUtil.getEvaluationNumber(liquorId);
         final PersonalEvaluation pe= liquorUtil.getPersonalEvaluation(user, liquor);
 
 
@@ -161,30 +168,30 @@ public class EvaluationService {
         if(review.isPresent()){
             deleteReviewNotification(review.get());
             reviewRepository.deleteByUserAndLiquor(user, liquor);
+            updateReviewNumber(user, liquor, -1);
         }
     }
 
 
+    //합계와 인원수에 변화량만 반영, liquor.average_rating은 정렬/표시용으로 합계에서 다시 계산
     public void calAverageRating(MethodType mType, Liquor liquor, EvaluationNumber number, Double request, PersonalEvaluation pe){
         switch (mType){
             case POST:
-                liquor.updateAverageRating(calAverage(CalculationType.ADD, liquor.getAverageRating(), number.getAverageRating(), request));
+                number.addRatingSum(request);
                 number.addAverageRating(CalculationType.ADD);
                 pe.updateLiquorPersonalRating(request);
                 break;
             case DELETE:
-                liquor.updateAverageRating(calAverage(CalculationType.SUB, liquor.getAverageRating(), number.getAverageRating(), pe.getLiquorPersonalRating()));
+                number.addRatingSum(-pe.getLiquorPersonalRating());
                 number.addAverageRating(CalculationType.SUB);
                 pe.updateLiquorPersonalRating(null);
                 break;
             case PUT:
-                liquor.updateAverageRating(calAverage(CalculationType.SUB, liquor.getAverageRating(), number.getAverageRating(), pe.getLiquorPersonalRating()));
-                number.addAverageRating(CalculationType.SUB);
-                liquor.updateAverageRating(calAverage(CalculationType.ADD, liquor.getAverageRating(), number.getAverageRating(), request));
-                number.addAverageRating(CalculationType.ADD);
+                number.addRatingSum(request- pe.getLiquorPersonalRating());
                 pe.updateLiquorPersonalRating(request);
                 break;
         }
+        liquor.updateAverageRating(number.getRatingAverage());
     }
 
 
@@ -193,64 +200,33 @@ public class EvaluationService {
 
         switch (mType){
             case POST:
-                evaluation.updateFlavor(fType, calAverage(fType, CalculationType.ADD, evaluation, number, request));
+                evaluation.addFlavor(fType, request);
                 number.updateFlavor(fType, CalculationType.ADD);
                 pe.updateFlavor(fType, request);
                 break;
             case DELETE:
-                evaluation.updateFlavor(fType, calAverage(fType, CalculationType.SUB, evaluation, number, pe.getFlavor(fType)));
+                evaluation.addFlavor(fType, -pe.getFlavor(fType));
                 number.updateFlavor(fType,CalculationType.SUB);
                 pe.updateFlavor(fType, null);
                 break;
             case PUT:
-                evaluation.updateFlavor(fType, calAverage(fType, CalculationType.SUB, evaluation, number, pe.getFlavor(fType)));
-                number.updateFlavor(fType,CalculationType.SUB);
-                evaluation.updateFlavor(fType, calAverage(fType, CalculationType.ADD, evaluation, number, request));
-                number.updateFlavor(fType,CalculationType.ADD);
+                evaluation.addFlavor(fType, request- pe.getFlavor(fType));
                 pe.updateFlavor(fType, request);
                 break;
         }
     }
 
 
-
-    private Double calAverage(CalculationType cType, Double origin, Integer number, Double request){
-        int mark= 0;
-        if(cType.equals(CalculationType.ADD)) mark= 1;
-        else if(cType.equals(CalculationType.SUB)) mark= -1;
-
-        if(number+mark==0) return 0.0;
-        double result= ((origin*number)+(mark*request))/(number+mark);
-        return Math.round(result*10)/10.0;
-    }
-
-
-    private Double calAverage(FlavorType fType, CalculationType cType, Evaluation evaluation,
-                              EvaluationNumber evaluationNumber, Integer request){
-        int mark= 0;
-        if(cType.equals(CalculationType.ADD)) mark= 1;
-        else if(cType.equals(CalculationType.SUB)) mark= -1;
-
-        double origin= evaluation.getFlavor(fType);
-        int number= evaluationNumber.getFlavor(fType);
-
-        if(number+mark==0) return 0.0;
-        double result= ((origin*number)+(mark*request)) /(number+mark);
-        return Math.round(result*10)/10.0;
+    private void updateReviewNumber(User user, Liquor liquor, int delta){
+        liquorRepository.updateReviewNumber(liquor.getLiquorId(), delta);
+        userRepository.updateReviewNumber(user.getUserId(), delta);
     }
 
 
     private void deleteReviewNotification(Review review){
-        for(ReviewGood reviewGood: review.getReviewGoods()){
-            notificationRepository.deleteByTypeAndObjectId(NotificationType.REVIEW_GOOD, reviewGood.getReviewGoodId());
-        }
-
-        for(Comment comment: review.getCommentList()){
-            final List<Comment> reCommentList= commentRepository.findAllByUpperCommentId(comment.getCommentId());
-            for(Comment reComment: reCommentList){
-                notificationRepository.deleteByTypeAndObjectId(NotificationType.RECOMMENT, reComment.getCommentId());
-            }
-            notificationRepository.deleteByTypeAndObjectId(NotificationType.COMMENT, comment.getCommentId());
-        }
+        notificationService.deleteNotifications(Collections.singletonList(NotificationType.REVIEW_GOOD),
+                reviewGoodRepository.findIdsByReviewId(review.getReviewId()));
+        notificationService.deleteNotifications(Arrays.asList(NotificationType.COMMENT, NotificationType.RECOMMENT),
+                commentRepository.findIdsByReviewId(review.getReviewId()));      //대댓글 포함
     }
 }
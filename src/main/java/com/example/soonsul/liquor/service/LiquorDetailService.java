@@ -0,0 +1,59 @@
+package com.example.soonsul.liquor.service;
+
+import com.example.soonsul.cache.CacheKey;
+import com.example.soonsul.liquor.dto.LiquorDetailDto;
+import com.example.soonsul.liquor.dto.LiquorFilteringDto;
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.entity.LiquorFiltering;
+import com.example.soonsul.liquor.repository.LiquorFilteringRepository;
+import com.example.soonsul.util.LiquorUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+//사용자와 무관한 전통주 상세 정보 캐시 (개인 평점, 스크랩 여부는 LiquorService에서 따로 조회)
+@Service
+@RequiredArgsConstructor
+public class LiquorDetailService {
+    private final LiquorUtil liquorUtil;
+    private final LiquorFilteringRepository filteringRepository;
+
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheKey.LIQUOR, key = "#liquorId", cacheManager = "cacheManager")
+    public LiquorDetailDto getLiquorDetail(String liquorId){
+        final Liquor liquor= liquorUtil.getLiquor(liquorId);
+
+        final List<LiquorFilteringDto> filtering= filteringRepository.findAllByLiquorId(liquorId)
+                .stream()
+                .map(this::toFilteringDto)
+                .collect(Collectors.toList());
+
+        return LiquorDetailDto.builder()
+                .liquorId(liquorId)
+                .name(liquor.getName())
+                .ingredient(liquor.getIngredient())
+                .averageRating(liquor.getAverageRating())
+                .lowestPrice(liquor.getLowestPrice())
+                .alcohol(liquor.getAlcohol())
+                .capacity(liquor.getCapacity())
+                .region(liquorUtil.getCodeName(liquor.getRegion()))
+                .imageUrl(liquor.getImageUrl())
+                .liquorCategory(liquorUtil.getCodeName(liquor.getLiquorCategory()))
+                .ratingNumber(liquor.getReviewNumber())
+                .filtering(filtering)
+                .build();
+    }
+
+
+    private LiquorFilteringDto toFilteringDto(LiquorFiltering l){
+        return LiquorFilteringDto.builder()
+                .age(l.getAge())
+                .gender(l.getGender())
+                .build();
+    }
+}
@@ -14,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CacheEvict;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -28,50 +28,36 @@ public class LiquorService {
     private final UserUtil userUtil;
     private final LiquorUtil liquorUtil;
     private final PrizeRepository prizeRepository;
-    private final ReviewRepository reviewRepository;
     private final LiquorFilteringRepository filteringRepository;
     private final FilteringClickRepository filteringClickRepository;
     private final ScrapRepository scrapRepository;
+    private final LiquorDetailService liquorDetailService;
 
 
+    //공통 정보는 캐시, 개인 평점과 스크랩 여부만 매번 조회
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheKey.LIQUOR, cacheManager = "cacheManager")
     public LiquorInfoDto getLiquorInfo(String liquorId){
+        final LiquorDetailDto detail= liquorDetailService.getLiquorDetail(liquorId);
         final User user= userUtil.getUserByAuthentication();
-        final Liquor liquor= liquorUtil.getLiquor(liquorId);
-        final Optional<PersonalEvaluation> personalEvaluation= personalEvaluationRepository.findByUserAndLiquor(user,liquor);
-
-        Double liquorPersonalRating= null;
-        if(personalEvaluation.isPresent()){
-            liquorPersonalRating= personalEvaluation.get().getLiquorPersonalRating();
-        }
+        final Liquor liquor= liquorRepository.getReferenceById(liquorId);
 
-        final String region= liquorUtil.getCodeName(liquor.getRegion());
-        final String liquorCategory= liquorUtil.getCodeName(liquor.getLiquorCategory());
-
-        final List<LiquorFilteringDto> filtering= new ArrayList<>();
-        final List<LiquorFiltering> filteringList= filteringRepository.findAllByLiquorId(liquorId);
-        for(LiquorFiltering l: filteringList){
-            final LiquorFilteringDto dto= LiquorFilteringDto.builder()
-                    .age(l.getAge())
-                    .gender(l.getGender())
-                    .build();
-            filtering.add(dto);
-        }
+        final Double liquorPersonalRating= personalEvaluationRepository.findByUserAndLiquor(user, liquor)
+                .map(PersonalEvaluation::getLiquorPersonalRating)
+                .orElse(null);
 
         return LiquorInfoDto.builder()
-                .name(liquor.getName())
-                .ingredient(liquor.getIngredient())
-                .averageRating(liquor.getAverageRating())
-                .lowestPrice(liquor.getLowestPrice())
-                .alcohol(liquor.getAlcohol())
-                .capacity(liquor.getCapacity())
-                .region(region)
-                .imageUrl(liquor.getImageUrl())
-                .liquorCategory(liquorCategory)
+                .name(detail.getName())
+                .ingredient(detail.getIngredient())
+                .averageRating(detail.getAverageRating())
+                .lowestPrice(detail.getLowestPrice())
+                .alcohol(detail.getAlcohol())
+                .capacity(detail.getCapacity())
+                .region(detail.getRegion())
+                .imageUrl(detail.getImageUrl())
+                .liquorCategory(detail.getLiquorCategory())
                 .liquorPersonalRating(liquorPersonalRating)
-                .ratingNumber(reviewRepository.countByLiquor(liquor))
-                .filtering(filtering)
+                .ratingNumber(detail.getRatingNumber())
+                .filtering(detail.getFiltering())
                 .flagScrap(scrapRepository.existsByUserAndLiquor(user, liquor))
                 .build();
     }
@@ -129,14 +115,15 @@ public class LiquorService {
     @Transactional(readOnly = true)
     public EvaluationDto getFlavorAverage(String liquorId){
         final Evaluation evaluation= liquorUtil.getEvaluation(liquorId);
+        final EvaluationNumber number= liquorUtil.getEvaluationNumber(liquorId);
 
         return EvaluationDto.builder()
-                .sweetness(Math.toIntExact(Math.round(evaluation.getSweetness())))
-                .acidity(Math.toIntExact(Math.round(evaluation.getAcidity())))
-                .carbonicAcid(Math.toIntExact(Math.round(evaluation.getCarbonicAcid())))
-                .heavy(Math.toIntExact(Math.round(evaluation.getHeavy())))
-                .scent(Math.toIntExact(Math.round(evaluation.getScent())))
-                .density(Math.toIntExact(Math.round(evaluation.getDensity())))
+                .sweetness(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number))))
+                .acidity(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.ACIDITY, number))))
+                .carbonicAcid(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.CARBONIC_ACID, number))))
+                .heavy(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.HEAVY, number))))
+                .scent(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.SCENT, number))))
+                .density(Math.toIntExact(Math.round(evaluation.getFlavorAverage(FlavorType.DENSITY, number))))
                 .build();
     }
 
@@ -189,6 +176,7 @@ public class LiquorService {
 
 
     @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
     public void updateFiltering(){
         final List<Integer> age= Arrays.asList(20, 30, 40, 50, 60);
         final List<String> gender= Arrays.asList("f", "g");
@@ -280,7 +268,7 @@ public class LiquorService {
                     .lowestPrice(liquor.getLowestPrice())
                     .imageUrl(liquor.getImageUrl())
                     .liquorCategory(liquorCategory)
-                    .ratingNumber(reviewRepository.countByLiquor(liquor))
+                    .ratingNumber(liquor.getReviewNumber())
                     .flagScrap(true)
                     .scrapDate(s.getScrapDate())
                     .totalScrapNumber(totalScrapNumber)
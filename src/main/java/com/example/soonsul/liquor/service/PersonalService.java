@@ -10,6 +10,7 @@ import com.example.soonsul.user.repository.PersonalEvaluationRepository;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,17 +27,19 @@ public class PersonalService {
     private final LiquorUtil liquorUtil;
     private final ReviewRepository reviewRepository;
     private final ReviewGoodRepository reviewGoodRepository;
-    private final CommentRepository commentRepository;
 
 
     @Transactional(readOnly = true)
-    public List<PersonalDto> getPersonalEvaluationList(String userId, Pageable pageable){
+    public List<PersonalDto> getPersonalEvaluationList(String userId, Pageable pageable, Long after){
         User user;
         if(userId==null) user= userUtil.getUserByAuthentication();
         else user= userUtil.getUserById(userId);
 
-        final List<PersonalEvaluation> list= personalEvaluationRepository.findAll(pageable, user.getUserId()).toList();
+        final List<PersonalEvaluation> list= (after==null)
+                ? personalEvaluationRepository.findAll(pageable, user.getUserId()).toList()
+                : personalEvaluationRepository.findAllAfter(PageRequest.of(0, pageable.getPageSize()), user.getUserId(), after).toList();
         final Integer totalReviewNumber= personalEvaluationRepository.countByUser(user);
+        final User loginUser= (userId==null) ? user : userUtil.getUserByAuthentication();
 
         final List<PersonalDto> result= new ArrayList<>();
         for(PersonalEvaluation p: list){
@@ -63,10 +66,10 @@ public class PersonalService {
                     .scent((userId==null) ? p.getScent() : null)
                     .density((userId==null) ? p.getDensity() : null)
                     .totalReviewNumber(totalReviewNumber)
-                    .goodNumber(review.map(reviewGoodRepository::countByReview).orElse(0))
-                    .commentNumber(review.map(commentRepository::countByReview).orElse(0))
+                    .goodNumber(review.map(Review::getGoodNumber).orElse(0))
+                    .commentNumber(review.map(Review::getCommentNumber).orElse(0))
                     .salePlace(liquor.getSalePlace())
-                    .flagGood(review.isPresent() && reviewGoodRepository.existsByReviewAndUser(review.get(), userUtil.getUserByAuthentication()))
+                    .flagGood(review.isPresent() && reviewGoodRepository.existsByReviewAndUser(review.get(), loginUser))
                     .build();
             result.add(dto);
         }
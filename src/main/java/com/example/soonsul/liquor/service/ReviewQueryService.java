@@ -0,0 +1,96 @@
+package com.example.soonsul.liquor.service;
+
+import com.example.soonsul.liquor.dto.ReviewDto;
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.entity.Review;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
+import com.example.soonsul.user.entity.PersonalEvaluation;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+//리뷰 목록 조회용: 페이지 크기와 상관없이 쿼리 수 고정
+@Service
+@RequiredArgsConstructor
+public class ReviewQueryService {
+    private final ReviewGoodRepository reviewGoodRepository;
+    private final UserRepository userRepository;
+    private final PersonalEvaluationRepository personalEvaluationRepository;
+
+
+    @Transactional(readOnly = true)
+    public List<ReviewDto> makeReviewList(List<Review> reviews, Liquor liquor, User viewer, Integer totalReviewNumber){
+        if(reviews.isEmpty()) return new ArrayList<>();
+
+        final List<Long> reviewIds= reviews.stream()
+                .map(Review::getReviewId)
+                .collect(Collectors.toList());
+        final List<String> userIds= reviews.stream()
+                .map(r -> r.getUser().getUserId())
+                .distinct()
+                .collect(Collectors.toList());
+
+        final Map<String, User> userMap= userRepository.findAllById(userIds)
+                .stream()
+                .collect(Collectors.toMap(User::getUserId, u -> u));
+        final Map<String, Double> ratingMap= new HashMap<>();
+        for(PersonalEvaluation p: personalEvaluationRepository.findAllByLiquorAndUserIn(liquor, userMap.values())){
+            ratingMap.put(p.getUser().getUserId(), p.getLiquorPersonalRating());
+        }
+        final Set<Long> goodReviewIds= new HashSet<>(reviewGoodRepository.findReviewIdsByUser(viewer, reviewIds));
+
+        final List<ReviewDto> result= new ArrayList<>();
+        for(Review r: reviews){
+            final String userId= r.getUser().getUserId();
+            final User writer= userMap.get(userId);
+
+            final ReviewDto reviewDto= ReviewDto.builder()
+                    .reviewId(r.getReviewId())
+                    .averageRating(ratingMap.get(userId))
+                    .content(r.getContent())
+                    .goodNumber(r.getGoodNumber())
+                    .createdDate(dateConversion(r.getCreatedDate()))
+                    .commentNumber(r.getCommentNumber())
+                    .userId(userId)
+                    .nickname(writer==null ? null : writer.getNickname())
+                    .profileImage(writer==null ? null : writer.getProfileImage())
+                    .reviewNumber(writer==null ? null : writer.getReviewNumber())
+                    .flagGood(goodReviewIds.contains(r.getReviewId()))
+                    .totalReviewNumber(totalReviewNumber)
+                    .liquorRating(r.getLiquorRating())
+                    .build();
+            result.add(reviewDto);
+        }
+        return result;
+    }
+
+
+    private String dateConversion(LocalDateTime request){
+        final LocalDateTime now= LocalDateTime.now();
+        final long subSecond= ChronoUnit.SECONDS.between(request, now);
+
+        if(subSecond<=60) return "지금";
+        else if(subSecond<=3600){
+            int min= Long.valueOf(subSecond).intValue()/60;
+            return min+"분 전";
+        }
+        else if(subSecond<=86400){
+            int min= Long.valueOf(subSecond).intValue()/3600;
+            return min+"시간 전";
+        }
+        else if(subSecond<=604800){
+            int min= Long.valueOf(subSecond).intValue()/86400;
+            return min+"일 전";
+        }
+        else return request.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
+    }
+}
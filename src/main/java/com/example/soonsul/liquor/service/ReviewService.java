@@ -5,91 +5,54 @@ import com.example.soonsul.liquor.entity.Liquor;
 import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.liquor.entity.ReviewGood;
 import com.example.soonsul.liquor.repository.*;
+import com.example.soonsul.notification.NotificationOutboxService;
 import com.example.soonsul.notification.dto.PushNotification;
-import com.example.soonsul.user.entity.PersonalEvaluation;
+import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
-    private final CommentRepository commentRepository;
     private final UserUtil userUtil;
     private final LiquorUtil liquorUtil;
     private final ReviewGoodRepository reviewGoodRepository;
+    private final ReviewQueryService reviewQueryService;
+    private final NotificationOutboxService notificationOutboxService;
 
 
+    //after(마지막으로 받은 reviewId)가 있으면 OFFSET 없이 그 다음부터 조회
     @Transactional(readOnly = true)
-    public List<ReviewDto> getReviewListByLatest(Pageable pageable, String liquorId){
+    public List<ReviewDto> getReviewListByLatest(Pageable pageable, String liquorId, Long after){
         final User user= userUtil.getUserByAuthentication();
         final Liquor liquor= liquorUtil.getLiquor(liquorId);
-        final List<Review> reviews= reviewRepository.findAllByLatest(pageable, liquorId).toList();
-        final Integer totalReviewNumber= reviewRepository.countByLiquor(liquor);
-
-        final List<ReviewDto> result= new ArrayList<>();
-        for(Review r: reviews){
-            final PersonalEvaluation evaluation= liquorUtil.getPersonalEvaluation(r.getUser(), liquor);
-
-            final ReviewDto reviewDto= ReviewDto.builder()
-                    .reviewId(r.getReviewId())
-                    .averageRating(evaluation.getLiquorPersonalRating())
-                    .content(r.getContent())
-                    .goodNumber(reviewGoodRepository.countByReview(r))
-                    .createdDate(dateConversion(r.getCreatedDate()))
-                    .commentNumber(commentRepository.countByReview(r))
-                    .userId(r.getUser().getUserId())
-                    .nickname(r.getUser().getNickname())
-                    .profileImage(r.getUser().getProfileImage())
-                    .reviewNumber(reviewRepository.countByUser(r.getUser()))
-                    .flagGood(reviewGoodRepository.existsByReviewAndUser(r, user))
-                    .totalReviewNumber(totalReviewNumber)
-                    .build();
-            result.add(reviewDto);
-        }
-        return result;
+        final List<Review> reviews= (after==null)
+                ? reviewRepository.findAllByLatest(pageable, liquorId).toList()
+                : reviewRepository.findAllByLatestAfter(PageRequest.of(0, pageable.getPageSize()), liquorId, after).toList();
+
+        return reviewQueryService.makeReviewList(reviews, liquor, user, liquor.getReviewNumber());
     }
 
 
     @Transactional(readOnly = true)
-    public List<ReviewDto> getReviewListByRating(Pageable pageable, String liquorId){
+    public List<ReviewDto> getReviewListByRating(Pageable pageable, String liquorId, Double afterRating, Long after){
         final User user= userUtil.getUserByAuthentication();
         final Liquor liquor= liquorUtil.getLiquor(liquorId);
-        final List<Review> reviews= reviewRepository.findAllByRating(pageable, liquorId).toList();
-        final Integer totalReviewNumber= reviewRepository.countByLiquor(liquor);
-
-        final List<ReviewDto> result= new ArrayList<>();
-        for(Review r: reviews){
-            final PersonalEvaluation evaluation= liquorUtil.getPersonalEvaluation(r.getUser(), liquor);
-
-            final ReviewDto reviewDto= ReviewDto.builder()
-                    .reviewId(r.getReviewId())
-                    .averageRating(evaluation.getLiquorPersonalRating())
-                    .content(r.getContent())
-                    .goodNumber(reviewGoodRepository.countByReview(r))
-                    .createdDate(dateConversion(r.getCreatedDate()))
-                    .commentNumber(commentRepository.countByReview(r))
-                    .userId(r.getUser().getUserId())
-                    .nickname(r.getUser().getNickname())
-                    .profileImage(r.getUser().getProfileImage())
-                    .reviewNumber(reviewRepository.countByUser(r.getUser()))
-                    .flagGood(reviewGoodRepository.existsByReviewAndUser(r, user))
-                    .totalReviewNumber(totalReviewNumber)
-                    .build();
-            result.add(reviewDto);
-        }
-        return result;
+        final List<Review> reviews= (after==null || afterRating==null)
+                ? reviewRepository.findAllByRating(pageable, liquorId).toList()
+                : reviewRepository.findAllByRatingAfter(PageRequest.of(0, pageable.getPageSize()), liquorId, afterRating, after).toList();
+
+        return reviewQueryService.makeReviewList(reviews, liquor, user, liquor.getReviewNumber());
     }
 
 
@@ -97,26 +60,13 @@ public class ReviewService {
     public ReviewDto getReview(Long reviewId){
         final User user= userUtil.getUserByAuthentication();
         final Review review= liquorUtil.getReview(reviewId);
-        final PersonalEvaluation evaluation= liquorUtil.getPersonalEvaluation(review.getUser(), review.getLiquor());
-
-        return ReviewDto.builder()
-                .reviewId(review.getReviewId())
-                .averageRating(evaluation.getLiquorPersonalRating())
-                .content(review.getContent())
-                .goodNumber(reviewGoodRepository.countByReview(review))
-                .createdDate(dateConversion(review.getCreatedDate()))
-                .commentNumber(commentRepository.countByReview(review))
-                .userId(review.getUser().getUserId())
-                .nickname(review.getUser().getNickname())
-                .profileImage(review.getUser().getProfileImage())
-                .reviewNumber(reviewRepository.countByUser(review.getUser()))
-                .flagGood(reviewGoodRepository.existsByReviewAndUser(review, user))
-                .build();
+
+        return reviewQueryService.makeReviewList(Collections.singletonList(review), review.getLiquor(), user, null).get(0);
     }
 
 
     @Transactional
-    public PushNotification postReviewLike(Long reviewId){
+    public void postReviewLike(Long reviewId){
         final User user= userUtil.getUserByAuthentication();
         final Review review= liquorUtil.getReview(reviewId);
 
@@ -124,11 +74,14 @@ public class ReviewService {
                 .review(review)
                 .user(user)
                 .build();
+        reviewRepository.updateGoodNumber(reviewId, 1);
 
-        return PushNotification.builder()
+        notificationOutboxService.enqueue(NotificationType.REVIEW_GOOD, PushNotification.builder()
                 .objectId(reviewGoodRepository.save(good).getReviewGoodId())
                 .receiveUser(review.getUser())
-                .build();
+                .targetId(review.getReviewId())
+                .excerpt(review.getContent())
+                .build());
     }
 
 
@@ -139,6 +92,7 @@ public class ReviewService {
         final Long objectId= reviewGoodRepository.findByReviewAndUser(review, user).get().getReviewGoodId();
 
         reviewGoodRepository.deleteByReviewAndUser(review, user);
+        reviewRepository.updateGoodNumber(reviewId, -1);
         return objectId;
     }
 
@@ -146,28 +100,6 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public Integer getReviewLike(Long reviewId){
         final Review review= liquorUtil.getReview(reviewId);
-        return reviewGoodRepository.countByReview(review);
-    }
-
-
-
-    private String dateConversion(LocalDateTime request){
-        final LocalDateTime now= LocalDateTime.now();
-        final long subSecond= ChronoUnit.SECONDS.between(request, now);
-
-        if(subSecond<=60) return "지금";
-        else if(subSecond<=3600){
-            int min= Long.valueOf(subSecond).intValue()/60;
-            return min+"분 전";
-        }
-        else if(subSecond<=86400){
-            int min= Long.valueOf(subSecond).intValue()/3600;
-            return min+"시간 전";
-        }
-        else if(subSecond<=604800){
-            int min= Long.valueOf(subSecond).intValue()/86400;
-            return min+"일 전";
-        }
-        else return request.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
+        return review.getGoodNumber();
     }
 }
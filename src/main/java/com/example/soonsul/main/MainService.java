@@ -1,12 +1,12 @@
 package com.example.soonsul.main;
 
 import com.example.soonsul.liquor.entity.Liquor;
-import com.example.soonsul.liquor.entity.RegionClick;
 import com.example.soonsul.liquor.repository.*;
 import com.example.soonsul.main.dto.RegionLiquorDto;
 import com.example.soonsul.main.dto.WeekLiquorDto;
 import com.example.soonsul.main.entity.Sorting;
 import com.example.soonsul.user.entity.User;
+import com.example.soonsul.util.LiquorGeoIndex;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
@@ -20,41 +20,32 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class MainService {
-    private final ClickRepository clickRepository;
+    private static final double AROUND_ME_RADIUS= 10000;     //m
+
+    private final ClickRankingRepository clickRankingRepository;
     private final UserUtil userUtil;
     private final LiquorUtil liquorUtil;
     private final LiquorRepository liquorRepository;
-    private final RegionClickRepository regionClickRepository;
-    private final ReviewRepository reviewRepository;
+    private final RegionClickRankingRepository regionClickRankingRepository;
+    private final LiquorGeoIndex liquorGeoIndex;
     private final ScrapRepository scrapRepository;
 
 
     @Transactional(readOnly = true)
     public List<WeekLiquorDto> getWeekLiquor(){
-        HashMap<String, Integer> map = new HashMap<>();
-
-        final List<Liquor> liquorList= liquorRepository.findAll();
-        for(Liquor l: liquorList){
-            map.put(l.getLiquorId(), clickRepository.findAllByLiquorId(l.getLiquorId()).size());
-        }
+        final List<String> ranking= clickRankingRepository.findTopLiquorIds(10);
+        if(ranking.isEmpty()) return new ArrayList<>();
 
-        map= map.entrySet()
+        final Map<String, Liquor> liquorMap= liquorRepository.findAllById(ranking)
                 .stream()
-                .filter(m -> m.getValue() > 0)
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(10)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue,
-                        LinkedHashMap::new
-                ));
+                .collect(Collectors.toMap(Liquor::getLiquorId, l -> l));
 
         final List<WeekLiquorDto> result= new ArrayList<>();
-        for(String key : map.keySet()){
-            final Liquor liquor= liquorUtil.getLiquor(key);
+        for(String liquorId : ranking){
+            final Liquor liquor= liquorMap.get(liquorId);
+            if(liquor==null) continue;
             final WeekLiquorDto dto= WeekLiquorDto.builder()
-                    .liquorId(key)
+                    .liquorId(liquorId)
                     .imageUrl(liquor.getImageUrl())
                     .name(liquor.getName())
                     .averageRating(liquor.getAverageRating())
@@ -111,8 +102,18 @@ public class MainService {
     private List<RegionLiquorDto> aroundMeLiquor(Sorting sorting, Double latitude, Double longitude){
         final User user= userUtil.getUserByAuthentication();
 
-        final List<RegionClick> clickList= (List<RegionClick>) regionClickRepository.findAll();
-        HashMap<String, Pair<Integer, Double>> liquorMap = makeLiquorMap(clickList, latitude, longitude);
+        final List<Pair<LiquorGeoIndex.Location, Double>> nearby= liquorGeoIndex.findWithin(latitude, longitude, AROUND_ME_RADIUS);
+        final Map<String, String> regionMap= new HashMap<>();
+        for(Pair<LiquorGeoIndex.Location, Double> p: nearby){
+            regionMap.put(p.getFirst().getLiquorId(), p.getFirst().getRegion());
+        }
+        final Map<String, Integer> clickMap= regionClickRankingRepository.findClickNumbers(regionMap);
+
+        HashMap<String, Pair<Integer, Double>> liquorMap= new HashMap<>();
+        for(Pair<LiquorGeoIndex.Location, Double> p: nearby){
+            final String liquorId= p.getFirst().getLiquorId();
+            liquorMap.put(liquorId, Pair.of(clickMap.getOrDefault(liquorId, 0), p.getSecond()));
+        }
         liquorMap= sortByClickNumber(liquorMap);
 
         return sortByCategory(sorting, makeList(liquorMap, user));
@@ -123,36 +124,15 @@ public class MainService {
     private List<RegionLiquorDto> regionLiquor(Sorting sorting, List<String> codeList){
         final User user= userUtil.getUserByAuthentication();
 
-        final List<RegionClick> clickList= new ArrayList<>();
-        for(String regionCode: codeList){
-            clickList.addAll(regionClickRepository.findAllByRegion(regionCode));
-        }
-        HashMap<String, Pair<Integer, Double>> liquorMap = makeLiquorMap(clickList, null, null);
-        liquorMap= sortByClickNumber(liquorMap);
+        final HashMap<String, Pair<Integer, Double>> clickMap= new HashMap<>();
+        regionClickRankingRepository.findTop(codeList, 10)
+                .forEach((liquorId, clickNumber) -> clickMap.put(liquorId, Pair.of(clickNumber, 0.0)));
+        final HashMap<String, Pair<Integer, Double>> liquorMap= sortByClickNumber(clickMap);
 
         return sortByCategory(sorting, makeList(liquorMap, user));
     }
 
 
-    public HashMap<String, Pair<Integer, Double>> makeLiquorMap(List<RegionClick> clickList, Double latitude, Double longitude){
-        final HashMap<String, Pair<Integer, Double>> map = new HashMap<>();
-
-        for(RegionClick r: clickList){
-            if(map.containsKey(r.getLiquorId()) && map.get(r.getLiquorId()).getSecond() == -1.0) continue;
-
-            Double distance;
-            if(latitude==null && longitude==null) distance= 0.0;
-            else distance= distanceDifference(latitude, longitude, r.getLatitude(), r.getLongitude());
-
-            if(!map.containsKey(r.getLiquorId()))
-                map.put(r.getLiquorId(), Pair.of(1, distance));
-            else
-                map.put(r.getLiquorId(), Pair.of(map.get(r.getLiquorId()).getFirst()+1, map.get(r.getLiquorId()).getSecond()));
-        }
-        return map;
-    }
-
-
     public List<RegionLiquorDto> makeList(HashMap<String, Pair<Integer, Double>> liquorMap, User user){
         final List<RegionLiquorDto> list= new ArrayList<>();
         for(String liquorId: liquorMap.keySet()){
@@ -167,7 +147,7 @@ public class MainService {
                     .brewery(liquor.getBrewery())
                     .lowestPrice(liquor.getLowestPrice())
                     .flagScrap(scrapRepository.existsByUserAndLiquor(user, liquor))
-                    .ratingNumber(reviewRepository.countByLiquor(liquor))
+                    .ratingNumber(liquor.getReviewNumber())
                     .imageUrl(liquor.getImageUrl())
                     .clickNumber(liquorMap.get(liquorId).getFirst())
                     .distance(liquorMap.get(liquorId).getSecond())
@@ -178,26 +158,6 @@ public class MainService {
     }
 
 
-    public Double distanceDifference(Double myLat, Double myLon, Double comLat, Double comLon){
-        double R = 6371;
-        final Double lat1= Math.toRadians(myLat);
-        final Double lon1= Math.toRadians(myLon);
-        final Double lat2= Math.toRadians(comLat);
-        final Double lon2= Math.toRadians(comLon);
-
-        double deltaLat = lat2 - lat1;
-        double deltaLon = lon2 - lon1;
-
-        double a = Math.sin(deltaLat/2) * Math.sin(deltaLat/2) +
-                Math.cos(lat1) * Math.cos(lat2) * Math.sin(deltaLon/2) * Math.sin(deltaLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        double distance = R * c * 1000;
-
-        if(distance<=10000) return distance;
-        else return -1.0;
-    }
-
-
     public List<RegionLiquorDto> sortByCategory(Sorting sorting, List<RegionLiquorDto> list){
         switch (sorting) {
             case STAR:
@@ -1,207 +1,179 @@
 package com.example.soonsul.manager;
 
-import com.example.soonsul.liquor.entity.*;
+import com.example.soonsul.cache.CacheKey;
 import com.example.soonsul.liquor.exception.CodeNotExist;
 import com.example.soonsul.liquor.repository.*;
-import com.example.soonsul.manager.dto.LocationRes;
+import com.example.soonsul.manager.dto.LiquorSheetRow;
+import com.example.soonsul.manager.dto.StoredLiquor;
+import com.example.soonsul.manager.geocode.GeocodeService;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.oauth.jwt.JwtTokenProvider;
 import com.example.soonsul.user.repository.UserRepository;
+import com.example.soonsul.util.LiquorSearchIndex;
 import com.example.soonsul.util.LiquorUtil;
 import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.model.ValueRange;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GoogleSheetsService {
+    private static final int CHUNK_SIZE= 100;
+    private static final int FETCH_THREADS= 3;     //Sheets api 분당 요청 제한 고려
 
     private final Sheets sheetsService;
     private final LiquorRepository liquorRepository;
-    private final PrizeRepository prizeRepository;
+    private final LiquorImportRepository liquorImportRepository;
     private final LiquorUtil liquorUtil;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
-    private final EvaluationRepository evaluationRepository;
-    private final EvaluationNumberRepository numberRepository;
+    private final LiquorSearchIndex liquorSearchIndex;
+    private final GeocodeService geocodeService;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${map.kakao.apiKey}")
-    private String apiKey;
+    private final ExecutorService fetcher= Executors.newFixedThreadPool(FETCH_THREADS);
 
-    @Value("${map.kakao.apiUrl}")
-    private String apiUrl;
 
-    private final RestTemplate restTemplate;
-
-    @Transactional
-    public void postLiquor(String spreadsheetId, String range) throws IOException {
-        ValueRange response = sheetsService.spreadsheets().values().get(spreadsheetId, range).execute();
-
-        final List<List<Object>> list= response.getValues();
-        for(List<Object> row: list){
-            final String liquorId= (checkEmpty(row.get(0))==null) ? null : row.get(0).toString();
-            System.out.println(liquorId);
-            final String name= (checkEmpty(row.get(1))==null) ? null : row.get(1).toString();
-            final Double alcohol= (checkEmpty(row.get(2))==null) ? null : Double.valueOf(row.get(2).toString());
-            final String ingredient= (checkEmpty(row.get(3))==null) ? null : row.get(3).toString();
-            final String brewery= (checkEmpty(row.get(4))==null) ? null : row.get(4).toString();
-            final String location= (checkEmpty(row.get(5))==null) ? null : row.get(5).toString();
-            final Integer capacity= (checkEmpty(row.get(6))==null) ? null : Integer.valueOf(row.get(6).toString());
-            final Long lowestPrice= (checkEmpty(row.get(7))==null) ? null : Long.valueOf(row.get(7).toString());
-            final String salePlace= (checkEmpty(row.get(8))==null) ? null : row.get(8).toString();
-            final String siteUrl= (checkEmpty(row.get(9))==null) ? null : row.get(9).toString();
-            final String phoneNumber= (checkEmpty(row.get(10))==null) ? null : row.get(10).toString();
-            final String prize= (checkEmpty(row.get(11))==null) ? null : row.get(11).toString();
-            final String presenceImage= (checkEmpty(row.get(12))==null) ? null : row.get(12).toString().substring(0, 1);
-            final String update= (checkEmpty(row.get(13))==null) ? null : row.get(13).toString().substring(0, 1);
+    //범위별로 동시에 읽고 파싱, 저장된 hash와 비교해서 추가/수정된 행만 CHUNK_SIZE개씩 batch 저장 (저장은 한 스레드에서만)
+    //같은 liquorId가 여러 행에 있으면 마지막 행만 반영
+    //실패한 범위, 행은 hash가 저장되지 않으므로 다음 import 때 다시 반영됨
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
+    public void postLiquor(String spreadsheetId, List<String> rangeList) {
+        final List<CompletableFuture<List<LiquorSheetRow>>> fetching= new ArrayList<>();
+        for(String range: rangeList){
+            fetching.add(CompletableFuture.supplyAsync(() -> fetch(spreadsheetId, range), fetcher));
+        }
+        final Map<String, StoredLiquor> stored= liquorImportRepository.findAllStored();
 
-            if(!liquorRepository.findById(liquorId).isPresent()) {
-                insertLiquor(liquorId, name, ingredient, lowestPrice, alcohol, capacity, location, brewery,
-                        salePlace, phoneNumber, siteUrl, prize, presenceImage);
+        final Map<String, LiquorSheetRow> changedMap= new LinkedHashMap<>();
+        final List<String> failedRanges= new ArrayList<>();
+        int total= 0;
+        for(int i=0; i<rangeList.size(); i++){
+            final List<LiquorSheetRow> rows;
+            try{
+                rows= fetching.get(i).join();
+            } catch (CompletionException e){
+                log.error("liquor import range failed: range={}", rangeList.get(i), e.getCause());
+                failedRanges.add(rangeList.get(i));
+                continue;
             }
-            else if(update.equals("O")){
-                updateLiquor(liquorId, name, ingredient, lowestPrice, alcohol, capacity, location,
-                        brewery, salePlace, phoneNumber, siteUrl, prize, presenceImage);
+            total+= rows.size();
+            for(LiquorSheetRow r: rows){
+                final StoredLiquor s= stored.get(r.getLiquorId());
+                if(s!=null && r.getHash().equals(s.getSourceHash())) continue;
+                if(changedMap.put(r.getLiquorId(), r)!=null) log.warn("liquor import duplicated: liquorId={}", r.getLiquorId());
             }
         }
-    }
-
-    private void insertLiquor(String liquorId, String name, String ingredient, Long lowestPrice,
-                              Double alcohol, Integer capacity, String location, String brewery,
-                              String salePlace, String phoneNumber, String siteUrl, String prize, String presenceImage){
-        //양조장 위도,경도
-        final Pair<Double,Double> locationInfo= getLatitude(location);
-
-        //전통주 메인사진
-        String imageUrl= "";
-        if(presenceImage.equals("O")) imageUrl= "https://soonsool-bucket.s3.ap-northeast-2.amazonaws.com/liquor/main/"+liquorId+"_main.png";
-        else imageUrl= "https://cdn.discordapp.com/attachments/1103554508484792390/1154012305667928074/IMG_2787.png";
-
-        final Liquor liquor= Liquor.builder()
-                .liquorId(liquorId)
-                .name(name)
-                .ingredient(ingredient)
-                .averageRating(0.0)
-                .lowestPrice(lowestPrice)
-                .alcohol(alcohol)
-                .capacity(capacity)
-                .viewCount(0L)
-                .region(liquorUtil.getCodeId(parse(location, " ").get(0)))
-                .imageUrl(imageUrl)
-                .liquorCategory(liquorId.substring(0, 4))
-                .brewery(brewery)
-                .location(location)
-                .latitude(locationInfo.getFirst())
-                .longitude(locationInfo.getSecond())
-                .salePlace(salePlace)
-                .phoneNumber(phoneNumber)
-                .siteUrl(siteUrl)
-                .build();
-        final Liquor getLiquor= liquorRepository.save(liquor);
-
-        if(prize!=null){
-            final List<String> prizeList= parse(prize,"\n");
-            for(String s: prizeList){
-                final Prize p= Prize.builder()
-                        .name(s)
-                        .liquor(getLiquor)
-                        .build();
-                prizeRepository.save(p);
+        final List<LiquorSheetRow> changed= new ArrayList<>(changedMap.values());
+
+        final List<String> locations= new ArrayList<>();
+        for(LiquorSheetRow r: changed) locations.add(r.getLocation());
+        geocodeService.prefetch(locations);
+
+        final List<String> savedIds= new ArrayList<>();
+        for(int i=0; i<changed.size(); i+= CHUNK_SIZE){
+            final List<LiquorSheetRow> inserts= new ArrayList<>();
+            final List<LiquorSheetRow> updates= new ArrayList<>();
+            for(LiquorSheetRow r: changed.subList(i, Math.min(i+ CHUNK_SIZE, changed.size()))){
+                final StoredLiquor s= stored.get(r.getLiquorId());
+                try{
+                    locate(r, s);
+                } catch (RuntimeException e){
+                    log.warn("liquor import skipped: liquorId={}", r.getLiquorId(), e);
+                    continue;
+                }
+                if(s==null) inserts.add(r);
+                else updates.add(r);
             }
+            save(inserts, updates, savedIds);
         }
 
-        insertEvaluation(liquorId);
-        insertEvaluationNumber(liquorId);
+        if(!savedIds.isEmpty()) liquorSearchIndex.update(liquorRepository.findAllById(savedIds));
+        log.info("liquor import done: total={}, changed={}, saved={}, failedRanges={}", total, changed.size(), savedIds.size(), failedRanges);
     }
 
-    private Pair<Double,Double> getLatitude(String location){
-        final String url = apiUrl + "?query=" + location;
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", apiKey);
-
-        final HttpEntity<String> request = new HttpEntity<>(headers);
-        LocationRes response= restTemplate.exchange(url, HttpMethod.GET, request, LocationRes.class).getBody();
+    //청크가 실패하면 (롤백됨) 한 행씩 다시 저장해서 문제 있는 행만 제외
+    private void save(List<LiquorSheetRow> inserts, List<LiquorSheetRow> updates, List<String> savedIds){
+        try{
+            liquorImportRepository.saveAll(inserts, updates);
+            inserts.forEach(r -> savedIds.add(r.getLiquorId()));
+            updates.forEach(r -> savedIds.add(r.getLiquorId()));
+            return;
+        } catch (DataAccessException e){
+            log.warn("liquor import chunk failed, retry row by row: size={}", inserts.size()+ updates.size(), e);
+        }
 
-        return Pair.of(response.documents[0].latitude, response.documents[0].longitude);
+        for(LiquorSheetRow r: inserts) saveRow(r, Collections.singletonList(r), Collections.emptyList(), savedIds);
+        for(LiquorSheetRow r: updates) saveRow(r, Collections.emptyList(), Collections.singletonList(r), savedIds);
     }
 
-    private void insertEvaluation(String liquorId){
-        final Optional<Evaluation> e = evaluationRepository.findById(liquorId);
-        if (e.isPresent()) return;
-
-        final Evaluation evaluation = Evaluation.builder()
-                .evaluationId(liquorId)
-                .sweetness(0.0)
-                .acidity(0.0)
-                .carbonicAcid(0.0)
-                .heavy(0.0)
-                .scent(0.0)
-                .density(0.0)
-                .build();
-        evaluationRepository.save(evaluation);
+    private void saveRow(LiquorSheetRow row, List<LiquorSheetRow> inserts, List<LiquorSheetRow> updates, List<String> savedIds){
+        try{
+            liquorImportRepository.saveAll(inserts, updates);
+            savedIds.add(row.getLiquorId());
+        } catch (DataAccessException e){
+            log.error("liquor import skipped: liquorId={}", row.getLiquorId(), e);
+        }
     }
 
-    private void insertEvaluationNumber(String liquorId){
-        final Optional<EvaluationNumber> e = numberRepository.findById(liquorId);
-        if (e.isPresent()) return;
-
-        final EvaluationNumber number = EvaluationNumber.builder()
-                .liquorId(liquorId)
-                .averageRating(0)
-                .sweetness(0)
-                .acidity(0)
-                .carbonicAcid(0)
-                .heavy(0)
-                .scent(0)
-                .density(0)
-                .build();
-        numberRepository.save(number);
+    //범위 하나를 읽어서 파싱 (범위별 소요시간 기록)
+    private List<LiquorSheetRow> fetch(String spreadsheetId, String range){
+        final Timer.Sample sample= Timer.start(meterRegistry);
+        String result= "failure";
+        try{
+            final ValueRange response= sheetsService.spreadsheets().values().get(spreadsheetId, range).execute();
+            final List<LiquorSheetRow> rows= new ArrayList<>();
+            if(response.getValues()!=null){
+                for(List<Object> row: response.getValues()){
+                    try{
+                        final LiquorSheetRow r= LiquorSheetRow.of(row);
+                        if(r.getLiquorId()!=null) rows.add(r);
+                    } catch (RuntimeException e){
+                        log.warn("liquor import skipped: range={}, row={}", range, row, e);
+                    }
+                }
+            }
+            result= "success";
+            return rows;
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        } finally {
+            sample.stop(meterRegistry.timer("liquor.import.range", "range", range, "result", result));
+        }
     }
 
-
-    private void updateLiquor(String liquorId, String name, String ingredient, Long lowestPrice,
-                              Double alcohol, Integer capacity, String location, String brewery,
-                              String salePlace, String phoneNumber, String siteUrl, String prize, String presenceImage){
-        final Liquor liquor= liquorUtil.getLiquor(liquorId);
-
-        //양조장 위도,경도
-        final Pair<Double,Double> locationInfo= getLatitude(location);
-
-        //전통주 메인사진
-        String imageUrl= "";
-        if(presenceImage.equals("O")) imageUrl= "https://soonsool-bucket.s3.ap-northeast-2.amazonaws.com/liquor/main/"+liquorId+"_main.png";
-        else imageUrl= "https://cdn.discordapp.com/attachments/1103554508484792390/1154012305667928074/IMG_2787.png";
-
-        liquor.updateLiquor(name, ingredient, lowestPrice, liquorUtil.getCodeId(parse(location, " ").get(0)), alcohol, capacity, imageUrl,
-                liquorId.substring(0, 4), location, brewery, salePlace, phoneNumber, siteUrl, locationInfo.getFirst(), locationInfo.getSecond());
-
-        prizeRepository.deleteAllByLiquor(liquor);
-        if(prize!=null){
-            final List<String> prizeList= parse(prize,"\n");
-            for(String s: prizeList){
-                final Prize p= Prize.builder()
-                        .name(s)
-                        .liquor(liquor)
-                        .build();
-                prizeRepository.save(p);
-            }
+    //주소가 그대로면 저장된 위도,경도 사용 (수정된 행마다 지도 api 호출X)
+    private void locate(LiquorSheetRow row, StoredLiquor stored){
+        final String region= liquorUtil.getCodeId(parse(row.getLocation(), " ").get(0));
+        if(stored!=null && stored.getLatitude()!=null && row.getLocation().equals(stored.getLocation())){
+            row.locate(region, stored.getLatitude(), stored.getLongitude());
+            return;
         }
+        final Pair<Double,Double> locationInfo= geocodeService.locate(row.getLocation());
+        if(locationInfo==null) throw new IllegalStateException("geocode not found: "+ row.getLocation());
+        row.locate(region, locationInfo.getFirst(), locationInfo.getSecond());
     }
     
 
-    @Transactional(readOnly = true)
+    //조회한 위도,경도는 geocode에 저장되므로 readOnly 트랜잭션X
     public List<Pair<String,String>> checkDataFormat(String spreadsheetId, List<String> rangeList) throws IOException {
         final List<Pair<String,String>> errorList= new ArrayList<>();
         for(String range: rangeList){
@@ -212,16 +184,7 @@ public class GoogleSheetsService {
                 final String location= row.get(5).toString();
                 if(location.equals("-")) continue;
 
-                final String url = apiUrl + "?query=" + location;
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.set("Authorization", apiKey);
-
-                try{
-                    final HttpEntity<String> request = new HttpEntity<>(headers);
-                    LocationRes locationRes= restTemplate.exchange(url, HttpMethod.GET, request, LocationRes.class).getBody();
-                    final Double latitude= locationRes.documents[0].latitude;
-                } catch(ArrayIndexOutOfBoundsException e){
+                if(geocodeService.locate(location)==null){
                     errorList.add(Pair.of(row.get(0).toString(), "양조장 주소 다시 확인 (위도,경도값 조회X)"));
                 }
 
@@ -263,9 +226,9 @@ public class GoogleSheetsService {
     }
 
 
-    private Object checkEmpty(Object obj){
-        if(obj.equals("-") || obj.equals("")) return null;
-        return obj;
+    @PreDestroy
+    public void shutdown(){
+        fetcher.shutdown();
     }
 
     private List<String> parse(String input, String split) {
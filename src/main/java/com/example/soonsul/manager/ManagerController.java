@@ -2,9 +2,15 @@ package com.example.soonsul.manager;
 
 import com.example.soonsul.liquor.dto.ReviewDto;
 import com.example.soonsul.liquor.response.ReviewListResponse;
+import com.example.soonsul.liquor.service.CounterService;
+import com.example.soonsul.manager.geocode.GeocodeService;
+import com.example.soonsul.notification.dto.PushProgressDto;
+import com.example.soonsul.notification.push.PromotionPushService;
 import com.example.soonsul.response.result.ResultCode;
 import com.example.soonsul.response.result.ResultResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.example.soonsul.util.CodeDictionary;
+import com.example.soonsul.util.LiquorGeoIndex;
+import com.example.soonsul.util.LiquorSuggestIndex;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 @Api(tags="관리자")
@@ -26,6 +33,12 @@ import java.util.List;
 public class ManagerController {
     private final ManagerService managerService;
     private final GoogleSheetsService googleSheetsService;
+    private final CounterService counterService;
+    private final LiquorGeoIndex liquorGeoIndex;
+    private final LiquorSuggestIndex liquorSuggestIndex;
+    private final CodeDictionary codeDictionary;
+    private final PromotionPushService promotionPushService;
+    private final GeocodeService geocodeService;
 
 
     @ApiOperation(value = "모든 전통주 메인사진 s3에 등록")
@@ -54,12 +67,14 @@ public class ManagerController {
     @ApiOperation(value = "전통주 저장")
     @PostMapping("/liquors")
     public ResponseEntity<ResultResponse> postLiquor(String spreadsheetId, String range) throws IOException {
-        googleSheetsService.postLiquor(spreadsheetId, range);
+        googleSheetsService.postLiquor(spreadsheetId, Collections.singletonList(range));
+        liquorGeoIndex.rebuild();
+        liquorSuggestIndex.rebuild();
         return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
     }
 
 
-    @ApiOperation(value = "전통주 저장하기 전에 데이터가 올바른 형식인지 체크", notes = "양조장 주소나 행정구역 이름이 잘못 저장되어 있는 전통주를 리스트로 반환")
+    @ApiOperation(value = "전통주 저장하기 전에 데이터가 올바른 형식인지 체크", notes = "양조장 주소나 행정구역 이름이 잘못 저장되어 있는 전통주를 리스트로 반환, 새로 조회한 주소의 위도,경도는 geocode 테이블에 저장됨")
     @GetMapping("/data-check")
     public ResponseEntity<ResultResponse> checkDataFormat(String spreadsheetId, @RequestParam List<String> range) throws IOException {
         List<Pair<String,String>> data= googleSheetsService.checkDataFormat(spreadsheetId, range);
@@ -80,13 +95,21 @@ public class ManagerController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS, data));
     }
 
-    @ApiOperation(value = "프로모션 저장")
+    @ApiOperation(value = "프로모션 저장", notes = "광고 알림 허용 유저에게 푸시 발송 시작, 발송 작업 jobId 반환")
     @PostMapping(value = "/promotion", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ResultResponse> postPromotion(@RequestPart(value = "thumbnail", required = false) MultipartFile image, @RequestPart(value = "content", required = false) MultipartFile content,
                                                         @RequestPart(value = "title", required = false) String title, @RequestPart(value = "location", required = false) String location,
-                                                        @RequestParam(value = "beginDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beginDate, @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) throws FirebaseMessagingException {
-        managerService.postPromotion(image, content, title, location, beginDate, endDate);
-        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+                                                        @RequestParam(value = "beginDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beginDate, @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        final Long jobId= managerService.postPromotion(image, content, title, location, beginDate, endDate);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS, jobId));
+    }
+
+
+    @ApiOperation(value = "프로모션 푸시 발송 진행 상황", notes = "프로모션 저장 응답의 jobId로 조회")
+    @GetMapping(value = "/promotion/push/{jobId}")
+    public ResponseEntity<ResultResponse> getPromotionPush(@PathVariable("jobId") Long jobId) {
+        final PushProgressDto data= promotionPushService.getProgress(jobId);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS, data));
     }
 
     @ApiOperation(value = "프로모션 삭제")
@@ -97,6 +120,46 @@ public class ManagerController {
     }
 
 
+    @ApiOperation(value = "좋아요수, 댓글수, 리뷰수 재계산", notes = "카운터 컬럼을 실제 데이터 기준으로 다시 맞춤 (매일 04:30 자동 실행)")
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<ResultResponse> reconcileCounters() {
+        counterService.reconcileCounters();
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+    }
+
+
+    @ApiOperation(value = "코드 테이블 다시 불러오기", notes = "code 테이블 수정 후 실행 (10분마다 자동 실행)")
+    @PostMapping("/codes/reload")
+    public ResponseEntity<ResultResponse> reloadCodes() {
+        codeDictionary.reload();
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+    }
+
+
+    @ApiOperation(value = "주소 좌표 캐시 삭제", notes = "해당 주소의 위도,경도를 메모리와 geocode 테이블에서 삭제, 다음 import 때 지도 api로 다시 조회")
+    @DeleteMapping("/geocodes")
+    public ResponseEntity<ResultResponse> evictGeocode(@RequestParam String address) {
+        geocodeService.evict(address);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+    }
+
+
+    @ApiOperation(value = "주소 좌표 캐시 다시 불러오기", notes = "geocode 테이블 직접 수정 후 실행, 요청 받은 서버의 메모리만 비움")
+    @PostMapping("/geocodes/reload")
+    public ResponseEntity<ResultResponse> reloadGeocodes() {
+        geocodeService.clear();
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+    }
+
+
+    @ApiOperation(value = "평점, 맛 평가 합계 재계산", notes = "personal_evaluation 기준으로 합계/인원수/평균 평점을 다시 맞춤 (매일 04:30 자동 실행)")
+    @PostMapping("/evaluations/reconcile")
+    public ResponseEntity<ResultResponse> reconcileEvaluations() {
+        counterService.reconcileEvaluations();
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.MANAGE_ACTION_SUCCESS));
+    }
+
+
     @ApiOperation(value = "모든 리뷰 조회")
     @GetMapping("/reviews")
     public ResponseEntity<ReviewListResponse> getAllReview() {
@@ -1,27 +1,26 @@
 package com.example.soonsul.manager;
 
+import com.example.soonsul.cache.CacheKey;
 import com.example.soonsul.config.s3.S3Uploader;
 import com.example.soonsul.liquor.dto.ReviewDto;
 import com.example.soonsul.liquor.entity.*;
 import com.example.soonsul.liquor.repository.*;
 import com.example.soonsul.manager.dto.LocationRes;
-import com.example.soonsul.notification.NotificationRepository;
 import com.example.soonsul.notification.NotificationService;
-import com.example.soonsul.notification.dto.PushNotification;
 import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.push.PromotionPushService;
 import com.example.soonsul.promotion.PromotionRepository;
 import com.example.soonsul.promotion.entity.Promotion;
 import com.example.soonsul.promotion.exception.PromotionNotExist;
 import com.example.soonsul.response.error.ErrorCode;
-import com.example.soonsul.user.entity.User;
-import com.example.soonsul.user.repository.UserRepository;
+import com.example.soonsul.util.LiquorSearchIndex;
 import com.example.soonsul.util.LiquorUtil;
 import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.model.ValueRange;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -30,6 +29,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,12 +42,12 @@ public class ManagerService {
     private final EvaluationRepository evaluationRepository;
     private final EvaluationNumberRepository numberRepository;
     private final PromotionRepository promotionRepository;
-    private final UserRepository userRepository;
     private final NotificationService notificationService;
-    private final NotificationRepository notificationRepository;
     private final PrizeRepository prizeRepository;
     private final Sheets sheetsService;
     private final ReviewRepository reviewRepository;
+    private final LiquorSearchIndex liquorSearchIndex;
+    private final PromotionPushService promotionPushService;
 
     @Value("${map.kakao.apiKey}")
     private String apiKey;
@@ -59,24 +59,32 @@ public class ManagerService {
 
 
     @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
     public void postMainPhoto(List<MultipartFile> images) {
+        final List<Liquor> changed= new ArrayList<>();
         for (MultipartFile image : images) {
             final String liquorId = image.getOriginalFilename().substring(0, 8);
             final Liquor liquor = liquorUtil.getLiquor(liquorId);
             //if (liquor.getImageUrl() != null || !liquor.getImageUrl().equals(""))
             //    s3Uploader.deleteFile(liquor.getImageUrl());
             liquor.updateImageUrl(s3Uploader.liquorMainUpload(image));
+            changed.add(liquor);
         }
+        liquorSearchIndex.update(changed);
     }
 
 
     @Transactional
+    @CacheEvict(value = CacheKey.LIQUOR, allEntries = true, cacheManager = "cacheManager")
     public void postDefaultPhoto() {
         final List<Liquor> list= liquorRepository.findAll();
+        final List<Liquor> changed= new ArrayList<>();
         for(Liquor liquor: list){
             if(liquor.getImageUrl()!=null) continue;
             liquor.updateImageUrl("https://cdn.discordapp.com/attachments/1103554508484792390/1154012305667928074/IMG_2787.png");
+            changed.add(liquor);
         }
+        liquorSearchIndex.update(changed);
     }
 
 
@@ -90,12 +98,6 @@ public class ManagerService {
 
             final Evaluation evaluation = Evaluation.builder()
                     .evaluationId(liquor.getLiquorId())
-                    .sweetness(0.0)
-                    .acidity(0.0)
-                    .carbonicAcid(0.0)
-                    .heavy(0.0)
-                    .scent(0.0)
-                    .density(0.0)
                     .build();
             evaluationRepository.save(evaluation);
 
@@ -114,9 +116,10 @@ public class ManagerService {
     }
 
 
+    //푸시 발송은 커밋 후 백그라운드에서 진행, 발송 작업 pk 반환
     @Transactional
-    public void postPromotion(MultipartFile image, MultipartFile content, String title,
-                              String location, LocalDate beginDate, LocalDate endDate) throws FirebaseMessagingException {
+    public Long postPromotion(MultipartFile image, MultipartFile content, String title,
+                              String location, LocalDate beginDate, LocalDate endDate) {
         final Promotion promotion= Promotion.builder()
                 .image(s3Uploader.promotionUpload(image,"thumbnail"))
                 .content(s3Uploader.promotionUpload(content,"content"))
@@ -126,16 +129,7 @@ public class ManagerService {
                 .endDate(endDate)
                 .build();
         final Long promotionId= promotionRepository.save(promotion).getPromotionId();
-
-        final List<User> userList= userRepository.findAll();
-        for(User user: userList){
-            if(!user.isFlagAdvertising()) continue;
-            final PushNotification pushNotification= PushNotification.builder()
-                    .objectId(promotionId)
-                    .receiveUser(user)
-                    .build();
-            notificationService.sendNotification(NotificationType.PROMOTION, pushNotification);
-        }
+        return promotionPushService.dispatch(promotionId).getJobId();
     }
 
 
@@ -146,7 +140,7 @@ public class ManagerService {
         s3Uploader.deleteFile(promotion.getImage());
         s3Uploader.deleteFile(promotion.getContent());
         promotionRepository.deleteById(promotionId);
-        notificationRepository.deleteByTypeAndObjectId(NotificationType.PROMOTION, promotionId);
+        notificationService.deleteNotifications(Collections.singletonList(NotificationType.PROMOTION), Collections.singletonList(promotionId));
     }
 
 
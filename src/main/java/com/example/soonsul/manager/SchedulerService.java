@@ -1,18 +1,32 @@
 package com.example.soonsul.manager;
 
+import com.example.soonsul.liquor.service.CounterService;
+import com.example.soonsul.util.LiquorGeoIndex;
+import com.example.soonsul.util.LiquorSuggestIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SchedulerService {
+    //카운터 컬럼 추가 후 한번만 실행할 backfill, 다시 실행하려면 키 삭제 (또는 /manager/counters/reconcile 호출)
+    private static final String BACKFILL_KEY= "reconcile:backfill:v1";
+
     private final GoogleSheetsService googleSheetsService;
+    private final CounterService counterService;
+    private final LiquorGeoIndex liquorGeoIndex;
+    private final LiquorSuggestIndex liquorSuggestIndex;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Value("${google-sheet-id}")
     private String spreadsheetId;
@@ -22,10 +36,33 @@ public class SchedulerService {
 
 
     @Scheduled(cron = "0 0 0 * * *")
-    private void SheetDataToDB() throws IOException {
-        for(String range: rangeList){
-            googleSheetsService.postLiquor(spreadsheetId, range);
+    private void SheetDataToDB() {
+        googleSheetsService.postLiquor(spreadsheetId, rangeList);
+        liquorGeoIndex.rebuild();
+        liquorSuggestIndex.rebuild();
+    }
+
+
+    //카운터, 평가 합계 컬럼은 0으로 추가되므로 처음 배포된 서버 하나만 실제 row 기준으로 한번 맞춤
+    //이후 어긋나는 값은 04:30 작업에서 맞춤, 실패하면 키를 지워서 다음 시작 때 다시 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        if(!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(BACKFILL_KEY, "running"))) return;
+        try{
+            counterService.reconcileCounters();
+            counterService.reconcileEvaluations();
+            stringRedisTemplate.opsForValue().set(BACKFILL_KEY, "done");
+        } catch (RuntimeException e){
+            stringRedisTemplate.delete(BACKFILL_KEY);
+            log.error("counter backfill failed", e);
         }
     }
 
+
+    @Scheduled(cron = "0 30 4 * * *")
+    private void reconcileCounters() {
+        counterService.reconcileCounters();
+        counterService.reconcileEvaluations();
+    }
+
 }
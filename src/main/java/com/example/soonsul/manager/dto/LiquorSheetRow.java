@@ -0,0 +1,98 @@
+package com.example.soonsul.manager.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+//구글 시트 전통주 한 행, A~M열 내용으로 hash를 만들어서 저장된 hash와 다를 때만 반영
+@Getter
+public class LiquorSheetRow {
+    private static final int HASH_COLUMNS= 13;
+    private static final String MAIN_IMAGE_URL= "https://soonsool-bucket.s3.ap-northeast-2.amazonaws.com/liquor/main/";
+    private static final String DEFAULT_IMAGE_URL= "https://cdn.discordapp.com/attachments/1103554508484792390/1154012305667928074/IMG_2787.png";
+
+    private final String liquorId;
+    private final String name;
+    private final Double alcohol;
+    private final String ingredient;
+    private final String brewery;
+    private final String location;
+    private final Integer capacity;
+    private final Long lowestPrice;
+    private final String salePlace;
+    private final String siteUrl;
+    private final String phoneNumber;
+    private final List<String> prizeList;
+    private final String presenceImage;
+    private final String hash;
+
+    //양조장 주소로 계산하는 값
+    private String region;
+    private Double latitude;
+    private Double longitude;
+
+
+    private LiquorSheetRow(List<Object> row){
+        this.liquorId= cell(row, 0);
+        this.name= cell(row, 1);
+        this.alcohol= (cell(row, 2)==null) ? null : Double.valueOf(cell(row, 2));
+        this.ingredient= cell(row, 3);
+        this.brewery= cell(row, 4);
+        this.location= cell(row, 5);
+        this.capacity= (cell(row, 6)==null) ? null : Integer.valueOf(cell(row, 6));
+        this.lowestPrice= (cell(row, 7)==null) ? null : Long.valueOf(cell(row, 7));
+        this.salePlace= cell(row, 8);
+        this.siteUrl= cell(row, 9);
+        this.phoneNumber= cell(row, 10);
+        this.prizeList= (cell(row, 11)==null) ? new ArrayList<>() : Arrays.asList(cell(row, 11).split("\n"));
+        this.presenceImage= (cell(row, 12)==null) ? null : cell(row, 12).substring(0, 1);
+        this.hash= hash(row);
+    }
+
+    public static LiquorSheetRow of(List<Object> row){
+        return new LiquorSheetRow(row);
+    }
+
+
+    public void locate(String region, Double latitude, Double longitude){
+        this.region= region;
+        this.latitude= latitude;
+        this.longitude= longitude;
+    }
+
+    public String getImageUrl(){
+        if("O".equals(presenceImage)) return MAIN_IMAGE_URL+ liquorId+ "_main.png";
+        return DEFAULT_IMAGE_URL;
+    }
+
+    public String getLiquorCategory(){
+        return liquorId.substring(0, 4);
+    }
+
+
+    private static String cell(List<Object> row, int index){
+        if(index>=row.size()) return null;
+        final String value= row.get(index).toString();
+        if(value.equals("-") || value.equals("")) return null;
+        return value;
+    }
+
+    private static String hash(List<Object> row){
+        final StringBuilder sb= new StringBuilder();
+        for(int i=0; i<HASH_COLUMNS; i++){
+            sb.append(i<row.size() ? row.get(i).toString() : "").append('\u001F');
+        }
+        try{
+            final byte[] digest= MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e){
+            throw new IllegalStateException(e);
+        }
+    }
+}
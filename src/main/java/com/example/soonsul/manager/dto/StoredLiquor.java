@@ -0,0 +1,14 @@
+package com.example.soonsul.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredLiquor {
+    private final String liquorId;
+    private final String sourceHash;
+    private final String location;
+    private final Double latitude;
+    private final Double longitude;
+}
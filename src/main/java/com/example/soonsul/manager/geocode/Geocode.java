@@ -0,0 +1,29 @@
+package com.example.soonsul.manager.geocode;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+//양조장 주소별 위도,경도 (address: 공백을 정리한 주소)
+@Getter
+@AllArgsConstructor
+@Builder
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="geocode")
+public class Geocode {
+
+    @Id
+    @Column(name = "address", nullable = false, unique = true)
+    private String address;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+}
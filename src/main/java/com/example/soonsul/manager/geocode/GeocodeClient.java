@@ -0,0 +1,10 @@
+package com.example.soonsul.manager.geocode;
+
+import org.springframework.data.util.Pair;
+
+//주소 -> (위도, 경도) 변환 (운영: 카카오 지도, 테스트: stub)
+public interface GeocodeClient {
+
+    //검색 결과가 없으면 null
+    Pair<Double, Double> locate(String address);
+}
@@ -0,0 +1,8 @@
+package com.example.soonsul.manager.geocode;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeocodeRepository extends JpaRepository<Geocode, String> {
+}
@@ -0,0 +1,111 @@
+package com.example.soonsul.manager.geocode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+//주소 -> 위도,경도 캐시: 메모리 -> DB(geocode) -> 지도 api 순서로 조회
+//양조장 주소는 수백 개 수준이라 메모리에는 조회한 주소를 모두 보관, 결과가 없는 주소는 저장X (시트 수정 후 다시 조회)
+@Slf4j
+@Service
+public class GeocodeService {
+    private final GeocodeRepository geocodeRepository;
+    private final GeocodeClient geocodeClient;
+
+    private final Map<String, Pair<Double, Double>> memory= new ConcurrentHashMap<>();
+    private final Counter memoryCounter;
+    private final Counter dbCounter;
+    private final Counter remoteCounter;
+
+
+    public GeocodeService(GeocodeRepository geocodeRepository, GeocodeClient geocodeClient, MeterRegistry meterRegistry){
+        this.geocodeRepository= geocodeRepository;
+        this.geocodeClient= geocodeClient;
+        this.memoryCounter= meterRegistry.counter("geocode.lookup", "source", "memory");
+        this.dbCounter= meterRegistry.counter("geocode.lookup", "source", "db");
+        this.remoteCounter= meterRegistry.counter("geocode.lookup", "source", "remote");
+    }
+
+
+    //import 전에 필요한 주소를 한번의 쿼리로 메모리에 올림
+    public void prefetch(Collection<String> addresses){
+        final Set<String> missing= new HashSet<>();
+        for(String address: addresses){
+            if(address==null) continue;
+            final String key= normalize(address);
+            if(!memory.containsKey(key)) missing.add(key);
+        }
+        if(missing.isEmpty()) return;
+        for(Geocode g: geocodeRepository.findAllById(missing)){
+            memory.put(g.getAddress(), Pair.of(g.getLatitude(), g.getLongitude()));
+        }
+    }
+
+
+    //검색 결과가 없으면 null
+    public Pair<Double, Double> locate(String address){
+        final String key= normalize(address);
+        final Pair<Double, Double> cached= memory.get(key);
+        if(cached!=null){
+            memoryCounter.increment();
+            return cached;
+        }
+
+        final Optional<Geocode> stored= geocodeRepository.findById(key);
+        if(stored.isPresent()){
+            dbCounter.increment();
+            final Pair<Double, Double> location= Pair.of(stored.get().getLatitude(), stored.get().getLongitude());
+            memory.put(key, location);
+            return location;
+        }
+
+        remoteCounter.increment();
+        final Pair<Double, Double> location= geocodeClient.locate(key);
+        if(location==null || location.getFirst()==null || location.getSecond()==null) return null;
+        memory.put(key, location);
+        save(key, location);
+        return location;
+    }
+
+
+    //잘못 저장된 좌표 삭제 (메모리, DB 모두), 다음 조회 때 지도 api로 다시 조회
+    @Transactional
+    public void evict(String address){
+        final String key= normalize(address);
+        memory.remove(key);
+        if(geocodeRepository.existsById(key)) geocodeRepository.deleteById(key);
+    }
+
+    //geocode 테이블을 직접 수정한 경우, 메모리만 비우고 다음 조회 때 DB에서 다시 불러옴
+    public void clear(){
+        memory.clear();
+    }
+
+
+    //같은 주소를 동시에 조회해서 먼저 저장된 경우는 무시
+    private void save(String address, Pair<Double, Double> location){
+        try{
+            geocodeRepository.save(Geocode.builder()
+                    .address(address)
+                    .latitude(location.getFirst())
+                    .longitude(location.getSecond())
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e){
+            log.debug("geocode already saved: {}", address);
+        }
+    }
+
+    //앞뒤 공백 제거, 연속 공백은 하나로
+    public static String normalize(String address){
+        return address.trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.soonsul.manager.geocode;
+
+import com.example.soonsul.manager.dto.LocationRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.util.Pair;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class KakaoGeocodeClient implements GeocodeClient {
+    private final RestTemplate restTemplate;
+
+    @Value("${map.kakao.apiKey}")
+    private String apiKey;
+
+    @Value("${map.kakao.apiUrl}")
+    private String apiUrl;
+
+
+    @Override
+    public Pair<Double, Double> locate(String address) {
+        final String url = apiUrl + "?query=" + address;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", apiKey);
+
+        final HttpEntity<String> request = new HttpEntity<>(headers);
+        LocationRes response= restTemplate.exchange(url, HttpMethod.GET, request, LocationRes.class).getBody();
+
+        if(response==null || response.documents==null || response.documents.length==0) return null;
+        return Pair.of(response.documents[0].latitude, response.documents[0].longitude);
+    }
+}
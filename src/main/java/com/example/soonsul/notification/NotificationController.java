@@ -23,10 +23,11 @@ public class NotificationController {
     private final NotificationService notificationService;
 
 
-    @ApiOperation(value = "알림 내역 모두 조회")
+    @ApiOperation(value = "알림 내역 모두 조회", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping(value = "/notifications")
-    public ResponseEntity<NotificationListResponse> getNotificationList(@PageableDefault(size=10, sort = "notification_id", direction = Sort.Direction.DESC) Pageable pageable) {
-        final List<NotificationDto> data= notificationService.getNotificationList(pageable);
+    public ResponseEntity<NotificationListResponse> getNotificationList(@PageableDefault(size=10, sort = "notification_id", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                        @RequestParam(value = "after", required = false) Long after) {
+        final List<NotificationDto> data= notificationService.getNotificationList(pageable, after);
         return ResponseEntity.ok(NotificationListResponse.of(ResultCode.GET_NOTIFICATION_LIST_SUCCESS, data));
     }
 
@@ -46,4 +47,20 @@ public class NotificationController {
         return ResponseEntity.ok(ResultResponse.of(ResultCode.PUT_NEW_NOTIFICATION_SUCCESS));
     }
 
+
+    @ApiOperation(value = "알림 모두 읽음", notes = "upTo: 받은 알림 중 가장 최근 알림 id, 이 id 이하의 알림을 한번에 읽음으로 수정")
+    @PutMapping("/notifications/read")
+    public ResponseEntity<ResultResponse> putReadNotification(@RequestParam("upTo") Long upTo) {
+        notificationService.putReadNotification(upTo);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.PUT_NEW_NOTIFICATION_SUCCESS));
+    }
+
+
+    @ApiOperation(value = "읽지 않은 알림 수 조회 (뱃지)")
+    @GetMapping(value = "/notifications/unread-count")
+    public ResponseEntity<ResultResponse> getUnreadNumber() {
+        final int data= notificationService.getUnreadNumber();
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GET_UNREAD_NOTIFICATION_NUMBER_SUCCESS, data));
+    }
+
 }
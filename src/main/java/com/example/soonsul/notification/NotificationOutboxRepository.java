@@ -0,0 +1,26 @@
+package com.example.soonsul.notification;
+
+import com.example.soonsul.notification.entity.NotificationOutbox;
+import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    //다른 서버의 relay는 커밋(next_attempt_at 변경)까지 기다렸다가 남은 행만 가져감
+    @Query(nativeQuery = true,
+            value="SELECT * FROM notification_outbox o WHERE o.next_attempt_at <= :now" +
+                    " ORDER BY o.outbox_id LIMIT :size FOR UPDATE")
+    List<NotificationOutbox> findReadyForUpdate(@Param("now") LocalDateTime now, @Param("size") int size);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="DELETE FROM notification_outbox WHERE type IN (:types) AND object_id IN (:objectIds)")
+    int deleteAllByTypeAndObjectId(@Param("types") List<String> types, @Param("objectIds") List<Long> objectIds);
+}
@@ -0,0 +1,125 @@
+package com.example.soonsul.notification;
+
+import com.example.soonsul.notification.dto.OutboxMessage;
+import com.example.soonsul.notification.dto.PushNotification;
+import com.example.soonsul.notification.entity.NotificationOutbox;
+import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.entity.Notifications;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import com.example.soonsul.util.UserUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+//활동 알림 outbox: 팔로우/좋아요/댓글과 같은 트랜잭션에 저장, 알림 저장과 발송은 NotificationRelay가 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    public static final int MAX_ATTEMPT= 5;
+    private static final Duration LEASE= Duration.ofMinutes(1);     //발송 중 서버가 죽으면 1분 뒤 다시 발송
+    private static final long BACKOFF_SECONDS= 10;
+
+    private final UserUtil userUtil;
+    private final UserRepository userRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(NotificationType type, PushNotification pushNotification){
+        final User receiveUser= pushNotification.getReceiveUser();
+        if(!receiveUser.isFlagActivity()) return;
+        final User user= userUtil.getUserByAuthentication();
+        if(Objects.equals(receiveUser.getUserId(), user.getUserId())) return;
+
+        final LocalDateTime now= LocalDateTime.now();
+        final NotificationOutbox outbox= NotificationOutbox.builder()
+                .type(type)
+                .objectId(pushNotification.getObjectId())
+                .content(getContent(type, user.getNickname()))
+                .sendUserId(user.getUserId())
+                .receiveUser(receiveUser)
+                .targetId(pushNotification.getTargetId())
+                .excerpt(Notifications.excerpt(pushNotification.getExcerpt()))
+                .createdDate(now)
+                .flagSaved(false)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+        notificationOutboxRepository.save(outbox);
+    }
+
+
+    //발송할 행을 잠그고 알림 저장, 발송하는 동안은 다른 relay가 가져가지 않도록 lease만큼 미룸
+    @Transactional
+    public List<OutboxMessage> claim(int size){
+        final LocalDateTime now= LocalDateTime.now();
+        final List<NotificationOutbox> list= notificationOutboxRepository.findReadyForUpdate(now, size);
+        if(list.isEmpty()) return new ArrayList<>();
+
+        //receiveUser 지연 로딩을 한번에
+        userRepository.findAllById(list.stream().map(o -> o.getReceiveUser().getUserId()).distinct().collect(Collectors.toList()));
+
+        final List<Notifications> notifications= new ArrayList<>();
+        final List<OutboxMessage> result= new ArrayList<>();
+        for(NotificationOutbox outbox: list){
+            if(!outbox.isFlagSaved()) notifications.add(outbox.toNotification());
+            outbox.updateNextAttemptAt(now.plus(LEASE));
+            result.add(new OutboxMessage(outbox.getOutboxId(), outbox.getReceiveUser().getDeviceToken(), outbox.getContent()));
+        }
+        notificationRepository.saveAll(notifications);
+        increaseUnreadNumber(notifications);
+        return result;
+    }
+
+
+    //발송 완료(영구 실패 포함)는 삭제, 일시적인 실패는 10초, 20초, 40초.. 뒤 다시 발송
+    @Transactional
+    public void complete(List<Long> doneIds, List<Long> retryIds){
+        final List<Long> deleteIds= new ArrayList<>(doneIds);
+        final LocalDateTime now= LocalDateTime.now();
+        for(NotificationOutbox outbox: notificationOutboxRepository.findAllById(retryIds)){
+            if(outbox.getAttempts()+ 1>=MAX_ATTEMPT){
+                log.warn("notification push given up: outbox={}, type={}", outbox.getOutboxId(), outbox.getType());
+                deleteIds.add(outbox.getOutboxId());
+            }
+            else outbox.retry(now.plusSeconds(BACKOFF_SECONDS<< outbox.getAttempts()));
+        }
+        if(!deleteIds.isEmpty()) notificationOutboxRepository.deleteAllByIdInBatch(deleteIds);
+    }
+
+
+    //받는 유저별 알림 수가 같은 유저끼리 묶어서 한번에 증가
+    private void increaseUnreadNumber(List<Notifications> notifications){
+        final Map<String, Long> countMap= notifications.stream()
+                .collect(Collectors.groupingBy(n -> n.getReceiveUser().getUserId(), Collectors.counting()));
+        final Map<Long, List<String>> byCount= new HashMap<>();
+        countMap.forEach((userId, count) -> byCount.computeIfAbsent(count, k -> new ArrayList<>()).add(userId));
+        byCount.forEach((count, userIds) -> userRepository.updateUnreadNumber(userIds, count.intValue()));
+    }
+
+
+    private String getContent(NotificationType type, String nickName){
+        switch (type){
+            case FOLLOW:
+                return nickName+ "님이 팔로우했습니다.";
+            case REVIEW_GOOD:
+                return nickName+ "님이 회원님의 리뷰를 좋아합니다.";
+            case COMMENT:
+                return nickName+ "님이 회원님의 리뷰에 댓글을 남겼습니다.";
+            case RECOMMENT:
+                return nickName+ "님이 댓글을 작성했습니다.";
+            default:
+                return null;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.soonsul.notification;
 
-import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.notification.entity.Notifications;
 import io.lettuce.core.dynamic.annotation.Param;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,13 +18,60 @@ public interface NotificationRepository extends JpaRepository<Notifications, Lon
 
     @Query(nativeQuery = true,
             value="SELECT * FROM notification n WHERE n.user_id = :userId" +
+                    " AND n.date >= :since" +
                     " ORDER BY n.notification_id DESC")
-    Page<Notifications> findAllByUser(Pageable pageable, @Param("userId") String userId);
+    Slice<Notifications> findAllByUser(Pageable pageable, @Param("userId") String userId, @Param("since") LocalDateTime since);
 
     @Query(nativeQuery = true,
             value="SELECT * FROM notification n WHERE n.user_id = :userId" +
-                    " AND n.flag_read = false")
-    List<Notifications> findNewNotification(@Param("userId") String userId);
+                    " AND n.notification_id < :after AND n.date >= :since" +
+                    " ORDER BY n.notification_id DESC")
+    Slice<Notifications> findAllByUserAfter(Pageable pageable, @Param("userId") String userId, @Param("after") Long after,
+                                            @Param("since") LocalDateTime since);
+
+    //읽지 않은 알림만 바꾸고 바뀐 개수 반환 (unread 카운터 차감)
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE notification n SET n.flag_read = true WHERE n.user_id = :userId" +
+                    " AND n.notification_id IN (:ids) AND n.flag_read = false")
+    int updateFlagRead(@Param("userId") String userId, @Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE notification n SET n.flag_read = true WHERE n.user_id = :userId" +
+                    " AND n.notification_id <= :upTo AND n.flag_read = false")
+    int updateFlagReadUpTo(@Param("userId") String userId, @Param("upTo") Long upTo);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="DELETE FROM notification WHERE type IN (:types) AND object_id IN (:objectIds)")
+    int deleteAllByTypeAndObjectId(@Param("types") List<String> types, @Param("objectIds") List<Long> objectIds);
+
+    //삭제하기 전에 읽지 않은 알림 수만큼 받은 유저의 unread 카운터 차감
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE user u JOIN" +
+                    " (SELECT n.user_id, COUNT(*) AS cnt FROM notification n" +
+                    " WHERE n.type IN (:types) AND n.object_id IN (:objectIds) AND n.flag_read = false" +
+                    " GROUP BY n.user_id) s ON s.user_id = u.user_id" +
+                    " SET u.unread_number = u.unread_number - s.cnt")
+    int decreaseUnreadNumber(@Param("types") List<String> types, @Param("objectIds") List<Long> objectIds);
 
-    void deleteByTypeAndObjectId(NotificationType type, Long objectId);
+    //유저 목록에 같은 알림을 한번에 저장
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true,
+            value="INSERT INTO notification (content, date, flag_read, type, object_id, target_id, excerpt, user_id)" +
+                    " SELECT :content, :date, false, :type, :objectId, :objectId, '', u.user_id FROM user u" +
+                    " WHERE u.user_id IN (:userIds)")
+    int insertAll(@Param("content") String content, @Param("date") LocalDateTime date, @Param("type") String type,
+                  @Param("objectId") Long objectId, @Param("userIds") List<String> userIds);
+
+    //리뷰, 댓글 수정 시 알림에 저장된 내용도 같이 수정
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE notification n SET n.excerpt = :excerpt" +
+                    " WHERE n.target_id = :targetId AND n.type IN (:types)")
+    int updateExcerpt(@Param("types") List<String> types, @Param("targetId") Long targetId, @Param("excerpt") String excerpt);
 }
@@ -5,19 +5,14 @@ import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.liquor.repository.CommentRepository;
 import com.example.soonsul.liquor.repository.ReviewGoodRepository;
 import com.example.soonsul.notification.dto.NotificationDto;
-import com.example.soonsul.notification.dto.PushNotification;
 import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.notification.entity.Notifications;
-import com.example.soonsul.notification.exception.NotificationNotExist;
-import com.example.soonsul.response.error.ErrorCode;
 import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
 import com.example.soonsul.util.UserUtil;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +21,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.data.util.Pair;
@@ -36,24 +33,28 @@ import org.springframework.data.util.Pair;
 public class NotificationService {
     private final UserUtil userUtil;
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
     private final ReviewGoodRepository reviewGoodRepository;
     private final CommentRepository commentRepository;
 
 
     @Transactional(readOnly = true)
-    public List<NotificationDto> getNotificationList(Pageable pageable){
+    public List<NotificationDto> getNotificationList(Pageable pageable, Long after){
         final User user= userUtil.getUserByAuthentication();
-        final List<Notifications> list= notificationRepository.findAllByUser(pageable, user.getUserId()).toList();
+        final List<Notifications> list= (after==null)
+                ? notificationRepository.findAllByUser(pageable, user.getUserId(), since(LocalDate.now())).toList()
+                : notificationRepository.findAllByUserAfter(PageRequest.of(0, pageable.getPageSize()), user.getUserId(), after, since(LocalDate.now())).toList();
 
         final List<NotificationDto> result= new ArrayList<>();
         for(Notifications notification: list){
             final String date= dateConversion(notification.getDate());
-            final Pair<Long, String> object= getObject(notification.getType(), notification.getObjectId());
+            final Pair<Long, String> object= getTarget(notification);
             final NotificationDto dto= NotificationDto.builder()
                     .notificationId(notification.getNotificationId())
                     .content(notification.getContent())
                     .date(date)
-                    .time(date!=null ? timeConversion(notification.getDate()) : null)
+                    .time(timeConversion(notification.getDate()))
                     .flagRead(notification.isFlagRead())
                     .objectId(object!=null ? object.getFirst() : null)
                     .type(notification.getType())
@@ -62,7 +63,16 @@ public class NotificationService {
                     .build();
             result.add(dto);
         }
-        return result.stream().filter(dto-> dto.getDate()!=null).collect(Collectors.toList());
+        return result;
+    }
+
+    //dateConversion이 이름을 붙이는 구간(어제, 이번주, 이번달) 중 가장 이른 날부터, 그 전 알림은 보여주지 않음
+    //월요일이면서 1일인 날은 이번주, 이번달 모두 오늘부터라 어제가 가장 이름
+    static LocalDateTime since(LocalDate today){
+        final LocalDate yesterday = today.minusDays(1);
+        final LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() - 1);
+        final LocalDate startOfMonth = today.withDayOfMonth(1);
+        return Collections.min(Arrays.asList(yesterday, startOfWeek, startOfMonth)).atStartOfDay();
     }
 
     private String dateConversion(LocalDateTime request){
@@ -99,6 +109,12 @@ public class NotificationService {
         }
     }
 
+    //생성할 때 저장한 대상 정보, 없으면(이전에 저장된 알림) 조회
+    private Pair<Long, String> getTarget(Notifications notification){
+        if(notification.getTargetId()!=null) return Pair.of(notification.getTargetId(), notification.getExcerpt());
+        return getObject(notification.getType(), notification.getObjectId());
+    }
+
     private Pair<Long, String> getObject(NotificationType type, Long objectId){
         switch (type){
             case REVIEW_GOOD:
@@ -118,118 +134,57 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public boolean getNewNotification(){
-        final User user= userUtil.getUserByAuthentication();
-        return !notificationRepository.findNewNotification(user.getUserId()).isEmpty();
+        return getUnreadNumber()>0;
     }
 
 
-    @Transactional
-    public void putNewNotification(List<Long> idList){
-        for(Long id: idList){
-            final Notifications notification= notificationRepository.findById(id)
-                    .orElseThrow(()-> new NotificationNotExist("notification not exist", ErrorCode.NOTIFICATION_NOT_EXIST));
-            notification.updateFlagRead(true);
-        }
+    //알림 저장, 읽음, 삭제 시 같이 바뀌는 user.unread_number 조회
+    @Transactional(readOnly = true)
+    public int getUnreadNumber(){
+        final User user= userUtil.getUserByAuthentication();
+        final Integer number= userRepository.findUnreadNumber(user.getUserId());
+        return number==null ? 0 : number;
     }
 
 
     @Transactional
-    public void sendNotification(NotificationType type, PushNotification pushNotification) throws FirebaseMessagingException {
-        switch (type) {
-            case FOLLOW:
-            case REVIEW_GOOD:
-            case COMMENT:
-            case RECOMMENT:
-                if(!pushNotification.getReceiveUser().isFlagActivity()) return;
-                sendActivityNotification(type, pushNotification);
-            case PROMOTION:
-                if(!pushNotification.getReceiveUser().isFlagAdvertising()) return;
-                sendAdvertisingNotification(type, pushNotification);
-            default:
-        }
-    }
-
-    private void sendActivityNotification(NotificationType type, PushNotification pushNotification) throws FirebaseMessagingException{
-        final String token = pushNotification.getReceiveUser().getDeviceToken();
+    public void putNewNotification(List<Long> idList){
+        if(idList.isEmpty()) return;
         final User user= userUtil.getUserByAuthentication();
-        if(pushNotification.getReceiveUser()==user) return;
-        final String content = getContent(type, user.getNickname());
-
-        saveNotifications(content, type, pushNotification.getObjectId(), user.getUserId(), pushNotification.getReceiveUser());
-        sendPersonalAlarm(content, token);
+        decreaseUnreadNumber(user, notificationRepository.updateFlagRead(user.getUserId(), idList));
     }
 
-    private void sendAdvertisingNotification(NotificationType type, PushNotification pushNotification) throws FirebaseMessagingException{
-        final String token = pushNotification.getReceiveUser().getDeviceToken();
-        final String content = getContent(type, null);
 
-        saveNotifications(content, type, pushNotification.getObjectId(), null, pushNotification.getReceiveUser());
-        sendPersonalAlarm(content, token);
+    //notificationId 이하의 알림을 한번에 읽음으로
+    @Transactional
+    public void putReadNotification(Long upTo){
+        final User user= userUtil.getUserByAuthentication();
+        decreaseUnreadNumber(user, notificationRepository.updateFlagReadUpTo(user.getUserId(), upTo));
     }
 
-    private String getContent(NotificationType type, String nickName){
-        switch (type){
-            case FOLLOW:
-                return nickName+ "님이 팔로우했습니다.";
-            case REVIEW_GOOD:
-                return nickName+ "님이 회원님의 리뷰를 좋아합니다.";
-            case COMMENT:
-                return nickName+ "님이 회원님의 리뷰에 댓글을 남겼습니다.";
-            case RECOMMENT:
-                return nickName+ "님이 댓글을 작성했습니다.";
-            case PROMOTION:
-                return "새로운 프로모션이 등록되었습니다.";
-            default:
-                return null;
-        }
+    private void decreaseUnreadNumber(User user, int number){
+        if(number>0) userRepository.updateUnreadNumber(Collections.singletonList(user.getUserId()), -number);
     }
 
-    private void saveNotifications(String content, NotificationType type, Long objectId, String sendUserId, User receiveUser){
-        if(type==NotificationType.PROMOTION) sendUserId= null;
-
-        Notifications notification = Notifications.builder()
-                .content(content)
-                .date(LocalDateTime.now())
-                .flagRead(false)
-                .type(type)
-                .objectId(objectId)
-                .sendUserId(sendUserId)
-                .receiveUser(receiveUser)
-                .build();
-        notificationRepository.save(notification);
-    }
 
-    private void sendPersonalAlarm(String content, String token) throws FirebaseMessagingException {
-        try{
-            Message message = Message.builder()
-                    .putData("time", LocalDateTime.now().toString())
-                    .setNotification(Notification.builder().setTitle("순술").setBody(content).build())
-                    .setToken(token)
-                    .build();
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("메시지 전송 알림 완료 : " + response);
-        } catch (Exception e){
-            System.out.println(e.toString());
+    @Transactional
+    public void deleteNotification(NotificationType type, Long objectId){
+        if(type==NotificationType.COMMENT){       //대댓글 알림까지
+            deleteNotifications(Arrays.asList(NotificationType.COMMENT, NotificationType.RECOMMENT),
+                    commentRepository.findIdsByUpperCommentId(objectId));
+            return;
         }
+        deleteNotifications(Collections.singletonList(type), Collections.singletonList(objectId));
     }
 
 
+    //대상 id 목록의 알림을 한번에 삭제 (읽지 않은 알림 수 차감, 발송 전 outbox 포함)
     @Transactional
-    public void deleteNotification(NotificationType type, Long objectId){
-        switch (type){
-            case FOLLOW:
-                notificationRepository.deleteByTypeAndObjectId(type, objectId);
-            case REVIEW_GOOD:
-                notificationRepository.deleteByTypeAndObjectId(type, objectId);
-            case COMMENT:
-                final List<Comment> reCommentList= commentRepository.findAllByUpperCommentId(objectId);
-                for(Comment reComment: reCommentList){
-                    notificationRepository.deleteByTypeAndObjectId(NotificationType.RECOMMENT, reComment.getCommentId());
-                }
-                notificationRepository.deleteByTypeAndObjectId(NotificationType.COMMENT, objectId);
-            case RECOMMENT:
-                notificationRepository.deleteByTypeAndObjectId(type, objectId);
-        }
+    public void deleteNotifications(List<NotificationType> types, List<Long> objectIds){
+        if(objectIds.isEmpty()) return;
+        final List<String> typeNames= types.stream().map(Enum::name).collect(Collectors.toList());
+        notificationRepository.decreaseUnreadNumber(typeNames, objectIds);
+        notificationRepository.deleteAllByTypeAndObjectId(typeNames, objectIds);
+        notificationOutboxRepository.deleteAllByTypeAndObjectId(typeNames, objectIds);
     }
-
 }
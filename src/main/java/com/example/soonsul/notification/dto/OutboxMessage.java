@@ -0,0 +1,12 @@
+package com.example.soonsul.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboxMessage {
+    private final Long outboxId;
+    private final String token;
+    private final String content;
+}
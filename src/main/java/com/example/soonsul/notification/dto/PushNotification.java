@@ -13,4 +13,6 @@ import lombok.NoArgsConstructor;
 public class PushNotification {
     private Long objectId;
     private User receiveUser;
+    private Long targetId;      //알림에서 보여줄 대상 (리뷰, 댓글)
+    private String excerpt;
 }
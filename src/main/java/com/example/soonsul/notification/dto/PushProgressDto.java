@@ -0,0 +1,44 @@
+package com.example.soonsul.notification.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(description = "프로모션 푸시 발송 진행 상황")
+public class PushProgressDto {
+
+    @ApiModelProperty(value = "발송 작업 pk", position = 1)
+    private Long jobId;
+
+    @ApiModelProperty(value = "프로모션 pk", position = 2)
+    private Long promotionId;
+
+    @ApiModelProperty(value = "상태 (WAITING, RUNNING, DONE, FAILED)", position = 3)
+    private String status;
+
+    @ApiModelProperty(value = "발송 대상 토큰 수 (지금까지 읽은 유저 기준)", position = 4)
+    private Integer target;
+
+    @ApiModelProperty(value = "발송 성공 수", position = 5)
+    private Integer sent;
+
+    @ApiModelProperty(value = "발송 실패 수", position = 6)
+    private Integer failed;
+
+    @ApiModelProperty(value = "시작 시간", position = 7)
+    private LocalDateTime startedAt;
+
+    @ApiModelProperty(value = "종료 시간", position = 8)
+    private LocalDateTime finishedAt;
+}
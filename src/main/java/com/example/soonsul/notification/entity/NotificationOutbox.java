@@ -0,0 +1,83 @@
+package com.example.soonsul.notification.entity;
+
+import com.example.soonsul.user.entity.User;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_next", columnList = "next_attempt_at, outbox_id"),
+        @Index(name = "idx_notification_outbox_object", columnList = "type, object_id")})
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id", nullable = false, unique = true)
+    private Long outboxId;
+
+    @Column(name = "type")
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    @Column(name = "object_id")
+    private Long objectId;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "send_user_id")
+    private String sendUserId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="user_id")
+    private User receiveUser;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "excerpt", length = Notifications.EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "flag_saved")
+    private boolean flagSaved;      //Notifications 저장 여부 (재발송 시 중복 저장X)
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+
+    public Notifications toNotification(){
+        this.flagSaved= true;
+        return Notifications.builder()
+                .content(content)
+                .date(createdDate)
+                .flagRead(false)
+                .type(type)
+                .objectId(objectId)
+                .sendUserId(sendUserId)
+                .receiveUser(receiveUser)
+                .targetId(targetId)
+                .excerpt(excerpt)
+                .build();
+    }
+
+    public void updateNextAttemptAt(LocalDateTime nextAttemptAt){
+        this.nextAttemptAt= nextAttemptAt;
+    }
+
+    public void retry(LocalDateTime nextAttemptAt){
+        this.attempts++;
+        this.nextAttemptAt= nextAttemptAt;
+    }
+}
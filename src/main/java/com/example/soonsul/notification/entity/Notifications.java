@@ -12,8 +12,12 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="notification")
+@Table(name="notification", indexes = {
+        @Index(name = "idx_notification_user_id", columnList = "user_id, notification_id"),
+        @Index(name = "idx_notification_target_id", columnList = "target_id"),
+        @Index(name = "idx_notification_type_object_id", columnList = "type, object_id")})
 public class Notifications {
+    public static final int EXCERPT_LENGTH= 100;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,8 +47,21 @@ public class Notifications {
     @JoinColumn(name="user_id")
     private User receiveUser;
 
+    //알림 생성 시점의 대상 정보 (리뷰 좋아요: 리뷰, 댓글/대댓글: 댓글, 프로모션: 프로모션), 조회 시 다시 찾지 않음
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
 
     public void updateFlagRead(boolean flagRead){
         this.flagRead= flagRead;
     }
+
+
+    public static String excerpt(String content){
+        if(content==null) return null;
+        return content.length()<=EXCERPT_LENGTH ? content : content.substring(0, EXCERPT_LENGTH);
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.soonsul.notification.exception;
+
+import com.example.soonsul.response.error.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class PushJobNotExist extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public PushJobNotExist(String message, ErrorCode errorCode){
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
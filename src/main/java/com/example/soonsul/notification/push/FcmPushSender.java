@@ -0,0 +1,58 @@
+package com.example.soonsul.notification.push;
+
+import com.google.firebase.messaging.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+public class FcmPushSender implements PushSender {
+    private static final Set<MessagingErrorCode> RETRYABLE= EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+
+    @Override
+    public PushResult send(List<String> tokens, String content) throws FirebaseMessagingException {
+        final MulticastMessage message= MulticastMessage.builder()
+                .putData("time", LocalDateTime.now().toString())
+                .setNotification(notification(content))
+                .addAllTokens(tokens)
+                .build();
+        final BatchResponse response= FirebaseMessaging.getInstance().sendEachForMulticast(message);
+
+        final List<String> retryTokens= new ArrayList<>();
+        for(Integer i: retryIndexes(response)) retryTokens.add(tokens.get(i));
+        return new PushResult(response.getSuccessCount(), response.getFailureCount()- retryTokens.size(), retryTokens);
+    }
+
+
+    @Override
+    public Set<Integer> sendEach(List<PushMessage> messages) throws FirebaseMessagingException {
+        final String time= LocalDateTime.now().toString();
+        final List<Message> list= messages.stream()
+                .map(m -> Message.builder()
+                        .putData("time", time)
+                        .setNotification(notification(m.getContent()))
+                        .setToken(m.getToken())
+                        .build())
+                .collect(Collectors.toList());
+        return retryIndexes(FirebaseMessaging.getInstance().sendEach(list));
+    }
+
+
+    private Notification notification(String content){
+        return Notification.builder().setTitle("순술").setBody(content).build();
+    }
+
+    private Set<Integer> retryIndexes(BatchResponse response){
+        final Set<Integer> result= new TreeSet<>();
+        final List<SendResponse> responses= response.getResponses();
+        for(int i=0; i<responses.size(); i++){
+            final SendResponse r= responses.get(i);
+            if(!r.isSuccessful() && RETRYABLE.contains(r.getException().getMessagingErrorCode())) result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.soonsul.notification.push;
+
+import com.example.soonsul.notification.NotificationOutboxService;
+import com.example.soonsul.notification.dto.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+//outbox relay: 1초마다 쌓인 활동 알림을 500개씩 가져와서 한번에 발송
+//발송 후 완료 처리 전에 죽으면 lease가 끝난 뒤 다시 보냄 (at-least-once)
+@Slf4j
+@Component
+public class NotificationRelay {
+    private static final int BATCH_SIZE= PushSender.MAX_TOKENS;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final PushSender pushSender;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+
+
+    public NotificationRelay(NotificationOutboxService notificationOutboxService, PushSender pushSender, MeterRegistry meterRegistry){
+        this.notificationOutboxService= notificationOutboxService;
+        this.pushSender= pushSender;
+        this.sentCounter= meterRegistry.counter("notification.relay.sent");
+        this.retryCounter= meterRegistry.counter("notification.relay.retry");
+    }
+
+
+    @Scheduled(fixedDelay = 1000)
+    public void relay(){
+        List<OutboxMessage> batch;
+        do{
+            try{
+                batch= notificationOutboxService.claim(BATCH_SIZE);
+                if(!batch.isEmpty()) send(batch);
+            }catch (RuntimeException e){
+                log.error("notification relay failed", e);
+                return;
+            }
+        } while(batch.size()==BATCH_SIZE);
+    }
+
+
+    private void send(List<OutboxMessage> batch){
+        final List<Long> doneIds= new ArrayList<>();
+        final List<OutboxMessage> targets= new ArrayList<>();
+        for(OutboxMessage m: batch){
+            if(m.getToken()==null || m.getToken().isBlank()) doneIds.add(m.getOutboxId());    //토큰이 없으면 알림 저장만
+            else targets.add(m);
+        }
+
+        Set<Integer> retry;
+        try{
+            retry= targets.isEmpty() ? Collections.emptySet()
+                    : pushSender.sendEach(targets.stream().map(m -> new PushMessage(m.getToken(), m.getContent())).collect(Collectors.toList()));
+        }catch (Exception e){
+            log.warn("notification push failed: size={}", targets.size(), e);
+            retry= new HashSet<>();
+            for(int i=0; i<targets.size(); i++) retry.add(i);
+        }
+
+        final List<Long> retryIds= new ArrayList<>();
+        for(int i=0; i<targets.size(); i++){
+            if(retry.contains(i)) retryIds.add(targets.get(i).getOutboxId());
+            else doneIds.add(targets.get(i).getOutboxId());
+        }
+        sentCounter.increment(targets.size()- retryIds.size());
+        retryCounter.increment(retryIds.size());
+        notificationOutboxService.complete(doneIds, retryIds);
+    }
+}
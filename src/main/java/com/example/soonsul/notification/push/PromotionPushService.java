@@ -0,0 +1,176 @@
+package com.example.soonsul.notification.push;
+
+import com.example.soonsul.notification.NotificationRepository;
+import com.example.soonsul.notification.dto.PushProgressDto;
+import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.exception.PushJobNotExist;
+import com.example.soonsul.response.error.ErrorCode;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+//프로모션 푸시 발송: 관리자 요청은 바로 반환하고 백그라운드에서 발송
+//광고 알림 허용 유저를 500명씩 읽어서 알림 저장(한번의 INSERT) 후 FCM multicast, 발송은 크기가 정해진 worker pool에서
+@Slf4j
+@Service
+public class PromotionPushService {
+    private static final int PAGE_SIZE= PushSender.MAX_TOKENS;
+    private static final int WORKERS= 4;
+    private static final int MAX_ATTEMPT= 3;
+    private static final int MAX_JOBS= 50;      //진행 상황은 최근 작업만 보관
+    private static final String CONTENT= "새로운 프로모션이 등록되었습니다.";
+
+    private final UserRepository userRepository;
+    private final NotificationRepository notificationRepository;
+    private final PushSender pushSender;
+    private final long backoffMillis;
+
+    private final ExecutorService dispatcher= Executors.newSingleThreadExecutor();
+    //대기열이 차면 유저를 읽는 스레드가 직접 보내서 읽는 속도를 발송 속도에 맞춤
+    private final ExecutorService workers= new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(WORKERS* 2), new ThreadPoolExecutor.CallerRunsPolicy());
+    private final AtomicLong sequence= new AtomicLong();
+    private final Map<Long, PushJob> jobs= Collections.synchronizedMap(new LinkedHashMap<Long, PushJob>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PushJob> eldest) {
+            return size()> MAX_JOBS;
+        }
+    });
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+
+    public PromotionPushService(UserRepository userRepository, NotificationRepository notificationRepository,
+                                PushSender pushSender, MeterRegistry meterRegistry,
+                                @Value("${push.backoff-millis:1000}") long backoffMillis){
+        this.userRepository= userRepository;
+        this.notificationRepository= notificationRepository;
+        this.pushSender= pushSender;
+        this.backoffMillis= backoffMillis;
+        this.sentCounter= meterRegistry.counter("push.sent");
+        this.failedCounter= meterRegistry.counter("push.failed");
+    }
+
+
+    //트랜잭션 안이면 커밋 후 시작 (프로모션 저장이 롤백되면 발송X)
+    public PushJob dispatch(Long promotionId){
+        final PushJob job= new PushJob(sequence.incrementAndGet(), promotionId);
+        jobs.put(job.getJobId(), job);
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            start(job);
+            return job;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status==STATUS_COMMITTED) start(job);
+                else job.finish(PushJob.Status.FAILED);
+            }
+        });
+        return job;
+    }
+
+    public PushProgressDto getProgress(Long jobId){
+        final PushJob job= jobs.get(jobId);
+        if(job==null) throw new PushJobNotExist("push job not exist", ErrorCode.PUSH_JOB_NOT_EXIST);
+        return job.toDto();
+    }
+
+
+    private void start(PushJob job){
+        dispatcher.execute(() -> run(job));
+    }
+
+    private void run(PushJob job){
+        job.start();
+        final List<CompletableFuture<Void>> sending= new ArrayList<>();
+        try{
+            String after= "";
+            Slice<User> page;
+            do{
+                page= userRepository.findAdvertisingUsers(PageRequest.of(0, PAGE_SIZE), after);
+                final List<User> users= page.getContent();
+                if(users.isEmpty()) break;
+                after= users.get(users.size()- 1).getUserId();
+
+                final List<String> userIds= users.stream().map(User::getUserId).collect(Collectors.toList());
+                notificationRepository.insertAll(CONTENT, LocalDateTime.now(), NotificationType.PROMOTION.name(), job.getPromotionId(), userIds);
+                userRepository.updateUnreadNumber(userIds, 1);
+
+                final List<String> tokens= users.stream()
+                        .map(User::getDeviceToken)
+                        .filter(t -> t!=null && !t.isBlank())
+                        .collect(Collectors.toList());
+                job.addTarget(tokens.size());
+                if(!tokens.isEmpty()) sending.add(CompletableFuture.runAsync(() -> sendWithRetry(job, tokens), workers));
+            } while(page.hasNext());
+
+            CompletableFuture.allOf(sending.toArray(new CompletableFuture<?>[0])).join();
+            job.finish(PushJob.Status.DONE);
+            log.info("promotion push done: {}", job.toDto());
+        } catch (RuntimeException e){
+            log.error("promotion push failed: job={}", job.getJobId(), e);
+            job.finish(PushJob.Status.FAILED);
+        }
+    }
+
+
+    //일시적인 오류만 1초, 2초 간격으로 다시 전송
+    private void sendWithRetry(PushJob job, List<String> tokens){
+        List<String> targets= tokens;
+        for(int attempt=1; ; attempt++){
+            PushResult result;
+            try{
+                result= pushSender.send(targets, CONTENT);
+            } catch (Exception e){
+                log.warn("push send failed: job={}, attempt={}, size={}", job.getJobId(), attempt, targets.size(), e);
+                result= new PushResult(0, 0, targets);
+            }
+            job.addSent(result.getSuccessCount());
+            job.addFailed(result.getFailureCount());
+            sentCounter.increment(result.getSuccessCount());
+            failedCounter.increment(result.getFailureCount());
+
+            targets= result.getRetryTokens();
+            if(targets.isEmpty()) return;
+            if(attempt==MAX_ATTEMPT || !sleep(backoffMillis<< (attempt- 1))){
+                job.addFailed(targets.size());
+                failedCounter.increment(targets.size());
+                return;
+            }
+        }
+    }
+
+    private boolean sleep(long millis){
+        try{
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+
+    @PreDestroy
+    public void shutdown(){
+        dispatcher.shutdown();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.soonsul.notification.push;
+
+import com.example.soonsul.notification.dto.PushProgressDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//프로모션 푸시 발송 진행 상황
+public class PushJob {
+    public enum Status { WAITING, RUNNING, DONE, FAILED }
+
+    @Getter
+    private final Long jobId;
+    @Getter
+    private final Long promotionId;
+    @Getter
+    private final CompletableFuture<Status> completion= new CompletableFuture<>();
+
+    private volatile Status status= Status.WAITING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private final AtomicInteger target= new AtomicInteger();
+    private final AtomicInteger sent= new AtomicInteger();
+    private final AtomicInteger failed= new AtomicInteger();
+
+
+    public PushJob(Long jobId, Long promotionId){
+        this.jobId= jobId;
+        this.promotionId= promotionId;
+    }
+
+    void start(){
+        this.status= Status.RUNNING;
+        this.startedAt= LocalDateTime.now();
+    }
+
+    void finish(Status status){
+        this.status= status;
+        this.finishedAt= LocalDateTime.now();
+        completion.complete(status);
+    }
+
+    void addTarget(int count){
+        target.addAndGet(count);
+    }
+
+    void addSent(int count){
+        sent.addAndGet(count);
+    }
+
+    void addFailed(int count){
+        failed.addAndGet(count);
+    }
+
+
+    public PushProgressDto toDto(){
+        return PushProgressDto.builder()
+                .jobId(jobId)
+                .promotionId(promotionId)
+                .status(status.name())
+                .target(target.get())
+                .sent(sent.get())
+                .failed(failed.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.soonsul.notification.push;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+    private final String token;
+    private final String content;
+}
@@ -0,0 +1,14 @@
+package com.example.soonsul.notification.push;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PushResult {
+    private final int successCount;
+    private final int failureCount;             //다시 보내도 실패하는 토큰 수 (만료, 잘못된 토큰)
+    private final List<String> retryTokens;     //일시적인 오류로 실패한 토큰
+}
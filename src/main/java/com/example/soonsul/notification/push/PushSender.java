@@ -0,0 +1,31 @@
+package com.example.soonsul.notification.push;
+
+import java.util.*;
+
+//푸시 전송 (운영: FCM, 테스트: stub)
+public interface PushSender {
+    int MAX_TOKENS= 500;        //FCM multicast 한번에 보낼 수 있는 최대 토큰 수
+
+    PushResult send(List<String> tokens, String content) throws Exception;
+
+
+    //메시지마다 내용이 다를 때 (활동 알림), 일시적인 오류로 실패한 메시지의 index 반환
+    //기본 구현은 같은 내용끼리 묶어서 multicast
+    default Set<Integer> sendEach(List<PushMessage> messages) throws Exception {
+        final Map<String, List<Integer>> byContent= new LinkedHashMap<>();
+        for(int i=0; i<messages.size(); i++){
+            byContent.computeIfAbsent(messages.get(i).getContent(), k -> new ArrayList<>()).add(i);
+        }
+
+        final Set<Integer> retry= new HashSet<>();
+        for(Map.Entry<String, List<Integer>> entry: byContent.entrySet()){
+            final List<String> tokens= new ArrayList<>();
+            for(Integer i: entry.getValue()) tokens.add(messages.get(i).getToken());
+            final Set<String> retryTokens= new HashSet<>(send(tokens, entry.getKey()).getRetryTokens());
+            for(Integer i: entry.getValue()){
+                if(retryTokens.contains(messages.get(i).getToken())) retry.add(i);
+            }
+        }
+        return retry;
+    }
+}
@@ -43,12 +43,14 @@ public enum ErrorCode {
 
     //scan
     SCAN_NOT_EXIST(500,"S001","SCAN NOT EXIST"),
+    SCAN_SIZE_INVALID(400,"S002","SCAN CANDIDATE SIZE INVALID"),
 
     //code
     CODE_NOT_EXIST(500,"CD01","CODE NOT EXIST"),
 
     //notification
     NOTIFICATION_NOT_EXIST(500,"N001","NOTIFICATION NOT EXIST"),
+    PUSH_JOB_NOT_EXIST(500,"N002","PUSH JOB NOT EXIST"),
 
     //file
     UPLOAD_FILE_NOT_EXIST(500,"F001","FILE NOT EXIST"),
@@ -3,6 +3,8 @@ package com.example.soonsul.response.error;
 import com.example.soonsul.liquor.exception.*;
 import com.example.soonsul.main.exception.MainBannerNotExist;
 import com.example.soonsul.notification.exception.NotificationNotExist;
+import com.example.soonsul.notification.exception.PushJobNotExist;
+import com.example.soonsul.scan.exception.ScanSizeInvalid;
 import com.example.soonsul.user.exception.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -139,4 +141,18 @@ public class GlobalExceptionHandler {
         final ErrorResponse response = new ErrorResponse(ex.getErrorCode());
         return new ResponseEntity<>(response, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
     }
+
+    @ExceptionHandler(PushJobNotExist.class)
+    public ResponseEntity<ErrorResponse> handlePushJobNotExist(PushJobNotExist ex){
+        log.error("handlePushJobNotExist",ex);
+        final ErrorResponse response = new ErrorResponse(ex.getErrorCode());
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
+    }
+
+    @ExceptionHandler(ScanSizeInvalid.class)
+    public ResponseEntity<ErrorResponse> handleScanSizeInvalid(ScanSizeInvalid ex){
+        log.error("handleScanSizeInvalid",ex);
+        final ErrorResponse response = new ErrorResponse(ex.getErrorCode());
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
+    }
 }
@@ -23,6 +23,7 @@ public enum ResultCode {
     GET_SCANNED_LIQUOR_NAME_SUCCESS(200,"SC01","스캔한 제품의 주류명을 조회했습니다."),
     POST_SCAN_SUCCESS(201,"SC02","스캔한 제품을 사진 히스토리에 저장했습니다."),
     DELETE_SCAN_SUCCESS(200,"SC03","해당 히스토리를 삭제했습니다."),
+    GET_SCANNED_LIQUOR_CANDIDATE_SUCCESS(200,"SC04","스캔한 라벨과 비슷한 전통주 목록을 조회했습니다."),
 
     //liquor
     GET_LIQUOR_INFO_SUCCESS(200,"L001","전통주 정보를 조회했습니다."),
@@ -80,6 +81,7 @@ public enum ResultCode {
 
     //search
     GET_SEARCH_SUCCESS(200,"SE01","해당 전통주를 검색했습니다."),
+    GET_SUGGEST_SUCCESS(200,"SE02","전통주 검색어 자동완성 목록을 조회했습니다."),
 
     //promotion
     GET_PROMOTION_LIST_SUCCESS(200,"P001","모든 프로모션을 조회했습니다."),
@@ -95,6 +97,7 @@ public enum ResultCode {
     GET_NOTIFICATION_LIST_SUCCESS(200,"N001","모든 알림 내역을 조회했습니다."),
     GET_NEW_NOTIFICATION_SUCCESS(200,"N002","새로운 알림 유무를 확인했습니다."),
     PUT_NEW_NOTIFICATION_SUCCESS(200,"N003","알림 상태를 읽음으로 수정했습니다."),
+    GET_UNREAD_NOTIFICATION_NUMBER_SUCCESS(200,"N004","읽지 않은 알림 수를 조회했습니다."),
 
     //manager
     POST_MAIN_PHOTO(200,"M001","S3에 모든 전통주 메인사진을 등록했습니다."),
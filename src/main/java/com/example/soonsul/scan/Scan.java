@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="scan")
+@Table(name="scan", indexes = {
+        @Index(name = "idx_scan_user_id", columnList = "user_id, scan_id")})
 public class Scan {
 
     @Id
@@ -2,6 +2,7 @@ package com.example.soonsul.scan;
 
 import com.example.soonsul.response.result.ResultCode;
 import com.example.soonsul.response.result.ResultResponse;
+import com.example.soonsul.scan.dto.ScanCandidateDto;
 import com.example.soonsul.scan.dto.ScanDto;
 import com.example.soonsul.scan.response.ScanResponse;
 import io.swagger.annotations.Api;
@@ -33,6 +34,15 @@ public class ScanController {
     }
 
 
+    @ApiOperation(value = "스캔한 라벨과 비슷한 전통주 후보 조회", notes = "OCR 결과 전체를 text로 전달, 점수 높은 순 size개 (1~10, 기본 5개)")
+    @GetMapping("/liquor/candidates")
+    public ResponseEntity<ResultResponse> getCandidates(@RequestParam String text,
+                                                        @RequestParam(value = "size", defaultValue = "5") Integer size) {
+        final List<ScanCandidateDto> data= scanService.getCandidates(text, size);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GET_SCANNED_LIQUOR_CANDIDATE_SUCCESS, data));
+    }
+
+
     @ApiOperation(value = "스캔 완료시, 사진 히스토리에 저장")
     @PostMapping(value = "/liquor/{liquorId}", produces = MediaType.APPLICATION_JSON_VALUE, consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<ResultResponse> postScan(@PathVariable("liquorId") String liquorId, @RequestPart("image") MultipartFile image) {
@@ -2,18 +2,22 @@ package com.example.soonsul.scan;
 
 import com.example.soonsul.config.s3.S3Uploader;
 import com.example.soonsul.liquor.entity.Liquor;
-import com.example.soonsul.liquor.repository.LiquorRepository;
 import com.example.soonsul.response.error.ErrorCode;
+import com.example.soonsul.scan.dto.ScanCandidateDto;
 import com.example.soonsul.scan.dto.ScanDto;
 import com.example.soonsul.scan.exception.ScanNotExist;
+import com.example.soonsul.scan.exception.ScanSizeInvalid;
 import com.example.soonsul.user.entity.PersonalEvaluation;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.util.LiquorSearchIndex;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,26 +26,47 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ScanService {
     private final ScanRepository scanRepository;
-    private final LiquorRepository liquorRepository;
     private final UserUtil userUtil;
     private final LiquorUtil liquorUtil;
     private final S3Uploader s3Uploader;
     private final PersonalEvaluationRepository personalEvaluationRepository;
+    private final LiquorSearchIndex liquorSearchIndex;
+
+    private static final double MATCH_SCORE= 0.6;           //이름 2-gram 3/4 이상
+    private static final double CANDIDATE_SCORE= 0.3;
+    private static final int MAX_CANDIDATE= 10;
 
 
     @Value("${cloud.aws.s3.bucket.url}")
     private String AWS_S3_BUCKET_URL;
 
 
-    @Transactional(readOnly = true)
+    //OCR 결과라 오타, 공백, 특수문자가 섞여 있으므로 이름이 정확히 같지 않아도 가장 비슷한 전통주 반환
     public String getLiquor(String name){
-        final Optional<Liquor> liquor= liquorRepository.findByName(name);
-        return (liquor.isPresent()) ? liquor.get().getLiquorId() : "";
+        final List<Pair<LiquorSearchIndex.Document, Double>> match= liquorSearchIndex.matchLabel(name, MATCH_SCORE, 1);
+        return match.isEmpty() ? "" : match.get(0).getFirst().getLiquorId();
+    }
+
+
+    //size는 1~MAX_CANDIDATE
+    public List<ScanCandidateDto> getCandidates(String text, Integer size){
+        if(size==null || size<1 || size>MAX_CANDIDATE) throw new ScanSizeInvalid("scan candidate size invalid", ErrorCode.SCAN_SIZE_INVALID);
+        return liquorSearchIndex.matchLabel(text, CANDIDATE_SCORE, size)
+                .stream()
+                .map(p -> ScanCandidateDto.builder()
+                        .liquorId(p.getFirst().getLiquorId())
+                        .name(p.getFirst().getName())
+                        .brewery(p.getFirst().getBrewery())
+                        .imageUrl(p.getFirst().getImageUrl())
+                        .score(p.getSecond())
+                        .build())
+                .collect(Collectors.toList());
     }
 
 
@@ -60,9 +85,11 @@ public class ScanService {
 
 
     @Transactional(readOnly = true)
-    public List<ScanDto> getScanList(Pageable pageable){
+    public List<ScanDto> getScanList(Pageable pageable, Long after){
         final User user= userUtil.getUserByAuthentication();
-        final List<Scan> scanList= scanRepository.findAllByUser(pageable, user.getUserId()).toList();
+        final List<Scan> scanList= (after==null)
+                ? scanRepository.findAllByUser(pageable, user.getUserId()).toList()
+                : scanRepository.findAllByUserAfter(PageRequest.of(0, pageable.getPageSize()), user.getUserId(), after).toList();
 
         final List<ScanDto> result= new ArrayList<>();
         for(Scan s: scanList){
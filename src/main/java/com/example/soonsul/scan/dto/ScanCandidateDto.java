@@ -0,0 +1,31 @@
+package com.example.soonsul.scan.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(description = "스캔한 라벨과 비슷한 전통주 정보")
+public class ScanCandidateDto {
+
+    @ApiModelProperty(value = "전통주 pk", position = 1)
+    private String liquorId;
+
+    @ApiModelProperty(value = "전통주 이름", position = 2)
+    private String name;
+
+    @ApiModelProperty(value = "양조장", position = 3)
+    private String brewery;
+
+    @ApiModelProperty(value = "전통주 대표 사진", position = 4)
+    private String imageUrl;
+
+    @ApiModelProperty(value = "일치 점수 (0~1)", position = 5)
+    private Double score;
+}
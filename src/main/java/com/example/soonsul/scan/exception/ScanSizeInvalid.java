@@ -0,0 +1,15 @@
+package com.example.soonsul.scan.exception;
+
+import com.example.soonsul.response.error.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ScanSizeInvalid extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ScanSizeInvalid(String message, ErrorCode errorCode){
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
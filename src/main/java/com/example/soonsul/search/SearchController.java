@@ -3,7 +3,9 @@ package com.example.soonsul.search;
 import com.example.soonsul.response.result.ResultCode;
 import com.example.soonsul.response.result.ResultResponse;
 import com.example.soonsul.search.dto.SearchDto;
+import com.example.soonsul.search.dto.SuggestDto;
 import com.example.soonsul.search.response.SearchResponse;
+import com.example.soonsul.search.response.SuggestResponse;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +25,20 @@ public class SearchController {
     private final SearchService searchService;
 
 
-    @ApiOperation(value = "스캔한 제품의 주류명 조회")
+    @ApiOperation(value = "스캔한 제품의 주류명 조회", notes = "fuzzy=true면 오타가 있는 이름도 함께 조회")
     @GetMapping()
-    public ResponseEntity<SearchResponse> getSearch(@RequestParam("name") String name) {
-        final List<SearchDto> data= searchService.getSearch(name);
+    public ResponseEntity<SearchResponse> getSearch(@RequestParam("name") String name,
+                                                    @RequestParam(value = "fuzzy", defaultValue = "false") Boolean fuzzy) {
+        final List<SearchDto> data= searchService.getSearch(name, fuzzy);
         return ResponseEntity.ok(SearchResponse.of(ResultCode.GET_SEARCH_SUCCESS, data));
     }
+
+
+    @ApiOperation(value = "전통주 검색어 자동완성", notes = "이름 앞부분 또는 초성(ex. ㅁㄱㄹ)으로 검색, 인기순 최대 10개")
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestResponse> getSuggest(@RequestParam("prefix") String prefix,
+                                                      @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        final List<SuggestDto> data= searchService.getSuggest(prefix, size);
+        return ResponseEntity.ok(SuggestResponse.of(ResultCode.GET_SUGGEST_SUCCESS, data));
+    }
 }
@@ -1,31 +1,40 @@
 package com.example.soonsul.search;
 
-import com.example.soonsul.liquor.entity.Liquor;
-import com.example.soonsul.liquor.repository.LiquorRepository;
 import com.example.soonsul.search.dto.SearchDto;
+import com.example.soonsul.search.dto.SuggestDto;
+import com.example.soonsul.util.LiquorSearchIndex;
+import com.example.soonsul.util.LiquorSuggestIndex;
 import com.example.soonsul.util.LiquorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchService {
-    private final LiquorRepository liquorRepository;
+    private final LiquorSearchIndex liquorSearchIndex;
+    private final LiquorSuggestIndex liquorSuggestIndex;
     private final LiquorUtil liquorUtil;
 
 
-    @Transactional(readOnly = true)
-    public List<SearchDto> getSearch(String name){
-        final List<Liquor> list= liquorRepository.findSearch(name);
-        final List<SearchDto> result= new ArrayList<>();
+    //DB 조회 없이 메모리 인덱스에서 검색 (정렬은 LiquorSearchIndex.search)
+    //fuzzy면 포함 검색 결과 뒤에 오타 검색 결과를 이어 붙임
+    public List<SearchDto> getSearch(String name, Boolean fuzzy){
+        final List<LiquorSearchIndex.Hit> hits= liquorSearchIndex.search(name);
+        if(Boolean.TRUE.equals(fuzzy)){
+            final Set<String> found= hits.stream().map(h -> h.getDocument().getLiquorId()).collect(Collectors.toSet());
+            for(LiquorSearchIndex.Hit hit: liquorSearchIndex.fuzzySearch(name)){
+                if(found.add(hit.getDocument().getLiquorId())) hits.add(hit);
+            }
+        }
 
-        for(Liquor l: list){
+        final List<SearchDto> result= new ArrayList<>();
+        for(LiquorSearchIndex.Hit hit: hits){
+            final LiquorSearchIndex.Document l= hit.getDocument();
             final String liquorCategory= liquorUtil.getCodeName(l.getLiquorCategory());
             final SearchDto dto= SearchDto.builder()
                     .liquorId(l.getLiquorId())
@@ -33,14 +42,22 @@ public class SearchService {
                     .liquorCategory(liquorCategory)
                     .brewery(l.getBrewery())
                     .imageUrl(l.getImageUrl())
-                    .startIdx(l.getName().indexOf(name))
+                    .startIdx(hit.getStartIdx())
                     .build();
             result.add(dto);
         }
+        return result;
+    }
+
 
-        return result.stream()
-                .sorted(Comparator.comparing(SearchDto::getStartIdx)
-                        .thenComparing(SearchDto::getName))
+    public List<SuggestDto> getSuggest(String prefix, Integer size){
+        final int limit= Math.min(size, LiquorSuggestIndex.TOP_K);
+        return liquorSuggestIndex.suggest(prefix, limit)
+                .stream()
+                .map(p -> SuggestDto.builder()
+                        .liquorId(p.getFirst())
+                        .name(p.getSecond())
+                        .build())
                 .collect(Collectors.toList());
     }
 
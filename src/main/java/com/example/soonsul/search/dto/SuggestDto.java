@@ -0,0 +1,22 @@
+package com.example.soonsul.search.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(description = "전통주 검색어 자동완성 정보")
+public class SuggestDto {
+
+    @ApiModelProperty(value = "전통주 pk", position = 1)
+    private String liquorId;
+
+    @ApiModelProperty(value = "전통주 이름", position = 2)
+    private String name;
+}
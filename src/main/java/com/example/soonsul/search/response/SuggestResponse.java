@@ -0,0 +1,35 @@
+package com.example.soonsul.search.response;
+
+import com.example.soonsul.response.result.ResultCode;
+import com.example.soonsul.search.dto.SuggestDto;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@ApiModel(description = "전통주 검색어 자동완성 리스트 응답 모델")
+public class SuggestResponse {
+
+    @ApiModelProperty(value = "Http 상태 코드")
+    private final int status;
+    @ApiModelProperty(value = "Business 상태 코드")
+    private final String code;
+    @ApiModelProperty(value = "응답 메세지")
+    private final String message;
+    @ApiModelProperty(value = "응답 데이터")
+    private final List<SuggestDto> data;
+
+
+    public SuggestResponse(ResultCode resultCode, List<SuggestDto> data) {
+        this.status = resultCode.getStatus();
+        this.code = resultCode.getCode();
+        this.message = resultCode.getMessage();
+        this.data = data;
+    }
+
+    public static SuggestResponse of(ResultCode resultCode, List<SuggestDto> data) {
+        return new SuggestResponse(resultCode, data);
+    }
+}
@@ -9,7 +9,6 @@ import com.example.soonsul.liquor.service.LiquorService;
 import com.example.soonsul.liquor.service.PersonalService;
 import com.example.soonsul.main.entity.Sorting;
 import com.example.soonsul.notification.NotificationService;
-import com.example.soonsul.notification.dto.PushNotification;
 import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.promotion.PromotionService;
 import com.example.soonsul.promotion.dto.PromotionDto;
@@ -25,7 +24,6 @@ import com.example.soonsul.user.dto.UserProfileDto;
 import com.example.soonsul.user.response.FollowResponse;
 import com.example.soonsul.user.response.NotificationFlagResponse;
 import com.example.soonsul.user.response.UserProfileResponse;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -87,10 +85,11 @@ public class UserController {
     }
 
 
-    @ApiOperation(value = "사진 히스토리 조회")
+    @ApiOperation(value = "사진 히스토리 조회", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/histories")
-    public ResponseEntity<ScanResponse> getUserHistory(@PageableDefault(size=10, sort = "scan_id", direction = Sort.Direction.DESC) Pageable pageable) {
-        final List<ScanDto> data= scanService.getScanList(pageable);
+    public ResponseEntity<ScanResponse> getUserHistory(@PageableDefault(size=10, sort = "scan_id", direction = Sort.Direction.DESC) Pageable pageable,
+                                                       @RequestParam(value = "after", required = false) Long after) {
+        final List<ScanDto> data= scanService.getScanList(pageable, after);
         return ResponseEntity.ok(ScanResponse.of(ResultCode.GET_USER_HISTORY_SUCCESS, data));
     }
 
@@ -104,10 +103,11 @@ public class UserController {
     }
 
 
-    @ApiOperation(value = "내가 남긴 평가리스트 조회")
+    @ApiOperation(value = "내가 남긴 평가리스트 조회", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/evaluations")
-    public ResponseEntity<PersonalListResponse> getUserEvaluation(@PageableDefault(size=10, sort = "personal_evaluation_id", direction = Sort.Direction.DESC) Pageable pageable) {
-        final List<PersonalDto> data= personalService.getPersonalEvaluationList(null, pageable);
+    public ResponseEntity<PersonalListResponse> getUserEvaluation(@PageableDefault(size=10, sort = "personal_evaluation_id", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                  @RequestParam(value = "after", required = false) Long after) {
+        final List<PersonalDto> data= personalService.getPersonalEvaluationList(null, pageable, after);
         return ResponseEntity.ok(PersonalListResponse.of(ResultCode.GET_USER_EVALUATION_SUCCESS, data));
     }
 
@@ -136,19 +136,19 @@ public class UserController {
     }
 
 
-    @ApiOperation(value = "다른 유저의 리뷰 조회")
+    @ApiOperation(value = "다른 유저의 리뷰 조회", notes = "after: 마지막으로 받은 id, 있으면 page 대신 그 다음부터 조회")
     @GetMapping("/{userId}/reviews")
-    public ResponseEntity<PersonalListResponse> getUserReviewList(@PathVariable("userId") String userId, @PageableDefault(size=10, sort = "personal_evaluation_id", direction = Sort.Direction.DESC) Pageable pageable) {
-        final List<PersonalDto> data= personalService.getPersonalEvaluationList(userId, pageable);
+    public ResponseEntity<PersonalListResponse> getUserReviewList(@PathVariable("userId") String userId, @PageableDefault(size=10, sort = "personal_evaluation_id", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                  @RequestParam(value = "after", required = false) Long after) {
+        final List<PersonalDto> data= personalService.getPersonalEvaluationList(userId, pageable, after);
         return ResponseEntity.ok(PersonalListResponse.of(ResultCode.GET_USER_EVALUATION_SUCCESS, data));
     }
 
 
     @ApiOperation(value = "팔로잉 추가", notes = "userId : 팔로잉하는 유저 ID (상대방ID)")
     @PostMapping("/{userId}/following")
-    public ResponseEntity<ResultResponse> postFollowing(@PathVariable("userId") String userId) throws FirebaseMessagingException {
-        final PushNotification pushNotification= userService.postFollowing(userId);
-        notificationService.sendNotification(NotificationType.FOLLOW, pushNotification);
+    public ResponseEntity<ResultResponse> postFollowing(@PathVariable("userId") String userId) {
+        userService.postFollowing(userId);
         return ResponseEntity.ok(ResultResponse.of(ResultCode.POST_FOLLOWING_SUCCESS));
     }
 
@@ -1,7 +1,9 @@
 package com.example.soonsul.user;
 
 import com.example.soonsul.config.s3.S3Uploader;
+import com.example.soonsul.notification.NotificationOutboxService;
 import com.example.soonsul.notification.dto.PushNotification;
+import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.user.dto.FollowDto;
 import com.example.soonsul.user.dto.NotificationFlag;
 import com.example.soonsul.user.dto.UserProfileDto;
@@ -27,6 +29,7 @@ public class UserService {
     private final S3Uploader s3Uploader;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Value("${cloud.aws.s3.bucket.url}")
     private String AWS_S3_BUCKET_URL;
@@ -34,7 +37,7 @@ public class UserService {
 
     @Transactional
     public void putNickname(String nickname){
-        final User user= userUtil.getUserByAuthentication();
+        final User user= userUtil.getUserForUpdate();
 
         if(!user.getNickname().equals(nickname)) user.updateNickname(nickname);
     }
@@ -42,7 +45,7 @@ public class UserService {
 
     @Transactional
     public void putProfileImage(MultipartFile image){
-        final User user= userUtil.getUserByAuthentication();
+        final User user= userUtil.getUserForUpdate();
 
         if(user.getProfileImage()!=null) s3Uploader.deleteFile(user.getProfileImage().substring(AWS_S3_BUCKET_URL.length()));
         if(image==null|| image.isEmpty()) user.updateProfileImage(null);
@@ -73,7 +76,7 @@ public class UserService {
 
 
     @Transactional
-    public PushNotification postFollowing(String userId){
+    public void postFollowing(String userId){
         final User user= userUtil.getUserByAuthentication();
         final User following= userUtil.getUserById(userId);
 
@@ -82,10 +85,10 @@ public class UserService {
                 .following(following)
                 .build();
 
-        return PushNotification.builder()
+        notificationOutboxService.enqueue(NotificationType.FOLLOW, PushNotification.builder()
                 .objectId(followRepository.save(follow).getFollowId())
                 .receiveUser(following)
-                .build();
+                .build());
     }
 
 
@@ -150,7 +153,7 @@ public class UserService {
 
     @Transactional
     public void putFlagNotification(NotificationFlag flag){
-        final User user= userUtil.getUserByAuthentication();
+        final User user= userUtil.getUserForUpdate();
         user.updateFlagActivity(flag.isFlagActivity());
         user.updateFlagAdvertising(flag.isFlagAdvertising());
     }
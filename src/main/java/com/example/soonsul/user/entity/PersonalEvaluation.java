@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="personal_evaluation")
+@Table(name="personal_evaluation", indexes = {
+        @Index(name = "idx_personal_evaluation_user_id", columnList = "user_id, personal_evaluation_id")})
 public class PersonalEvaluation {
 
     @Id
@@ -4,6 +4,7 @@ import com.example.soonsul.user.oauth.OAuthProvider;
 import lombok.*;
 
 import javax.persistence.*;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -13,7 +14,7 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name="user")
-public class User {
+public class User implements Serializable {
 
     @Id
     @Column(name = "user_id", nullable = false, unique = true)
@@ -74,6 +75,14 @@ public class User {
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
+    @Builder.Default
+    @Column(name = "review_number", nullable = false, columnDefinition = "int default 0")
+    private Integer reviewNumber= 0;
+
+    @Builder.Default
+    @Column(name = "unread_number", nullable = false, columnDefinition = "int default 0")
+    private Integer unreadNumber= 0;        //읽지 않은 알림 수
+
     public void updateNickname(String nickname){
         this.nickname= nickname;
     }
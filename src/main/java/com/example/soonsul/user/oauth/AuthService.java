@@ -129,14 +129,14 @@ public class AuthService {
 
     @Transactional
     public void withdrawal() {
-        final User user= userUtil.getUserByAuthentication();
+        final User user= userUtil.getUserForUpdate();
         user.updateFlagWithdrawal(true);
     }
 
 
     @Transactional
     public void postDeviceToken(String deviceToken) {
-        final User user= userUtil.getUserByAuthentication();
+        final User user= userUtil.getUserForUpdate();
         user.updateDeviceToken(deviceToken);
     }
 
@@ -5,18 +5,58 @@ import com.example.soonsul.user.redis.RefreshToken;
 import io.jsonwebtoken.*;
 
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    static final int MAX_VERIFIED_TOKENS= 10000;
+    private static final ThreadLocal<MessageDigest> SHA256= ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    //키와 parser는 한번만 생성 (parser는 설정 후 상태가 바뀌지 않아서 여러 스레드에서 같이 사용)
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final LongSupplier clock;
+
+    //검증된 토큰 (토큰 해시 -> userId, exp), exp 전까지는 서명 검증 생략
+    //잠금 없이 조회, 가득 차면 만료된 것만 지우고 그래도 가득 차 있으면 새 토큰은 캐시하지 않음
+    private final int maxVerifiedTokens;
+    private final Map<String, VerifiedToken> verifiedTokens= new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+
+    public JwtTokenProvider(@Value("${jwt.secret-key}") String secretKey, MeterRegistry meterRegistry){
+        this(secretKey, meterRegistry, MAX_VERIFIED_TOKENS, System::currentTimeMillis);
+    }
+
+    //maxVerifiedTokens가 0이면 캐시 사용X (벤치마크 비교용)
+    JwtTokenProvider(String secretKey, MeterRegistry meterRegistry, int maxVerifiedTokens, LongSupplier clock){
+        this.signingKey= new SecretKeySpec(DatatypeConverter.parseBase64Binary(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser= Jwts.parser().setSigningKey(signingKey);
+        this.clock= clock;
+        this.maxVerifiedTokens= maxVerifiedTokens;
+        this.hitCounter= meterRegistry.counter("jwt.verify.cache", "result", "hit");
+        this.missCounter= meterRegistry.counter("jwt.verify.cache", "result", "miss");
+    }
 
     public String generateJwtToken(User user) {
         JwtBuilder builder = Jwts.builder()
@@ -24,7 +64,7 @@ public class JwtTokenProvider {
                 .setHeader(createHeader())
                 .setClaims(createClaims(user))
                 .setExpiration(createExpireHourForOneYear())
-                .signWith(SignatureAlgorithm.HS256, createSigningKey());
+                .signWith(SignatureAlgorithm.HS256, signingKey);
         return builder.compact();
     }
 
@@ -56,28 +96,62 @@ public class JwtTokenProvider {
         return claims;
     }
 
-    private Key createSigningKey() {
-        byte[] apiKeySecretBytes = DatatypeConverter.parseBase64Binary(secretKey);
-        return new SecretKeySpec(apiKeySecretBytes, SignatureAlgorithm.HS256.getJcaName());
-    }
-
     public Claims getClaimsFormToken(String token) {
-        return Jwts.parser().setSigningKey(DatatypeConverter.parseBase64Binary(secretKey))
-                .parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public boolean isValidToken(String token) {
         try {
-            Claims claims = getClaimsFormToken(token);
+            getUserIdFromToken(token);
             return true;
         } catch (JwtException | NullPointerException exception) {
             return false;
         }
     }
 
+    //만료, 위조 토큰은 캐시되지 않으므로 항상 parser에서 예외 발생
     public String getUserIdFromToken(String token) {
-        Claims claims = getClaimsFormToken(token);
-        return claims.get("userId").toString();
+        if(maxVerifiedTokens<=0) return getClaimsFormToken(token).get("userId").toString();
+
+        final String key= hash(token);
+        final VerifiedToken verified= verifiedTokens.get(key);
+        if(verified!=null){
+            if(verified.expireAt> clock.getAsLong()){
+                hitCounter.increment();
+                return verified.userId;
+            }
+            verifiedTokens.remove(key, verified);
+        }
+        missCounter.increment();
+
+        final Claims claims = getClaimsFormToken(token);
+        final String userId= claims.get("userId").toString();
+        if(claims.getExpiration()!=null) cache(key, new VerifiedToken(userId, claims.getExpiration().getTime()));
+        return userId;
+    }
+
+    private void cache(String key, VerifiedToken token) {
+        if(verifiedTokens.size()>= maxVerifiedTokens){
+            final long now= clock.getAsLong();
+            verifiedTokens.values().removeIf(v -> v.expireAt<= now);
+            if(verifiedTokens.size()>= maxVerifiedTokens) return;
+        }
+        verifiedTokens.put(key, token);
     }
 
-}
\ No newline at end of file
+    private static String hash(String token) {
+        final byte[] digest= SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+
+    private static class VerifiedToken {
+        private final String userId;
+        private final long expireAt;
+
+        VerifiedToken(String userId, long expireAt){
+            this.userId= userId;
+            this.expireAt= expireAt;
+        }
+    }
+}
@@ -5,18 +5,21 @@ import com.example.soonsul.liquor.entity.Review;
 import com.example.soonsul.user.entity.PersonalEvaluation;
 import com.example.soonsul.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PersonalEvaluationRepository extends JpaRepository<PersonalEvaluation,Long> {
 
     Optional<PersonalEvaluation> findByUserAndLiquor(User user, Liquor liquor);
+    List<PersonalEvaluation> findAllByLiquorAndUserIn(Liquor liquor, Collection<User> users);
     Long countByLiquor(Liquor liquor);
     Integer countByUser(User user);
 
@@ -28,7 +31,13 @@ public interface PersonalEvaluationRepository extends JpaRepository<PersonalEval
     @Query(nativeQuery = true,
             value="SELECT * FROM personal_evaluation p WHERE p.user_id = :userId" +
                     " ORDER BY p.personal_evaluation_id DESC")
-    Page<PersonalEvaluation> findAll(Pageable pageable, @Param("userId") String userId);
+    Slice<PersonalEvaluation> findAll(Pageable pageable, @Param("userId") String userId);
+
+    @Query(nativeQuery = true,
+            value="SELECT * FROM personal_evaluation p WHERE p.user_id = :userId" +
+                    " AND p.personal_evaluation_id < :after" +
+                    " ORDER BY p.personal_evaluation_id DESC")
+    Slice<PersonalEvaluation> findAllAfter(Pageable pageable, @Param("userId") String userId, @Param("after") Long after);
 
     void deleteByUserAndLiquor(User user, Liquor liquor);
 }
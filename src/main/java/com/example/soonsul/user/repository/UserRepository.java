@@ -1,12 +1,49 @@
 package com.example.soonsul.user.repository;
 
 import com.example.soonsul.user.entity.User;
+import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByNickname(String nickname);
+
+    //광고 알림 허용 유저를 user_id 순으로 after 다음부터
+    @Query(nativeQuery = true,
+            value="SELECT * FROM user u WHERE u.flag_advertising = true" +
+                    " AND u.user_id > :after ORDER BY u.user_id")
+    Slice<User> findAdvertisingUsers(Pageable pageable, @Param("after") String after);
+
+    @Modifying
+    @Query("UPDATE User u SET u.reviewNumber = u.reviewNumber + :delta WHERE u.userId = :userId")
+    void updateReviewNumber(@Param("userId") String userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE user u SET u.review_number =" +
+                    " (SELECT COUNT(*) FROM review r WHERE r.user_id = u.user_id)")
+    int reconcileReviewNumber();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.unreadNumber = u.unreadNumber + :delta WHERE u.userId IN :userIds")
+    void updateUnreadNumber(@Param("userIds") List<String> userIds, @Param("delta") int delta);
+
+    @Query("SELECT u.unreadNumber FROM User u WHERE u.userId = :userId")
+    Integer findUnreadNumber(@Param("userId") String userId);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value="UPDATE user u SET u.unread_number =" +
+                    " (SELECT COUNT(*) FROM notification n WHERE n.user_id = u.user_id AND n.flag_read = false)")
+    int reconcileUnreadNumber();
 }
@@ -0,0 +1,62 @@
+package com.example.soonsul.util;
+
+import com.example.soonsul.liquor.entity.Code;
+import com.example.soonsul.liquor.exception.CodeNotExist;
+import com.example.soonsul.liquor.repository.CodeRepository;
+import com.example.soonsul.response.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+//code 테이블 사전 (id <-> 이름), 읽기 전용 map을 통째로 교체
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeDictionary {
+    private final CodeRepository codeRepository;
+
+    private volatile Map<String, String> nameById;
+    private volatile Map<String, String> idByName;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public synchronized void reload(){
+        final Map<String, String> names= new HashMap<>();
+        final Map<String, String> ids= new HashMap<>();
+        for(Code c: codeRepository.findAll()){
+            names.put(c.getCodeId(), c.getCodeName());
+            ids.put(c.getCodeName(), c.getCodeId());
+        }
+        idByName= Collections.unmodifiableMap(ids);
+        nameById= Collections.unmodifiableMap(names);
+        log.info("code dictionary loaded: size={}", names.size());
+    }
+
+
+    //사전에 없으면 새로 추가된 코드일 수 있으니 DB 확인
+    public String getCodeName(String codeId){
+        if(nameById==null) reload();
+        final String name= nameById.get(codeId);
+        if(name!=null) return name;
+        return Optional.ofNullable(codeId)
+                .flatMap(codeRepository::findById)
+                .orElseThrow(()->new CodeNotExist("code not exist", ErrorCode.CODE_NOT_EXIST)).getCodeName();
+    }
+
+    public String getCodeId(String codeName){
+        if(idByName==null) reload();
+        final String id= idByName.get(codeName);
+        if(id!=null) return id;
+        return codeRepository.findByCodeName(codeName)
+                .orElseThrow(()->new CodeNotExist("code not exist", ErrorCode.CODE_NOT_EXIST)).getCodeId();
+    }
+}
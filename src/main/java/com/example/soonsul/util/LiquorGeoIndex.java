@@ -0,0 +1,92 @@
+package com.example.soonsul.util;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+//전통주 좌표 격자 인덱스 (0.1도 칸), 반경 안에 걸치는 칸만 거리 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiquorGeoIndex {
+    private static final double CELL= 0.1;
+    private static final double EARTH_RADIUS= 6371000;     //m
+
+    private final LiquorRepository liquorRepository;
+
+    private volatile Map<Long, List<Location>> grid;
+
+
+    //전통주 정보 갱신 후 호출
+    public void rebuild(){
+        final Map<Long, List<Location>> map= new HashMap<>();
+        for(Liquor l: liquorRepository.findAll()){
+            if(l.getLatitude()==null || l.getLongitude()==null) continue;
+            map.computeIfAbsent(cellKey(cell(l.getLatitude()), cell(l.getLongitude())), k -> new ArrayList<>())
+                    .add(new Location(l.getLiquorId(), l.getRegion(), l.getLatitude(), l.getLongitude()));
+        }
+        grid= map;
+        log.info("liquor geo index rebuilt: cells={}", map.size());
+    }
+
+
+    //반경(m) 안의 전통주와 거리, 가까운 순
+    public List<Pair<Location, Double>> findWithin(Double latitude, Double longitude, double radius){
+        final List<Pair<Location, Double>> result= new ArrayList<>();
+        if(latitude==null || longitude==null || Math.abs(latitude)>90 || Math.abs(longitude)>180) return result;
+        if(grid==null) rebuild();
+        final Map<Long, List<Location>> current= grid;
+
+        final double dLat= Math.toDegrees(radius/ EARTH_RADIUS);
+        final double dLon= dLat/ Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        for(long i= cell(latitude- dLat); i<= cell(latitude+ dLat); i++){
+            for(long j= cell(longitude- dLon); j<= cell(longitude+ dLon); j++){
+                for(Location l: current.getOrDefault(cellKey(i, j), Collections.emptyList())){
+                    final double distance= distance(latitude, longitude, l.getLatitude(), l.getLongitude());
+                    if(distance<=radius) result.add(Pair.of(l, distance));
+                }
+            }
+        }
+        result.sort(Comparator.comparing(Pair::getSecond));
+        return result;
+    }
+
+
+    public static double distance(double myLat, double myLon, double comLat, double comLon){
+        final double lat1= Math.toRadians(myLat);
+        final double lat2= Math.toRadians(comLat);
+        final double deltaLat= lat2- lat1;
+        final double deltaLon= Math.toRadians(comLon)- Math.toRadians(myLon);
+
+        final double a= Math.sin(deltaLat/2) * Math.sin(deltaLat/2) +
+                Math.cos(lat1) * Math.cos(lat2) * Math.sin(deltaLon/2) * Math.sin(deltaLon/2);
+        final double c= 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
+        return EARTH_RADIUS * c;
+    }
+
+
+    private static long cell(double value){
+        return (long) Math.floor(value/ CELL);
+    }
+
+    private static long cellKey(long lat, long lon){
+        return lat* 100000L+ lon;
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class Location {
+        private final String liquorId;
+        private final String region;
+        private final Double latitude;
+        private final Double longitude;
+    }
+}
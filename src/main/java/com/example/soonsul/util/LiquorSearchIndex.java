@@ -0,0 +1,408 @@
+package com.example.soonsul.util;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+//전통주 검색 인덱스: 이름, 양조장, 원재료를 자모 단위로 분해한 2-gram 역색인
+//후보는 2-gram 교집합으로 좁히고, 실제 포함 여부는 자모 문자열로 다시 확인
+//오타 검색은 이름 단어의 글자 삭제 조합을 미리 만들어 두고(SymSpell) 후보만 편집 거리 계산
+//라벨 스캔은 OCR 문자열에 이름, 양조장의 글자 2-gram이 얼마나 들어있는지로 점수 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiquorSearchIndex {
+    private static final String CHO= "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG= "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG= " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final int MAX_EDIT= 2;
+    private static final int MAX_TERM_LENGTH= 12;       //삭제 조합 수 제한, 긴 이름은 단어 단위로만 오타 검색
+    private static final int MAX_LABEL_LENGTH= 200;
+    private static final double NAME_WEIGHT= 0.8;
+    private static final Map<Character, String> COMPOUND= new HashMap<>();      //입력 중간 상태와 맞추기 위해 겹자모 분리
+
+    static {
+        final String[] pairs= {"ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ", "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ", "ㅀㄹㅎ",
+                "ㅄㅂㅅ", "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ"};
+        for(String p: pairs) COMPOUND.put(p.charAt(0), p.substring(1));
+    }
+
+    private final LiquorRepository liquorRepository;
+
+    private volatile Snapshot snapshot;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild(){
+        final Map<String, Document> docs= new LinkedHashMap<>();
+        for(Liquor l: liquorRepository.findAll()) docs.put(l.getLiquorId(), Document.of(l));
+        snapshot= new Snapshot(docs);
+        log.info("liquor search index rebuilt: size={}, grams={}", docs.size(), snapshot.postings.size());
+    }
+
+
+    //추가, 수정된 전통주만 반영 (트랜잭션 안이면 커밋 후 반영)
+    public void update(Collection<Liquor> liquors){
+        if(liquors.isEmpty()) return;
+        final List<Document> changed= liquors.stream().map(Document::of).collect(Collectors.toList());
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            apply(changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(changed);
+            }
+        });
+    }
+
+    private synchronized void apply(List<Document> changed){
+        if(snapshot==null){
+            rebuild();
+            return;
+        }
+        final Map<String, Document> docs= new LinkedHashMap<>(snapshot.docs);
+        for(Document d: changed) docs.put(d.getLiquorId(), d);
+        snapshot= new Snapshot(docs);
+    }
+
+
+    //이름 > 양조장 > 원재료 순, 같은 항목이면 그대로 포함된 것 > 자모로만 포함된 것 > 시작 위치 > 이름 순
+    public List<Hit> search(String query){
+        if(snapshot==null) rebuild();
+        final Snapshot current= snapshot;
+
+        final Text q= Text.of(query);
+        final List<Hit> result= new ArrayList<>();
+        if(q.jamo.isEmpty()){
+            for(Document d: current.list) result.add(new Hit(d, 0, true, 0, 0));
+        }
+        else{
+            final BitSet candidate= current.candidate(q.jamo);
+            for(int i= candidate.nextSetBit(0); i>=0; i= candidate.nextSetBit(i+ 1)){
+                final Hit hit= current.list.get(i).match(q);
+                if(hit!=null) result.add(hit);
+            }
+        }
+
+        result.sort(Comparator.comparing(Hit::getField)
+                .thenComparing(h -> !h.isExact())
+                .thenComparing(Hit::getStartIdx)
+                .thenComparing(h -> h.getDocument().getName()));
+        return result;
+    }
+
+
+    //글자 단위 편집 거리, 검색어 3~5글자는 1글자, 6글자 이상은 2글자까지 허용
+    //검색어의 삭제 조합만 조회하므로 전체 전통주 수와 상관없이 조회 횟수 고정
+    public List<Hit> fuzzySearch(String query){
+        if(snapshot==null) rebuild();
+        final Snapshot current= snapshot;
+
+        final String q= Text.of(query).plain;
+        final int maxEdit= (q.length()<3) ? 0 : (q.length()<6) ? 1 : MAX_EDIT;
+        final List<Hit> result= new ArrayList<>();
+        if(maxEdit==0 || q.length()> MAX_TERM_LENGTH) return result;
+
+        final BitSet candidate= new BitSet();
+        for(String d: deletes(q, maxEdit)){
+            final BitSet posting= current.deletes.get(d);
+            if(posting!=null) candidate.or(posting);
+        }
+        for(int i= candidate.nextSetBit(0); i>=0; i= candidate.nextSetBit(i+ 1)){
+            final Document doc= current.list.get(i);
+            int best= maxEdit+ 1;
+            for(String term: doc.terms) best= Math.min(best, distance(q, term, maxEdit));
+            if(best<=maxEdit) result.add(new Hit(doc, 0, false, -1, best));
+        }
+
+        result.sort(Comparator.comparing(Hit::getDistance)
+                .thenComparing(h -> h.getDocument().getName()));
+        return result;
+    }
+
+
+    //OCR 문자열과 비슷한 전통주 (점수 = 이름 2-gram 포함 비율*0.8 + 양조장 2-gram 포함 비율*0.2), 점수 높은 순
+    public List<Pair<Document, Double>> matchLabel(String text, double minScore, int size){
+        if(snapshot==null) rebuild();
+        final Snapshot current= snapshot;
+
+        final String label= normalizeLabel(text);
+        final List<Pair<Document, Double>> result= new ArrayList<>();
+        if(label.isEmpty() || size<=0) return result;
+
+        final int[] nameCount= new int[current.list.size()];
+        final int[] breweryCount= new int[current.list.size()];
+        for(String g: grams(label.length()> MAX_LABEL_LENGTH ? label.substring(0, MAX_LABEL_LENGTH) : label)){
+            count(current.nameGrams.get(g), nameCount);
+            count(current.breweryGrams.get(g), breweryCount);
+        }
+
+        for(int i=0; i<nameCount.length; i++){
+            if(nameCount[i]==0) continue;
+            final Document d= current.list.get(i);
+            final double nameScore= (double) nameCount[i]/ d.nameGrams.size();
+            final double breweryScore= d.breweryGrams.isEmpty() ? 0 : (double) breweryCount[i]/ d.breweryGrams.size();
+            final double score= Math.round((nameScore* NAME_WEIGHT+ breweryScore* (1- NAME_WEIGHT))* 1000)/ 1000.0;
+            if(score>=minScore) result.add(Pair.of(d, score));
+        }
+
+        //점수가 같으면 이름이 긴 쪽이 더 구체적 (ex. 막걸리 < 지평 생막걸리)
+        result.sort(Comparator.comparing((Pair<Document, Double> p) -> p.getSecond()).reversed()
+                .thenComparing(p -> -p.getFirst().nameGrams.size())
+                .thenComparing(p -> p.getFirst().getName()));
+        return result.size()> size ? new ArrayList<>(result.subList(0, size)) : result;
+    }
+
+    private static void count(BitSet posting, int[] counter){
+        if(posting==null) return;
+        for(int i= posting.nextSetBit(0); i>=0; i= posting.nextSetBit(i+ 1)) counter[i]++;
+    }
+
+    //분리된 자모 조합, 소문자, 글자와 숫자만 남김
+    //OCR은 호환 자모(ㄱ U+3131, ㅏ U+314F)로 주는 경우가 많아서 NFKC로 첫가끝 자모로 바꾼 뒤 조합
+    //NFKC는 자음을 모두 초성으로 바꾸므로 모음이 뒤따르지 않는 자음은 앞 글자의 받침으로 붙임 (ㅁㅏㄱ -> 막)
+    public static String normalizeLabel(String text){
+        if(text==null) return "";
+        final String composed= Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        final StringBuilder sb= new StringBuilder();
+        for(int i=0; i<composed.length(); i++){
+            final char c= composed.charAt(i);
+            if(!Character.isLetterOrDigit(c)) continue;
+            final int last= sb.length()- 1;
+            final boolean nextVowel= i+ 1<composed.length() && composed.charAt(i+ 1)>=0x1161 && composed.charAt(i+ 1)<=0x1175;
+            if(c>=0x1100 && c<=0x1112 && !nextVowel && last>=0 && isOpenSyllable(sb.charAt(last))){
+                final int jong= JONG.indexOf(CHO.charAt(c- 0x1100));
+                if(jong>0){
+                    sb.setCharAt(last, (char) (sb.charAt(last)+ jong));
+                    continue;
+                }
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    //받침 없는 완성형 글자
+    private static boolean isOpenSyllable(char c){
+        return c>=0xAC00 && c<=0xD7A3 && (c- 0xAC00)% 28==0;
+    }
+
+    //글자 2-gram (한 글자면 그 글자)
+    private static Set<String> grams(String value){
+        final Set<String> result= new HashSet<>();
+        if(value.length()==1) result.add(value);
+        for(int i=0; i+ 2<=value.length(); i++) result.add(value.substring(i, i+ 2));
+        return result;
+    }
+
+
+    //글자를 최대 maxEdit개까지 지운 모든 문자열 (자기 자신 포함)
+    public static Set<String> deletes(String term, int maxEdit){
+        final Set<String> result= new HashSet<>();
+        result.add(term);
+        List<String> level= Collections.singletonList(term);
+        for(int e=0; e<maxEdit; e++){
+            final List<String> next= new ArrayList<>();
+            for(String s: level){
+                for(int i=0; i<s.length(); i++){
+                    final String d= s.substring(0, i)+ s.substring(i+ 1);
+                    if(result.add(d)) next.add(d);
+                }
+            }
+            level= next;
+        }
+        return result;
+    }
+
+    //인접 글자 바꿈까지 포함한 편집 거리, maxEdit 넘으면 maxEdit+1
+    public static int distance(String a, String b, int maxEdit){
+        if(Math.abs(a.length()- b.length())>maxEdit) return maxEdit+ 1;
+        final int[][] dp= new int[a.length()+ 1][b.length()+ 1];
+        for(int i=0; i<=a.length(); i++) dp[i][0]= i;
+        for(int j=0; j<=b.length(); j++) dp[0][j]= j;
+        for(int i=1; i<=a.length(); i++){
+            for(int j=1; j<=b.length(); j++){
+                final int cost= (a.charAt(i- 1)==b.charAt(j- 1)) ? 0 : 1;
+                dp[i][j]= Math.min(Math.min(dp[i- 1][j]+ 1, dp[i][j- 1]+ 1), dp[i- 1][j- 1]+ cost);
+                if(i>1 && j>1 && a.charAt(i- 1)==b.charAt(j- 2) && a.charAt(i- 2)==b.charAt(j- 1)){
+                    dp[i][j]= Math.min(dp[i][j], dp[i- 2][j- 2]+ 1);
+                }
+            }
+        }
+        return Math.min(dp[a.length()][b.length()], maxEdit+ 1);
+    }
+
+
+    static String decompose(char c){
+        if(c>='가' && c<='힣'){
+            final int idx= c- '가';
+            final StringBuilder sb= new StringBuilder();
+            sb.append(split(CHO.charAt(idx/ 588)))
+                    .append(split(JUNG.charAt(idx% 588/ 28)));
+            if(idx% 28!=0) sb.append(split(JONG.charAt(idx% 28)));
+            return sb.toString();
+        }
+        return split(Character.toLowerCase(c));
+    }
+
+    private static String split(char c){
+        return COMPOUND.getOrDefault(c, String.valueOf(c));
+    }
+
+
+    private static class Snapshot {
+        private final Map<String, Document> docs;
+        private final List<Document> list;
+        private final Map<String, BitSet> postings= new HashMap<>();
+        private final Map<String, BitSet> deletes= new HashMap<>();
+        private final Map<String, BitSet> nameGrams= new HashMap<>();
+        private final Map<String, BitSet> breweryGrams= new HashMap<>();
+
+        Snapshot(Map<String, Document> docs){
+            this.docs= docs;
+            this.list= new ArrayList<>(docs.values());
+            for(int i=0; i<list.size(); i++){
+                for(Text t: list.get(i).fields){
+                    for(int j=0; j+ 2<=t.jamo.length(); j++){
+                        postings.computeIfAbsent(t.jamo.substring(j, j+ 2), k -> new BitSet()).set(i);
+                    }
+                }
+                for(String term: list.get(i).terms){
+                    for(String d: deletes(term, MAX_EDIT)) this.deletes.computeIfAbsent(d, k -> new BitSet()).set(i);
+                }
+                for(String g: list.get(i).nameGrams) nameGrams.computeIfAbsent(g, k -> new BitSet()).set(i);
+                for(String g: list.get(i).breweryGrams) breweryGrams.computeIfAbsent(g, k -> new BitSet()).set(i);
+            }
+        }
+
+        //검색어의 모든 2-gram을 가진 전통주 (한 글자면 전체)
+        BitSet candidate(String jamo){
+            final BitSet result= new BitSet();
+            result.set(0, list.size());
+            for(int j=0; j+ 2<=jamo.length() && !result.isEmpty(); j++){
+                final BitSet posting= postings.get(jamo.substring(j, j+ 2));
+                if(posting==null) return new BitSet();
+                result.and(posting);
+            }
+            return result;
+        }
+    }
+
+
+    //공백 제거, 소문자, 자모 분해한 문자열과 원래 문자열에서의 위치
+    private static class Text {
+        private final String plain;
+        private final String jamo;
+        private final int[] origin;
+
+        private Text(String plain, String jamo, int[] origin){
+            this.plain= plain;
+            this.jamo= jamo;
+            this.origin= origin;
+        }
+
+        static Text of(String value){
+            if(value==null) return new Text("", "", new int[0]);
+            final StringBuilder plain= new StringBuilder();
+            final StringBuilder jamo= new StringBuilder();
+            final List<Integer> origin= new ArrayList<>();
+            for(int i=0; i<value.length(); i++){
+                final char c= value.charAt(i);
+                if(Character.isWhitespace(c)) continue;
+                plain.append(Character.toLowerCase(c));
+                final String d= decompose(c);
+                jamo.append(d);
+                for(int k=0; k<d.length(); k++) origin.add(i);
+            }
+            return new Text(plain.toString(), jamo.toString(), origin.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+
+    @Getter
+    public static class Document {
+        private final String liquorId;
+        private final String name;
+        private final String liquorCategory;
+        private final String brewery;
+        private final String imageUrl;
+        @Getter(AccessLevel.NONE)
+        private final Text[] fields;
+        @Getter(AccessLevel.NONE)
+        private final Set<String> terms;        //오타 검색 대상: 단어 시작 위치부터 끝까지, 각 단어
+        @Getter(AccessLevel.NONE)
+        private final Set<String> nameGrams;
+        @Getter(AccessLevel.NONE)
+        private final Set<String> breweryGrams;
+
+        private Document(Liquor l){
+            this.liquorId= l.getLiquorId();
+            this.name= l.getName()==null ? "" : l.getName();
+            this.liquorCategory= l.getLiquorCategory();
+            this.brewery= l.getBrewery();
+            this.imageUrl= l.getImageUrl();
+            this.fields= new Text[]{Text.of(l.getName()), Text.of(l.getBrewery()), Text.of(l.getIngredient())};
+            this.terms= terms(this.name);
+            this.nameGrams= grams(normalizeLabel(l.getName()));
+            this.breweryGrams= grams(normalizeLabel(l.getBrewery()));
+        }
+
+        //"지평 생막걸리" -> "지평생막걸리", "생막걸리", "지평"
+        private static Set<String> terms(String name){
+            final String[] words= name.toLowerCase().trim().split("\\s+");
+            final Set<String> result= new HashSet<>();
+            for(int i=0; i<words.length; i++){
+                final String suffix= String.join("", Arrays.copyOfRange(words, i, words.length));
+                if(suffix.length()<=MAX_TERM_LENGTH) result.add(suffix);
+                if(words[i].length()<=MAX_TERM_LENGTH) result.add(words[i]);
+            }
+            result.remove("");
+            return result;
+        }
+
+        static Document of(Liquor l){
+            return new Document(l);
+        }
+
+        Hit match(Text q){
+            for(int f=0; f<fields.length; f++){
+                final Text t= fields[f];
+                final int pos= t.jamo.indexOf(q.jamo);
+                if(pos<0) continue;
+                final boolean exact= t.plain.contains(q.plain);
+                //이름에서 찾은 경우만 원래 이름 기준 위치, 나머지는 -1
+                final int startIdx= (f==0) ? t.origin[pos] : -1;
+                return new Hit(this, f, exact, startIdx, 0);
+            }
+            return null;
+        }
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Document document;
+        private final Integer field;        //0: 이름, 1: 양조장, 2: 원재료
+        private final boolean exact;
+        private final Integer startIdx;
+        private final Integer distance;     //오타 검색의 편집 거리, 일반 검색은 0
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.soonsul.util;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+//전통주 이름 자동완성용 prefix trie
+//자모 분해한 이름과 초성만 모은 이름 두 가지, 단어 시작 위치마다 넣어서 중간 단어로도 검색
+//노드마다 인기순 상위 TOP_K개를 미리 저장해서 검색은 검색어 길이만큼만 내려감
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiquorSuggestIndex {
+    public static final int TOP_K= 10;
+    private static final String CHO= "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private final LiquorRepository liquorRepository;
+
+    private volatile Snapshot snapshot;
+
+
+    //인기순(리뷰수, 평점)이 바뀌므로 주기적으로 다시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public synchronized void rebuild(){
+        final List<Liquor> list= new ArrayList<>(liquorRepository.findAll());
+        list.removeIf(l -> l.getName()==null || l.getName().isBlank());
+        list.sort(Comparator.comparing((Liquor l) -> l.getReviewNumber()==null ? 0 : l.getReviewNumber()).reversed()
+                .thenComparing(l -> l.getAverageRating()==null ? 0.0 : l.getAverageRating(), Comparator.reverseOrder())
+                .thenComparing(Liquor::getName));
+
+        final Snapshot s= new Snapshot(list.size());
+        for(int i=0; i<list.size(); i++){
+            final Liquor l= list.get(i);
+            s.ids[i]= l.getLiquorId();
+            s.names[i]= l.getName();
+            for(String word: wordStarts(l.getName())){
+                s.jamo.insert(jamo(word), i);
+                s.chosung.insert(chosung(word), i);
+            }
+        }
+        snapshot= s;
+        log.info("liquor suggest index rebuilt: size={}", list.size());
+    }
+
+
+    //초성만 입력하면 초성 trie, 아니면 자모 trie (liquorId, 이름) 인기순
+    public List<Pair<String, String>> suggest(String prefix, int size){
+        final List<Pair<String, String>> result= new ArrayList<>();
+        if(prefix==null || prefix.isBlank() || size<=0) return result;
+        if(snapshot==null) rebuild();
+        final Snapshot current= snapshot;
+
+        final String key= prefix.replaceAll("\\s", "");
+        final Node node= isChosung(key) ? current.chosung.find(key) : current.jamo.find(jamo(key));
+        if(node==null) return result;
+        for(int i=0; i<node.size && i<size; i++){
+            result.add(Pair.of(current.ids[node.top[i]], current.names[node.top[i]]));
+        }
+        return result;
+    }
+
+
+    //"지평 생막걸리" -> "지평생막걸리", "생막걸리"
+    private static List<String> wordStarts(String name){
+        final String[] words= name.trim().split("\\s+");
+        final List<String> result= new ArrayList<>();
+        for(int i=0; i<words.length; i++){
+            result.add(String.join("", Arrays.copyOfRange(words, i, words.length)));
+        }
+        return result;
+    }
+
+    private static String jamo(String value){
+        final StringBuilder sb= new StringBuilder();
+        for(int i=0; i<value.length(); i++) sb.append(LiquorSearchIndex.decompose(value.charAt(i)));
+        return sb.toString();
+    }
+
+    private static String chosung(String value){
+        final StringBuilder sb= new StringBuilder();
+        for(int i=0; i<value.length(); i++){
+            final char c= value.charAt(i);
+            if(c>='가' && c<='힣') sb.append(CHO.charAt((c- '가')/ 588));
+            else sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isChosung(String value){
+        for(int i=0; i<value.length(); i++){
+            if(CHO.indexOf(value.charAt(i))<0) return false;
+        }
+        return true;
+    }
+
+
+    private static class Snapshot {
+        private final String[] ids;
+        private final String[] names;
+        private final Node jamo= new Node();
+        private final Node chosung= new Node();
+
+        Snapshot(int size){
+            this.ids= new String[size];
+            this.names= new String[size];
+        }
+    }
+
+
+    private static class Node {
+        private final Map<Character, Node> children= new HashMap<>(4);
+        private final int[] top= new int[TOP_K];
+        private int size;
+
+        //인기순으로 넣기 때문에 먼저 들어온 TOP_K개가 곧 상위 TOP_K개
+        void insert(String key, int doc){
+            Node node= this;
+            node.add(doc);
+            for(int i=0; i<key.length(); i++){
+                node= node.children.computeIfAbsent(key.charAt(i), k -> new Node());
+                node.add(doc);
+            }
+        }
+
+        Node find(String key){
+            Node node= this;
+            for(int i=0; i<key.length() && node!=null; i++) node= node.children.get(key.charAt(i));
+            return node;
+        }
+
+        private void add(int doc){
+            if(size==TOP_K || (size>0 && top[size- 1]==doc)) return;
+            top[size++]= doc;
+        }
+    }
+}
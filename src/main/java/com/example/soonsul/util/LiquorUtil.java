@@ -21,7 +21,7 @@ public class LiquorUtil {
     private final ReviewRepository reviewRepository;
     private final EvaluationNumberRepository evaluationNumberRepository;
     private final CommentRepository commentRepository;
-    private final CodeRepository codeRepository;
+    private final CodeDictionary codeDictionary;
 
 
     public Liquor getLiquor(String liquorId){
@@ -39,6 +39,11 @@ public class LiquorUtil {
                 .orElseThrow(()-> new LiquorNotExist("evaluation number not exist", ErrorCode.LIQUOR_NOT_EXIST));
     }
 
+    public EvaluationNumber getEvaluationNumberForUpdate(String liquorId){
+        return evaluationNumberRepository.findByIdForUpdate(liquorId)
+                .orElseThrow(()-> new LiquorNotExist("evaluation number not exist", ErrorCode.LIQUOR_NOT_EXIST));
+    }
+
     public PersonalEvaluation getPersonalEvaluation(User user, Liquor liquor){
         return personalEvaluationRepository.findByUserAndLiquor(user, liquor)
                 .orElseThrow(()-> new PersonalEvaluationNotExist("liquor evaluation not exist", ErrorCode.PERSONAL_EVALUATION_NOT_EXIST));
@@ -55,13 +60,11 @@ public class LiquorUtil {
     }
 
     public String getCodeName(String codeId){
-        return codeRepository.findById(codeId)
-                .orElseThrow(()->new CodeNotExist("code not exist", ErrorCode.CODE_NOT_EXIST)).getCodeName();
+        return codeDictionary.getCodeName(codeId);
     }
 
     public String getCodeId(String codeName){
-        return codeRepository.findByCodeName(codeName)
-                .orElseThrow(()->new CodeNotExist("code not exist", ErrorCode.CODE_NOT_EXIST)).getCodeId();
+        return codeDictionary.getCodeId(codeName);
     }
 
 }
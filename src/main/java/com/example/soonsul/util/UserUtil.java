@@ -1,5 +1,6 @@
 package com.example.soonsul.util;
 
+import com.example.soonsul.cache.UserCache;
 import com.example.soonsul.response.error.ErrorCode;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.exception.UserNotExist;
@@ -8,19 +9,59 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 @RequiredArgsConstructor
 public class UserUtil {
+    private static final String LOGIN_USER= UserUtil.class.getName()+ ".LOGIN_USER";
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
+
 
+    //같은 요청 안에서는 처음 조회한 유저를 재사용 (request attribute), 요청 사이는 UserCache
+    //캐시에서 꺼낸 유저는 준영속 복사본이라 수정할 때는 getUserForUpdate 사용
     public User getUserByAuthentication(){
-        Authentication authentication= SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findById(authentication.getName())
-                .orElseThrow(()-> new UserNotExist("login user not exist", ErrorCode.USER_NOT_EXIST));
+        final RequestAttributes attributes= RequestContextHolder.getRequestAttributes();
+        if(attributes!=null){
+            final Object loginUser= attributes.getAttribute(LOGIN_USER, RequestAttributes.SCOPE_REQUEST);
+            if(loginUser instanceof User) return (User) loginUser;
+        }
+
+        final User user= getUserById(getLoginUserId());
+        if(attributes!=null) attributes.setAttribute(LOGIN_USER, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
     }
 
     public User getUserById(String userId){
+        final User cached= userCache.get(userId);
+        if(cached!=null) return cached;
+
+        final User user= findUser(userId);
+        userCache.put(user);
+        return user;
+    }
+
+
+    //변경 감지로 수정할 유저 (영속 상태), 캐시는 커밋 후 삭제
+    public User getUserForUpdate(){
+        final User user= findUser(getLoginUserId());
+        userCache.evict(user.getUserId());
+
+        final RequestAttributes attributes= RequestContextHolder.getRequestAttributes();
+        if(attributes!=null) attributes.setAttribute(LOGIN_USER, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+
+
+    private String getLoginUserId(){
+        final Authentication authentication= SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
+
+    private User findUser(String userId){
         return userRepository.findById(userId)
                 .orElseThrow(()-> new UserNotExist("login user not exist", ErrorCode.USER_NOT_EXIST));
     }
@@ -0,0 +1,212 @@
+package com.example.soonsul.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TwoLevelCacheTest {
+
+    private final MeterRegistry meterRegistry= new SimpleMeterRegistry();
+    private final AtomicLong now= new AtomicLong(0);
+    private final List<String> published= new ArrayList<>();
+    private final Cache remote= spy(new ConcurrentMapCache(CacheKey.LIQUOR));
+
+    private TwoLevelCache cache;
+
+
+    @BeforeEach
+    void init(){
+        final LocalCache local= new LocalCache(2, Duration.ofSeconds(60), now::get, () -> {});
+        cache= new TwoLevelCache(CacheKey.LIQUOR, remote, local, (name, key) -> published.add(name+ ":"+ key), meterRegistry);
+    }
+
+
+    @Test
+    void 두번째_조회는_L1에서(){
+        //given
+        remote.put("L1", "detail");
+
+        //when
+        cache.get("L1");
+        final Cache.ValueWrapper result= cache.get("L1");
+
+        //then
+        assertEquals(result.get(), "detail");
+        verify(remote, times(1)).get("L1");
+        assertEquals(count("l1", "hit"), 1.0);
+        assertEquals(count("l1", "miss"), 1.0);
+        assertEquals(count("l2", "hit"), 1.0);
+    }
+
+
+    @Test
+    void 삭제하면_양쪽_삭제_후_전파(){
+        //given
+        cache.put("L1", "detail");
+
+        //when
+        cache.evict("L1");
+
+        //then
+        assertNull(cache.get("L1"));
+        assertNull(remote.get("L1"));
+        assertEquals(published.get(published.size()- 1), CacheKey.LIQUOR+ ":L1");
+        assertEquals(count("l2", "miss"), 1.0);
+    }
+
+
+    @Test
+    void 저장은_전파하지_않음(){
+        //given
+
+        //when
+        cache.put("L1", "detail");
+        cache.get("L2", () -> "loaded");
+
+        //then
+        assertTrue(published.isEmpty());
+    }
+
+
+    @Test
+    void L1은_저장한_인스턴스를_그대로_반환(){
+        //given
+        final List<String> value= List.of("a");
+        cache.put("L1", value);
+
+        //when
+        final Object first= cache.get("L1").get();
+        final Object second= cache.get("L1").get();
+
+        //then
+        assertSame(first, value);
+        assertSame(second, value);
+        verify(remote, never()).get("L1");
+    }
+
+
+    @Test
+    void 다른_서버에서_무효화하면_L2에서_다시_조회(){
+        //given
+        cache.put("L1", "old");
+        remote.put("L1", "new");     //다른 서버가 갱신
+
+        //when
+        final Object before= cache.get("L1").get();
+        cache.invalidateLocal("L1");
+        final Object after= cache.get("L1").get();
+
+        //then
+        assertEquals(before, "old");
+        assertEquals(after, "new");
+    }
+
+
+    @Nested
+    class L1_캐시{
+
+        @Test
+        void TTL_지나면_만료(){
+            //given
+            final LocalCache local= new LocalCache(10, Duration.ofSeconds(60), now::get, () -> {});
+            local.put("L1", new SimpleValueWrapper("detail"));
+
+            //when
+            now.addAndGet(59_999);
+            final Cache.ValueWrapper alive= local.get("L1");
+            now.addAndGet(1);
+            final Cache.ValueWrapper expired= local.get("L1");
+
+            //then
+            assertNotNull(alive);
+            assertNull(expired);
+        }
+
+        @Test
+        void 크기_넘으면_가장_오래_안쓴것부터_삭제(){
+            //given
+            final AtomicLong evictions= new AtomicLong();
+            final LocalCache local= new LocalCache(2, Duration.ofSeconds(60), now::get, evictions::incrementAndGet);
+            local.put("L1", new SimpleValueWrapper(1));
+            local.put("L2", new SimpleValueWrapper(2));
+            local.get("L1");
+
+            //when
+            local.put("L3", new SimpleValueWrapper(3));
+
+            //then
+            assertEquals(local.size(), 2);
+            assertNotNull(local.get("L1"));
+            assertNull(local.get("L2"));
+            assertEquals(evictions.get(), 1);
+        }
+    }
+
+
+    @Nested
+    class 무효화_메세지{
+
+        @Mock
+        private StringRedisTemplate stringRedisTemplate;
+
+        @Test
+        void 다른_서버_메세지만_반영(){
+            //given
+            final ConcurrentMapCacheManager remoteManager= new ConcurrentMapCacheManager();
+            final TwoLevelCacheManager manager= new TwoLevelCacheManager(remoteManager, stringRedisTemplate, meterRegistry);
+            final Cache managed= manager.getCache(CacheKey.LIQUOR);
+            managed.put("L1", "old");
+            managed.evict("L0");
+            final ArgumentCaptor<String> own= ArgumentCaptor.forClass(String.class);
+            verify(stringRedisTemplate).convertAndSend(eq(TwoLevelCacheManager.CHANNEL), own.capture());
+            final String ownL1= own.getValue().substring(0, own.getValue().lastIndexOf('|')+ 1)+ "L1";
+            remoteManager.getCache(CacheKey.LIQUOR).put("L1", "new");
+
+            //when
+            manager.onMessage(message(ownL1), null);
+            final Object afterOwn= managed.get("L1").get();
+            manager.onMessage(message("other-server|"+ CacheKey.LIQUOR+ "|L1"), null);
+            final Object afterOther= managed.get("L1").get();
+
+            //then
+            assertEquals(afterOwn, "old");
+            assertEquals(afterOther, "new");
+        }
+    }
+
+
+    private DefaultMessage message(String body){
+        return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double count(String tier, String result){
+        return meterRegistry.get("cache.tier.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
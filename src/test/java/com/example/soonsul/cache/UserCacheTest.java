@@ -0,0 +1,97 @@
+package com.example.soonsul.cache;
+
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.oauth.OAuthProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserCacheTest {
+
+    private UserCache userCache;
+
+
+    @BeforeEach
+    void setUp(){
+        userCache= new UserCache(new ConcurrentMapCacheManager(CacheKey.USER));
+    }
+
+
+    @Test
+    void 저장한_유저를_수정해도_캐시는_그대로(){
+        //given
+        final User user= user("user1", "순술");
+        userCache.put(user);
+
+        //when
+        user.updateNickname("변경");
+
+        //then
+        assertEquals(userCache.get("user1").getNickname(), "순술");
+    }
+
+
+    @Test
+    void 조회할_때마다_다른_인스턴스(){
+        //given
+        userCache.put(user("user1", "순술"));
+
+        //when
+        final User first= userCache.get("user1");
+        first.updateNickname("변경");
+        final User second= userCache.get("user1");
+
+        //then
+        assertNotSame(first, second);
+        assertEquals(second.getNickname(), "순술");
+        assertNull(userCache.get("user2"));
+    }
+
+
+    @Test
+    void 저장한_필드를_모두_복원(){
+        //given
+        final User user= User.builder()
+                .userId("user1")
+                .nickname("순술")
+                .gender("f")
+                .age(27)
+                .flagAge(true)
+                .flagActivity(true)
+                .oAuthProvider(OAuthProvider.KAKAO)
+                .birthday(LocalDate.of(1997, 3, 1))
+                .deviceToken("token")
+                .reviewNumber(4)
+                .unreadNumber(2)
+                .build();
+        userCache.put(user);
+
+        //when
+        final User cached= userCache.get("user1");
+
+        //then
+        assertEquals(cached.getGender(), "f");
+        assertEquals(cached.getAge(), 27);
+        assertTrue(cached.isFlagAge());
+        assertTrue(cached.isFlagActivity());
+        assertFalse(cached.isFlagWithdrawal());
+        assertEquals(cached.getOAuthProvider(), OAuthProvider.KAKAO);
+        assertEquals(cached.getBirthday(), LocalDate.of(1997, 3, 1));
+        assertEquals(cached.getDeviceToken(), "token");
+        assertEquals(cached.getReviewNumber(), 4);
+        assertEquals(cached.getUnreadNumber(), 2);
+    }
+
+
+    private User user(String userId, String nickname){
+        return User.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .birthday(LocalDate.of(2000, 1, 1))
+                .build();
+    }
+}
@@ -52,7 +52,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            liquor.updateAverageRating(2.5);
+            number.addRatingSum(2.5);
             number.addAverageRating(CalculationType.ADD);
 
             //when
@@ -78,7 +78,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            liquor.updateAverageRating(3.0);
+            number.addRatingSum(6.0);
             number.addAverageRating(CalculationType.ADD);
             number.addAverageRating(CalculationType.ADD);
             pe.updateLiquorPersonalRating(3.5);
@@ -89,11 +89,45 @@ public class AverageCalculationTest {
 
             //then
             assertEquals(liquor.getAverageRating(), 3.3);   //3.25
+            assertEquals(number.getRatingSum().doubleValue(), 6.5);
             assertEquals(number.getAverageRating(), 2);
             assertEquals(pe.getLiquorPersonalRating(), 4.0);
         }
 
 
+        @Test
+        void 수정을_반복해도_오차가_쌓이지_않는_경우(){
+            /*
+             * 평가 3개 (합계 3.5, 평균 1.2)
+             * 1. 1.0점
+             * 2. 1.0점
+             * 3. 1.5점 -> 4.5점, 1.5점으로 100번 반복 수정
+             * */
+            //given
+            final Liquor liquor= liquor();
+            final EvaluationNumber number= number();
+            final PersonalEvaluation pe= personalEvaluation();
+
+            number.addRatingSum(3.5);
+            number.addAverageRating(CalculationType.ADD);
+            number.addAverageRating(CalculationType.ADD);
+            number.addAverageRating(CalculationType.ADD);
+            pe.updateLiquorPersonalRating(1.5);
+
+            //when
+            for(int i=0; i<100; i++){
+                evaluationService.calAverageRating(MethodType.PUT, liquor, number, 4.5, pe);
+                evaluationService.calAverageRating(MethodType.PUT, liquor, number, 1.5, pe);
+            }
+
+
+            //then
+            assertEquals(liquor.getAverageRating(), 1.2);   //3.5/3
+            assertEquals(number.getRatingSum().doubleValue(), 3.5);
+            assertEquals(number.getAverageRating(), 3);
+        }
+
+
         @Test
         void 값을_삭제하는_경우(){
             /*
@@ -106,7 +140,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            liquor.updateAverageRating(3.0);
+            number.addRatingSum(6.0);
             number.addAverageRating(CalculationType.ADD);
             number.addAverageRating(CalculationType.ADD);
             pe.updateLiquorPersonalRating(3.5);
@@ -140,7 +174,7 @@ public class AverageCalculationTest {
 
 
             //then
-            assertEquals(evaluation.getSweetness(), 2.0);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 2.0);
             assertEquals(number.getSweetness(), 1);
             assertEquals(pe.getSweetness(), 2);
         }
@@ -157,7 +191,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            evaluation.updateFlavor(FlavorType.SWEETNESS, 3.0);
+            evaluation.addFlavor(FlavorType.SWEETNESS, 3);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
 
             //when
@@ -166,7 +200,7 @@ public class AverageCalculationTest {
 
 
             //then
-            assertEquals(evaluation.getSweetness(), 1.5);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 1.5);
             assertEquals(number.getSweetness(), 2);
             assertEquals(pe.getSweetness(), 0);
             assertNotNull(pe.getSweetness());
@@ -185,7 +219,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            evaluation.updateFlavor(FlavorType.SWEETNESS, 2.5);
+            evaluation.addFlavor(FlavorType.SWEETNESS, 5);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             pe.updateFlavor(FlavorType.SWEETNESS, 2);
@@ -197,7 +231,7 @@ public class AverageCalculationTest {
 
 
             //then
-            assertEquals(evaluation.getSweetness(), 4.0);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 4.0);
             assertEquals(number.getSweetness(), 2);
             assertEquals(pe.getSweetness(), 5);
         }
@@ -214,7 +248,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            evaluation.updateFlavor(FlavorType.SWEETNESS, 2.5);
+            evaluation.addFlavor(FlavorType.SWEETNESS, 5);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             pe.updateFlavor(FlavorType.SWEETNESS, 2);
@@ -226,7 +260,7 @@ public class AverageCalculationTest {
 
 
             //then
-            assertEquals(evaluation.getSweetness(), 1.5);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 1.5);
             assertEquals(number.getSweetness(), 2);
             assertEquals(pe.getSweetness(), 0);
         }
@@ -243,7 +277,7 @@ public class AverageCalculationTest {
             final EvaluationNumber number= number();
             final PersonalEvaluation pe= personalEvaluation();
 
-            evaluation.updateFlavor(FlavorType.SWEETNESS, 2.5);
+            evaluation.addFlavor(FlavorType.SWEETNESS, 5);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
             pe.updateFlavor(FlavorType.SWEETNESS, 2);
@@ -255,7 +289,7 @@ public class AverageCalculationTest {
 
 
             //then
-            assertEquals(evaluation.getSweetness(), 3.0);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 3.0);
             assertEquals(number.getSweetness(), 1);
             assertNull(pe.getSweetness());
         }
@@ -270,7 +304,6 @@ public class AverageCalculationTest {
 
     private Evaluation evaluation(){
         return Evaluation.builder()
-                .sweetness(0.0)
                 .build();
     }
 
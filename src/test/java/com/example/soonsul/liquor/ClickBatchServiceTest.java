@@ -0,0 +1,130 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.dto.ClickEvent;
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.ClickRankingRepository;
+import com.example.soonsul.liquor.repository.FilteringClickRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.liquor.repository.RegionClickRankingRepository;
+import com.example.soonsul.liquor.service.ClickBatchService;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClickBatchServiceTest {
+
+    private ClickBatchService clickBatchService;
+
+    @Mock
+    private ClickRankingRepository clickRankingRepository;
+
+    @Mock
+    private RegionClickRankingRepository regionClickRankingRepository;
+
+    @Mock
+    private FilteringClickRepository filteringClickRepository;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Captor
+    private ArgumentCaptor<Map<String, Long>> captor;
+
+    private final MeterRegistry meterRegistry= new SimpleMeterRegistry();
+
+
+    @BeforeEach
+    void setUp(){
+        clickBatchService= new ClickBatchService(clickRankingRepository, regionClickRankingRepository,
+                filteringClickRepository, liquorRepository, userRepository, meterRegistry);
+    }
+
+
+    @Test
+    void 클릭을_모아서_한번에_저장(){
+        //given
+        clickBatchService.enqueue(new ClickEvent("L1", "U1"));
+        clickBatchService.enqueue(new ClickEvent("L1", "U1"));
+        clickBatchService.enqueue(new ClickEvent("L2", null));
+        clickBatchService.enqueue(new ClickEvent("L9", "U1"));     //없는 전통주
+        doReturn(Arrays.asList(liquor("L1"), liquor("L2"))).when(liquorRepository).findAllById(any());
+        doReturn(Collections.singletonList(User.builder().userId("U1").age(20).gender("M").build()))
+                .when(userRepository).findAllById(any());
+        assertEquals(meterRegistry.get("click.queue.size").gauge().value(), 4.0);
+
+        //when
+        clickBatchService.flush();
+
+        //then
+        verify(clickRankingRepository, times(1)).increaseAll(captor.capture());
+        assertEquals(captor.getValue().size(), 2);
+        assertEquals(captor.getValue().get("L1"), 2L);
+        assertEquals(captor.getValue().get("L2"), 1L);
+        verify(liquorRepository, times(1)).findAllById(any());
+        verify(userRepository, times(1)).findAllById(any());
+        final Map<String, Map<String, Long>> regionCountMap= new HashMap<>();
+        regionCountMap.put("R001", new HashMap<>(captor.getValue()));
+        verify(regionClickRankingRepository, times(1)).increaseAll(regionCountMap);
+        verify(filteringClickRepository, times(1)).saveAll(argThat(list -> ((List<?>) list).size()==2));
+        assertEquals(meterRegistry.get("click.flushed").counter().count(), 4.0);
+        assertEquals(meterRegistry.get("click.queue.size").gauge().value(), 0.0);
+    }
+
+
+    @Test
+    void 종료시_남은_클릭_저장(){
+        //given
+        clickBatchService.enqueue(new ClickEvent("L1", null));
+        doReturn(Collections.singletonList(liquor("L1"))).when(liquorRepository).findAllById(any());
+
+        //when
+        clickBatchService.shutdown();
+
+        //then
+        verify(clickRankingRepository, times(1)).increaseAll(Collections.singletonMap("L1", 1L));
+        verify(regionClickRankingRepository, times(1)).increaseAll(Collections.singletonMap("R001", Collections.singletonMap("L1", 1L)));
+    }
+
+
+    @Test
+    void 저장_실패시_드랍_집계(){
+        //given
+        clickBatchService.enqueue(new ClickEvent("L1", null));
+        doThrow(new RuntimeException("redis down")).when(liquorRepository).findAllById(any());
+
+        //when
+        clickBatchService.flush();
+
+        //then
+        assertEquals(meterRegistry.get("click.dropped").counter().count(), 1.0);
+        verifyNoInteractions(clickRankingRepository, regionClickRankingRepository, filteringClickRepository);
+    }
+
+
+    private Liquor liquor(String liquorId){
+        return Liquor.builder()
+                .liquorId(liquorId)
+                .region("R001")
+                .latitude(37.0)
+                .longitude(127.0)
+                .build();
+    }
+}
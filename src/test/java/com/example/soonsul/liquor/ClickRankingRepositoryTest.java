@@ -0,0 +1,66 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.repository.ClickRankingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClickRankingRepositoryTest {
+
+    @InjectMocks
+    private ClickRankingRepository clickRankingRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final LocalDate monday= LocalDate.of(2023, 7, 3);
+
+
+    @BeforeEach
+    void init(){
+        doReturn(zSetOperations).when(stringRedisTemplate).opsForZSet();
+    }
+
+
+    @Test
+    void 이번주_랭킹(){
+        //given
+        doReturn(new LinkedHashSet<>(Arrays.asList("L1", "L2"))).when(zSetOperations).reverseRange("click:week:2023-W27", 0, 9);
+
+        //when
+        final List<String> result= clickRankingRepository.findTopLiquorIds(10, monday);
+
+        //then
+        assertEquals(result, Arrays.asList("L1", "L2"));
+        verify(zSetOperations, never()).reverseRange("click:week:2023-W26", 0, 9);
+    }
+
+
+    @Test
+    void 이번주_클릭이_없으면_지난주_랭킹(){
+        //given
+        doReturn(Collections.emptySet()).when(zSetOperations).reverseRange("click:week:2023-W27", 0, 9);
+        doReturn(new LinkedHashSet<>(Arrays.asList("L3", "L4"))).when(zSetOperations).reverseRange("click:week:2023-W26", 0, 9);
+
+        //when
+        final List<String> result= clickRankingRepository.findTopLiquorIds(10, monday);
+
+        //then
+        assertEquals(result, Arrays.asList("L3", "L4"));
+    }
+}
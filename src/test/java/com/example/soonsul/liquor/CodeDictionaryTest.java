@@ -0,0 +1,82 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.entity.Code;
+import com.example.soonsul.liquor.exception.CodeNotExist;
+import com.example.soonsul.liquor.repository.CodeRepository;
+import com.example.soonsul.util.CodeDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CodeDictionaryTest {
+
+    @InjectMocks
+    private CodeDictionary codeDictionary;
+
+    @Mock
+    private CodeRepository codeRepository;
+
+
+    @Test
+    void 한번_불러온_뒤에는_DB_조회_없음(){
+        //given
+        doReturn(Arrays.asList(code("C01", "탁주"), code("C02", "약주"))).when(codeRepository).findAll();
+
+        //when
+        for(int i=0; i<100; i++){
+            assertEquals(codeDictionary.getCodeName("C01"), "탁주");
+            assertEquals(codeDictionary.getCodeId("약주"), "C02");
+        }
+
+        //then
+        verify(codeRepository, times(1)).findAll();
+        verifyNoMoreInteractions(codeRepository);
+    }
+
+
+    @Test
+    void 사전에_없는_코드는_DB_확인_후_예외(){
+        //given
+        doReturn(Collections.singletonList(code("C01", "탁주"))).when(codeRepository).findAll();
+        doReturn(Optional.empty()).when(codeRepository).findById("C99");
+        doReturn(Optional.of(code("C03", "증류주"))).when(codeRepository).findByCodeName("증류주");
+
+        //when, then
+        assertThrows(CodeNotExist.class, ()-> codeDictionary.getCodeName("C99"));
+        assertThrows(CodeNotExist.class, ()-> codeDictionary.getCodeName(null));
+        assertEquals(codeDictionary.getCodeId("증류주"), "C03");
+    }
+
+
+    @Test
+    void 다시_불러오면_사전_교체(){
+        //given
+        doReturn(Collections.singletonList(code("C01", "탁주")))
+                .doReturn(Collections.singletonList(code("C01", "막걸리")))
+                .when(codeRepository).findAll();
+        codeDictionary.reload();
+        assertEquals(codeDictionary.getCodeName("C01"), "탁주");
+
+        //when
+        codeDictionary.reload();
+
+        //then
+        assertEquals(codeDictionary.getCodeName("C01"), "막걸리");
+        assertEquals(codeDictionary.getCodeId("막걸리"), "C01");
+    }
+
+
+    private Code code(String codeId, String codeName){
+        return Code.builder().codeId(codeId).codeName(codeName).build();
+    }
+}
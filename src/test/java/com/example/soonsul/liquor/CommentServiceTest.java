@@ -0,0 +1,132 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.dto.CommentRequest;
+import com.example.soonsul.liquor.entity.Comment;
+import com.example.soonsul.liquor.entity.Review;
+import com.example.soonsul.liquor.repository.CommentGoodRepository;
+import com.example.soonsul.liquor.repository.CommentRepository;
+import com.example.soonsul.liquor.repository.ReviewRepository;
+import com.example.soonsul.liquor.service.CommentService;
+import com.example.soonsul.notification.NotificationOutboxService;
+import com.example.soonsul.notification.NotificationRepository;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.util.LiquorUtil;
+import com.example.soonsul.util.UserUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentServiceTest {
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Mock
+    private UserUtil userUtil;
+
+    @Mock
+    private LiquorUtil liquorUtil;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentGoodRepository commentGoodRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private final User user= User.builder().userId("U1").build();
+
+    private final Review review= Review.builder().reviewId(10L).user(User.builder().userId("U2").build()).build();
+
+
+    @Test
+    void 댓글_작성시_리뷰_댓글수_증가(){
+        //given
+        doReturn(user).when(userUtil).getUserByAuthentication();
+        doReturn(review).when(liquorUtil).getReview(10L);
+        doAnswer(invocation -> comment(1L, 0L)).when(commentRepository).save(any(Comment.class));
+
+        //when
+        commentService.postComment(10L, request("좋아요"));
+
+        //then
+        verify(reviewRepository, times(1)).updateCommentNumber(10L, 1);
+        verify(commentRepository, never()).updateReCommentNumber(anyLong(), anyInt());
+    }
+
+
+    @Test
+    void 댓글_삭제시_대댓글까지_댓글수_감소(){
+        //given
+        doReturn(comment(1L, 1L)).when(liquorUtil).getComment(1L);
+        doReturn(3L).when(commentRepository).deleteAllByUpperCommentId(1L);       //댓글 1개 + 대댓글 2개
+
+        //when
+        commentService.deleteComment(1L);
+
+        //then
+        verify(reviewRepository, times(1)).updateCommentNumber(10L, -3);
+    }
+
+
+    @Test
+    void 대댓글_작성시_리뷰_댓글수와_대댓글수_증가(){
+        //given
+        doReturn(user).when(userUtil).getUserByAuthentication();
+        doReturn(comment(1L, 1L)).when(liquorUtil).getComment(1L);
+        doAnswer(invocation -> comment(2L, 1L)).when(commentRepository).save(any(Comment.class));
+
+        //when
+        commentService.postReComment(1L, request("저도요"));
+
+        //then
+        verify(reviewRepository, times(1)).updateCommentNumber(10L, 1);
+        verify(commentRepository, times(1)).updateReCommentNumber(1L, 1);
+    }
+
+
+    @Test
+    void 대댓글_삭제시_리뷰_댓글수와_대댓글수_감소(){
+        //given
+        doReturn(comment(2L, 1L)).when(liquorUtil).getComment(2L);
+
+        //when
+        commentService.deleteReComment(2L);
+
+        //then
+        verify(reviewRepository, times(1)).updateCommentNumber(10L, -1);
+        verify(commentRepository, times(1)).updateReCommentNumber(1L, -1);
+        verify(commentRepository, times(1)).deleteById(2L);
+    }
+
+
+    private Comment comment(Long commentId, Long upperCommentId){
+        return Comment.builder()
+                .commentId(commentId)
+                .content("content"+ commentId)
+                .review(review)
+                .user(user)
+                .upperCommentId(upperCommentId)
+                .build();
+    }
+
+    private CommentRequest request(String content){
+        final CommentRequest request= mock(CommentRequest.class);
+        doReturn(content).when(request).getContent();
+        return request;
+    }
+}
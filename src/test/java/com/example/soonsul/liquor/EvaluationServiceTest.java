@@ -3,11 +3,18 @@ package com.example.soonsul.liquor;
 import com.example.soonsul.liquor.dto.EvaluationRequest;
 import com.example.soonsul.liquor.entity.*;
 import com.example.soonsul.liquor.exception.PersonalRatingNull;
+import com.example.soonsul.liquor.repository.CommentRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
 import com.example.soonsul.liquor.repository.ReviewRepository;
 import com.example.soonsul.liquor.service.EvaluationService;
+import com.example.soonsul.notification.NotificationRepository;
+import com.example.soonsul.notification.NotificationService;
+import com.example.soonsul.notification.entity.NotificationType;
 import com.example.soonsul.user.entity.PersonalEvaluation;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.user.repository.UserRepository;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import org.junit.jupiter.api.*;
@@ -15,15 +22,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.transaction.PlatformTransactionManager;
 
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,7 +53,22 @@ public class EvaluationServiceTest {
     private ReviewRepository reviewRepository;
 
     @Mock
-    private PlatformTransactionManager transactionManager;
+    private LiquorRepository liquorRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ReviewGoodRepository reviewGoodRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
 
     private final User user= user();
 
@@ -70,7 +93,7 @@ public class EvaluationServiceTest {
             doReturn(user).when(userUtil).getUserByAuthentication();
             doReturn(liquor).when(liquorUtil).getLiquor(liquorId);
             doReturn(evaluation).when(liquorUtil).getEvaluation(liquorId);
-            doReturn(number).when(liquorUtil).getEvaluationNumber(liquorId);
+            doReturn(number).when(liquorUtil).getEvaluationNumberForUpdate(liquorId);
             doReturn(pe).when(personalEvaluationRepository).save(any(PersonalEvaluation.class));
         }
 
@@ -122,6 +145,29 @@ public class EvaluationServiceTest {
             assertEquals(pe.getLiquorPersonalRating(), 5.0);
             assertNull(pe.getSweetness());
             verify(reviewRepository,times(1)).save(any(Review.class));
+            verify(liquorRepository,times(1)).updateReviewNumber(liquor.getLiquorId(), 1);
+            verify(userRepository,times(1)).updateReviewNumber(user.getUserId(), 1);
+        }
+
+        @Test
+        void 이미_평가된_전통주에_평가할_경우(){
+            //given
+            number.addRatingSum(3.0);
+            number.addAverageRating(CalculationType.ADD);
+            number.addRatingSum(4.0);
+            number.addAverageRating(CalculationType.ADD);
+            evaluation.addFlavor(FlavorType.SWEETNESS, 2);
+            number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
+            request.setLiquorPersonalRating(5.0);
+            request.setSweetness(4);
+
+            //when
+            evaluationService.postEvaluation(liquorId, request);
+
+            //then
+            assertEquals(liquor.getAverageRating(), 4.0);
+            assertEquals(number.getAverageRating(), 3);
+            assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 3.0);
         }
 
         @Test
@@ -166,7 +212,7 @@ public class EvaluationServiceTest {
             doReturn(user).when(userUtil).getUserByAuthentication();
             doReturn(liquor).when(liquorUtil).getLiquor(liquorId);
             doReturn(evaluation).when(liquorUtil).getEvaluation(liquorId);
-            doReturn(number).when(liquorUtil).getEvaluationNumber(liquorId);
+            doReturn(number).when(liquorUtil).getEvaluationNumberForUpdate(liquorId);
             doReturn(pe).when(liquorUtil).getPersonalEvaluation(user, liquor);
         }
 
@@ -189,6 +235,7 @@ public class EvaluationServiceTest {
             void 수정할값이_이전이랑_다른_경우(){
                 //given
                 pe.updateLiquorPersonalRating(3.0);
+                number.addRatingSum(3.0);
                 number.addAverageRating(CalculationType.ADD);
                 request.setLiquorPersonalRating(4.0);
 
@@ -207,7 +254,7 @@ public class EvaluationServiceTest {
             @Test
             void 수정할값이_이전이랑_같은_경우(){
                 //given
-                evaluation.updateFlavor(FlavorType.SWEETNESS, 4.0);
+                evaluation.addFlavor(FlavorType.SWEETNESS, 4);
                 pe.updateFlavor(FlavorType.SWEETNESS, 4);
                 number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
                 request.setSweetness(4);
@@ -216,14 +263,14 @@ public class EvaluationServiceTest {
                 evaluationService.putEvaluation(liquorId, request);
 
                 //then
-                assertEquals(evaluation.getFlavor(FlavorType.SWEETNESS), 4.0);
+                assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 4.0);
             }
 
             @DisplayName("평균 수정")
             @Test
             void 수정할값이_이전이랑_다른_경우(){
                 //given
-                evaluation.updateFlavor(FlavorType.SWEETNESS, 4.0);
+                evaluation.addFlavor(FlavorType.SWEETNESS, 4);
                 pe.updateFlavor(FlavorType.SWEETNESS, 4);
                 number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
                 request.setSweetness(2);
@@ -232,7 +279,7 @@ public class EvaluationServiceTest {
                 evaluationService.putEvaluation(liquorId, request);
 
                 //then
-                assertEquals(evaluation.getFlavor(FlavorType.SWEETNESS), 2.0);
+                assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 2.0);
             }
 
             @DisplayName("평균 등록")
@@ -246,7 +293,7 @@ public class EvaluationServiceTest {
                 evaluationService.putEvaluation(liquorId, request);
 
                 //then
-                assertEquals(evaluation.getFlavor(FlavorType.SWEETNESS), 2);
+                assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 2.0);
                 assertEquals(number.getFlavor(FlavorType.SWEETNESS), 1);
             }
 
@@ -254,7 +301,7 @@ public class EvaluationServiceTest {
             @Test
             void 평가한값을_삭제할_경우(){
                 //given
-                evaluation.updateFlavor(FlavorType.SWEETNESS, 4.0);
+                evaluation.addFlavor(FlavorType.SWEETNESS, 4);
                 pe.updateFlavor(FlavorType.SWEETNESS, 4);
                 number.updateFlavor(FlavorType.SWEETNESS, CalculationType.ADD);
                 request.setSweetness(null);
@@ -263,7 +310,7 @@ public class EvaluationServiceTest {
                 evaluationService.putEvaluation(liquorId, request);
 
                 //then
-                assertEquals(evaluation.getFlavor(FlavorType.SWEETNESS), 0.0);
+                assertEquals(evaluation.getFlavorAverage(FlavorType.SWEETNESS, number), 0.0);
                 assertEquals(number.getFlavor(FlavorType.SWEETNESS), 0);
             }
         }
@@ -295,6 +342,25 @@ public class EvaluationServiceTest {
 
                 //then
                 verify(reviewRepository,times(1)).deleteById(any(Long.class));
+                verify(liquorRepository,times(1)).updateReviewNumber(liquor.getLiquorId(), -1);
+                verify(userRepository,times(1)).updateReviewNumber(user.getUserId(), -1);
+            }
+
+            @Test
+            void 리뷰_삭제시_알림은_종류별로_한번에_삭제(){
+                //given
+                doReturn(Optional.of(review())).when(reviewRepository).findByUserAndLiquor(user, liquor);
+                doReturn(Arrays.asList(1L, 2L, 3L)).when(reviewGoodRepository).findIdsByReviewId(any());
+                doReturn(Arrays.asList(4L, 5L)).when(commentRepository).findIdsByReviewId(any());
+                request.setReviewContent(null);
+
+                //when
+                evaluationService.putEvaluation(liquorId, request);
+
+                //then
+                verify(notificationService,times(1)).deleteNotifications(Collections.singletonList(NotificationType.REVIEW_GOOD), Arrays.asList(1L, 2L, 3L));
+                verify(notificationService,times(1)).deleteNotifications(Arrays.asList(NotificationType.COMMENT, NotificationType.RECOMMENT), Arrays.asList(4L, 5L));
+                verifyNoMoreInteractions(notificationService);
             }
 
             @Test
@@ -309,6 +375,7 @@ public class EvaluationServiceTest {
 
                 //then
                 assertEquals(review.getContent(), request.getReviewContent());
+                verify(notificationRepository, times(1)).updateExcerpt(anyList(), any(), eq(request.getReviewContent()));
             }
         }
     }
@@ -328,12 +395,6 @@ public class EvaluationServiceTest {
 
     private Evaluation evaluation(){
         return Evaluation.builder()
-                .sweetness(0.0)
-                .acidity(0.0)
-                .carbonicAcid(0.0)
-                .density(0.0)
-                .scent(0.0)
-                .heavy(0.0)
                 .build();
     }
 
@@ -1,10 +1,21 @@
 package com.example.soonsul.liquor;
 
+import com.example.soonsul.liquor.dto.LiquorDetailDto;
+import com.example.soonsul.liquor.dto.LiquorFilteringDto;
+import com.example.soonsul.liquor.dto.LiquorInfoDto;
 import com.example.soonsul.liquor.entity.FilteringClick;
+import com.example.soonsul.liquor.entity.Liquor;
 import com.example.soonsul.liquor.entity.LiquorFiltering;
 import com.example.soonsul.liquor.repository.FilteringClickRepository;
 import com.example.soonsul.liquor.repository.LiquorFilteringRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.liquor.repository.ScrapRepository;
+import com.example.soonsul.liquor.service.LiquorDetailService;
 import com.example.soonsul.liquor.service.LiquorService;
+import com.example.soonsul.user.entity.PersonalEvaluation;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.util.UserUtil;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +26,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +44,90 @@ public class LiquorServiceTest {
     @Mock
     private LiquorFilteringRepository filteringRepository;
 
+    @Mock
+    private LiquorDetailService liquorDetailService;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+    @Mock
+    private PersonalEvaluationRepository personalEvaluationRepository;
+
+    @Mock
+    private ScrapRepository scrapRepository;
+
+    @Mock
+    private UserUtil userUtil;
+
+
+    @Nested
+    class 전통주_상세정보{
+        private final String liquorId= "L0010001";
+        private final Liquor liquor= Liquor.builder().liquorId(liquorId).build();
+        private final LiquorDetailDto detail= LiquorDetailDto.builder()
+                .liquorId(liquorId)
+                .name("막걸리")
+                .averageRating(4.2)
+                .ratingNumber(12)
+                .build();
+
+        @Test
+        void 공통정보에_사용자별_정보를_합침(){
+            //given
+            final User user= User.builder().userId("U1").build();
+            doReturn(detail).when(liquorDetailService).getLiquorDetail(liquorId);
+            doReturn(user).when(userUtil).getUserByAuthentication();
+            doReturn(liquor).when(liquorRepository).getReferenceById(liquorId);
+            doReturn(Optional.of(PersonalEvaluation.builder().liquorPersonalRating(3.5).build()))
+                    .when(personalEvaluationRepository).findByUserAndLiquor(user, liquor);
+            doReturn(true).when(scrapRepository).existsByUserAndLiquor(user, liquor);
+
+            //when
+            final LiquorInfoDto result= liquorService.getLiquorInfo(liquorId);
+
+            //then
+            assertEquals(result.getName(), "막걸리");
+            assertEquals(result.getAverageRating(), 4.2);
+            assertEquals(result.getRatingNumber(), 12);
+            assertEquals(result.getLiquorPersonalRating(), 3.5);
+            assertTrue(result.isFlagScrap());
+        }
+
+        @Test
+        void 평가하지_않은_사용자(){
+            //given
+            final User user= User.builder().userId("U2").build();
+            doReturn(detail).when(liquorDetailService).getLiquorDetail(liquorId);
+            doReturn(user).when(userUtil).getUserByAuthentication();
+            doReturn(liquor).when(liquorRepository).getReferenceById(liquorId);
+            doReturn(Optional.empty()).when(personalEvaluationRepository).findByUserAndLiquor(user, liquor);
+            doReturn(false).when(scrapRepository).existsByUserAndLiquor(user, liquor);
+
+            //when
+            final LiquorInfoDto result= liquorService.getLiquorInfo(liquorId);
+
+            //then
+            assertEquals(result.getAverageRating(), 4.2);
+            assertNull(result.getLiquorPersonalRating());
+            assertFalse(result.isFlagScrap());
+        }
+
+        @Test
+        void 캐시되는_공통정보는_수정할_수_없음(){
+            //given
+            final List<LiquorFilteringDto> filtering= new ArrayList<>();
+            filtering.add(LiquorFilteringDto.builder().age(20).gender("f").build());
+            final LiquorDetailDto cached= LiquorDetailDto.builder().liquorId(liquorId).filtering(filtering).build();
+
+            //when
+            filtering.clear();
+
+            //then
+            assertEquals(cached.getFiltering().size(), 1);
+            assertThrows(UnsupportedOperationException.class, () -> cached.getFiltering().clear());
+        }
+    }
+
 
     @Test
     void 전통주_정보_필터링기능(){
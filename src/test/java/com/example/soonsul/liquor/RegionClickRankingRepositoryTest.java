@@ -0,0 +1,61 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.repository.RegionClickRankingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RegionClickRankingRepositoryTest {
+
+    @InjectMocks
+    private RegionClickRankingRepository regionClickRankingRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Captor
+    private ArgumentCaptor<Collection<String>> buckets;
+
+
+    @Test
+    void 최근_24개_버킷으로_누적값_재계산(){
+        //given
+        doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+        doReturn(zSetOperations).when(stringRedisTemplate).opsForZSet();
+        doReturn(Collections.singleton("R001")).when(setOperations).members("click:region-codes");
+
+        //when
+        regionClickRankingRepository.rebuildLive(LocalDateTime.of(2023, 7, 3, 10, 0));
+
+        //then
+        verify(zSetOperations, times(1)).unionAndStore(eq("click:region:R001:2023070310"), buckets.capture(), eq("click:region:R001"));
+        assertEquals(buckets.getValue().size(), 23);
+        assertTrue(buckets.getValue().contains("click:region:R001:2023070211"));
+        assertFalse(buckets.getValue().contains("click:region:R001:2023070210"));
+        verify(stringRedisTemplate, times(1)).expire(eq("click:region:R001"), any(Duration.class));
+        verify(zSetOperations, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.dto.ReviewDto;
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.entity.Review;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
+import com.example.soonsul.liquor.service.ReviewQueryService;
+import com.example.soonsul.user.entity.PersonalEvaluation;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.PersonalEvaluationRepository;
+import com.example.soonsul.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewQueryServiceTest {
+
+    @InjectMocks
+    private ReviewQueryService reviewQueryService;
+
+    @Mock
+    private ReviewGoodRepository reviewGoodRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PersonalEvaluationRepository personalEvaluationRepository;
+
+    private final Liquor liquor= Liquor.builder().liquorId("L0010001").build();
+
+    private final User viewer= user("viewer");
+
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void 페이지_크기와_상관없이_쿼리_수_고정(int pageSize){
+        //given
+        final List<Review> reviews= reviewList(pageSize);
+        final List<User> users= reviews.stream().map(Review::getUser).distinct().collect(Collectors.toList());
+        doReturn(users).when(userRepository).findAllById(anyList());
+        doReturn(Collections.emptyList()).when(personalEvaluationRepository).findAllByLiquorAndUserIn(any(Liquor.class), any());
+        doReturn(Collections.emptyList()).when(reviewGoodRepository).findReviewIdsByUser(any(User.class), anyList());
+
+        //when
+        final List<ReviewDto> result= reviewQueryService.makeReviewList(reviews, liquor, viewer, pageSize);
+
+        //then
+        assertEquals(result.size(), pageSize);
+        verify(userRepository, times(1)).findAllById(anyList());
+        verify(personalEvaluationRepository, times(1)).findAllByLiquorAndUserIn(any(Liquor.class), any());
+        verify(reviewGoodRepository, times(1)).findReviewIdsByUser(any(User.class), anyList());
+        verifyNoMoreInteractions(userRepository, personalEvaluationRepository, reviewGoodRepository);
+    }
+
+
+    @Test
+    void 조회_결과_매핑(){
+        //given
+        final List<Review> reviews= reviewList(3);
+        final User writer1= reviews.get(0).getUser();
+        final User writer2= reviews.get(1).getUser();
+        doReturn(Arrays.asList(writer1, writer2)).when(userRepository).findAllById(Arrays.asList("U0", "U1"));
+        doReturn(Arrays.asList(personalEvaluation(writer1, 4.5), personalEvaluation(writer2, 2.0)))
+                .when(personalEvaluationRepository).findAllByLiquorAndUserIn(any(Liquor.class), any());
+        doReturn(Collections.singletonList(3L)).when(reviewGoodRepository).findReviewIdsByUser(viewer, Arrays.asList(1L, 2L, 3L));
+
+        //when
+        final List<ReviewDto> result= reviewQueryService.makeReviewList(reviews, liquor, viewer, 3);
+
+        //then
+        assertEquals(result.get(0).getAverageRating(), 4.5);
+        assertEquals(result.get(0).getGoodNumber(), 2);
+        assertEquals(result.get(0).getCommentNumber(), 1);
+        assertEquals(result.get(0).getReviewNumber(), 2);
+        assertFalse(result.get(0).isFlagGood());
+        assertEquals(result.get(1).getAverageRating(), 2.0);
+        assertEquals(result.get(1).getCommentNumber(), 2);
+        assertEquals(result.get(1).getNickname(), "nickU1");
+        assertEquals(result.get(1).getReviewNumber(), 1);
+        assertEquals(result.get(2).getGoodNumber(), 6);
+        assertTrue(result.get(2).isFlagGood());
+    }
+
+
+    @Test
+    void 빈_페이지(){
+        //given
+
+        //when
+        final List<ReviewDto> result= reviewQueryService.makeReviewList(Collections.emptyList(), liquor, viewer, 0);
+
+        //then
+        assertEquals(result.size(), 0);
+        verifyNoInteractions(userRepository, personalEvaluationRepository, reviewGoodRepository);
+    }
+
+
+    //작성자 2명이 번갈아 작성한 리뷰, 좋아요수= id*2, 댓글수= id
+    private List<Review> reviewList(int size){
+        final List<User> writers= Arrays.asList(user("U0", 2), user("U1", 1));
+        final List<Review> list= new ArrayList<>();
+        for(int i=1; i<=size; i++){
+            list.add(Review.builder()
+                    .reviewId((long) i)
+                    .content("content"+ i)
+                    .createdDate(LocalDateTime.now())
+                    .liquor(liquor)
+                    .user(writers.get((i-1)%2))
+                    .goodNumber(i*2)
+                    .commentNumber(i)
+                    .build());
+        }
+        return list;
+    }
+
+    private User user(String userId){
+        return user(userId, 0);
+    }
+
+    private User user(String userId, int reviewNumber){
+        return User.builder()
+                .userId(userId)
+                .nickname("nick"+ userId)
+                .reviewNumber(reviewNumber)
+                .build();
+    }
+
+    private PersonalEvaluation personalEvaluation(User user, Double rating){
+        return PersonalEvaluation.builder()
+                .user(user)
+                .liquor(liquor)
+                .liquorPersonalRating(rating)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.soonsul.liquor;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.entity.Review;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
+import com.example.soonsul.liquor.repository.ReviewRepository;
+import com.example.soonsul.liquor.service.ReviewQueryService;
+import com.example.soonsul.liquor.service.ReviewService;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.util.LiquorUtil;
+import com.example.soonsul.util.UserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewServiceTest {
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private UserUtil userUtil;
+
+    @Mock
+    private LiquorUtil liquorUtil;
+
+    @Mock
+    private ReviewGoodRepository reviewGoodRepository;
+
+    @Mock
+    private ReviewQueryService reviewQueryService;
+
+    private final Pageable pageable= PageRequest.of(3, 10, Sort.by(Sort.Direction.DESC, "review_id"));
+
+
+    @BeforeEach
+    void init(){
+        doReturn(User.builder().userId("U1").build()).when(userUtil).getUserByAuthentication();
+        doReturn(Liquor.builder().liquorId("L1").reviewNumber(100).build()).when(liquorUtil).getLiquor("L1");
+    }
+
+
+    @Test
+    void after_없으면_기존_페이지_조회(){
+        //given
+        doReturn(new SliceImpl<Review>(Collections.emptyList())).when(reviewRepository).findAllByLatest(pageable, "L1");
+
+        //when
+        reviewService.getReviewListByLatest(pageable, "L1", null);
+
+        //then
+        verify(reviewRepository, times(1)).findAllByLatest(pageable, "L1");
+        verify(reviewRepository, never()).findAllByLatestAfter(any(), anyString(), anyLong());
+    }
+
+
+    @Test
+    void after_있으면_OFFSET_없이_커서_다음부터_조회(){
+        //given
+        doReturn(new SliceImpl<Review>(Collections.emptyList())).when(reviewRepository)
+                .findAllByRatingAfter(PageRequest.of(0, 10), "L1", 4.5, 55L);
+
+        //when
+        reviewService.getReviewListByRating(pageable, "L1", 4.5, 55L);
+
+        //then
+        verify(reviewRepository, times(1)).findAllByRatingAfter(PageRequest.of(0, 10), "L1", 4.5, 55L);
+        verify(reviewRepository, never()).findAllByRating(any(), anyString());
+    }
+
+
+    @Test
+    void 평점_커서가_없으면_기존_페이지_조회(){
+        //given
+        doReturn(new SliceImpl<Review>(Collections.emptyList())).when(reviewRepository).findAllByRating(pageable, "L1");
+
+        //when
+        reviewService.getReviewListByRating(pageable, "L1", null, 55L);
+
+        //then
+        verify(reviewRepository, times(1)).findAllByRating(pageable, "L1");
+        verify(reviewRepository, never()).findAllByRatingAfter(any(), anyString(), any(), anyLong());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.soonsul.liquor;
 import com.example.soonsul.liquor.dto.EvaluationRequest;
 import com.example.soonsul.liquor.service.EvaluationService;
 import com.example.soonsul.util.LiquorUtil;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -12,9 +13,18 @@ import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
+@Slf4j
 @SpringBootTest(properties = "spring.config.location="
         + "classpath:application.properties ,"
         + "classpath:oauth.yml"
@@ -96,6 +106,46 @@ public class SynchronizationTest {
     }
 
 
+    @Test
+    void 여러_전통주_동시_평가_테스트() throws Exception {
+        //given
+        final List<String> liquorIds= Arrays.asList("L0010053", "L0010054", "L0010055", "L0010056");
+        final int userNumber= 5;        //userId1 ~ userId5가 각 전통주에 1.0 ~ 5.0 평점
+        final ExecutorService executor= Executors.newFixedThreadPool(liquorIds.size()* userNumber);
+        final CountDownLatch ready= new CountDownLatch(1);
+        final List<Future<?>> futures= new ArrayList<>();
+
+        for(String id: liquorIds){
+            for(int u=1; u<=userNumber; u++){
+                final String userId= "userId"+ u;
+                final EvaluationRequest request= evaluationRequest();
+                request.setLiquorPersonalRating((double) u);
+                futures.add(executor.submit(() -> {
+                    authentication(userId);
+                    ready.await();      //모든 요청을 동시에 출발
+                    evaluationService.postEvaluation(id, request);
+                    return null;
+                }));
+            }
+        }
+
+        //when
+        final long start= System.nanoTime();
+        ready.countDown();
+        for(Future<?> f: futures) f.get();
+        final long elapsedMs= (System.nanoTime()- start)/ 1_000_000;
+        executor.shutdown();
+        log.info("{} ratings on {} liquors: {} ms ({} ratings/s)", futures.size(), liquorIds.size(),
+                elapsedMs, futures.size()* 1000L/ Math.max(elapsedMs, 1));
+
+        //then
+        // 전통주마다 (1.0 + 2.0 + 3.0 + 4.0 + 5.0) / 5 = 3.0
+        for(String id: liquorIds){
+            assertEquals(liquorUtil.getLiquor(id).getAverageRating(), 3.0);
+        }
+    }
+
+
     private void authentication(String userId){
         AbstractAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userId,
@@ -0,0 +1,98 @@
+package com.example.soonsul.main;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.util.LiquorGeoIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.util.Pair;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LiquorGeoIndexTest {
+
+    @InjectMocks
+    private LiquorGeoIndex liquorGeoIndex;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+    private final Double myLat= 37.5665;        //서울시청
+    private final Double myLon= 126.9780;
+
+
+    @BeforeEach
+    void init(){
+        doReturn(Arrays.asList(
+                liquor("L001", 37.5665, 126.9780),      //0km
+                liquor("L002", 37.2636, 127.0286),      //수원, 약 34km
+                liquor("L003", 37.5759, 126.9769),      //광화문, 약 1km
+                liquor("L004", 37.6499, 126.9780),      //북쪽 9.3km, 다른 칸
+                liquor("L005", null, null)
+        )).when(liquorRepository).findAll();
+    }
+
+
+    @Test
+    void 반경_10km_가까운순(){
+        //given
+
+        //when
+        final List<Pair<LiquorGeoIndex.Location, Double>> result= liquorGeoIndex.findWithin(myLat, myLon, 10000);
+
+        //then
+        assertEquals(result.size(), 3);
+        assertEquals(result.get(0).getFirst().getLiquorId(), "L001");
+        assertEquals(result.get(1).getFirst().getLiquorId(), "L003");
+        assertEquals(result.get(2).getFirst().getLiquorId(), "L004");
+        assertEquals(Math.round(result.get(2).getSecond()/100) / 10.0, 9.3);
+        verify(liquorRepository, times(1)).findAll();
+    }
+
+
+    @Test
+    void 인덱스는_한번만_생성(){
+        //given
+
+        //when
+        liquorGeoIndex.findWithin(myLat, myLon, 10000);
+        liquorGeoIndex.findWithin(37.2636, 127.0286, 10000);
+
+        //then
+        verify(liquorRepository, times(1)).findAll();
+    }
+
+
+    @Test
+    void 잘못된_좌표(){
+        //given
+        reset(liquorRepository);
+
+        //when
+        final List<Pair<LiquorGeoIndex.Location, Double>> result= liquorGeoIndex.findWithin(104.2, 23.4, 10000);
+
+        //then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(liquorRepository);
+    }
+
+
+    private Liquor liquor(String liquorId, Double latitude, Double longitude){
+        return Liquor.builder()
+                .liquorId(liquorId)
+                .region("R001")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
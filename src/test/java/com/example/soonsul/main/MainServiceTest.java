@@ -1,12 +1,12 @@
 package com.example.soonsul.main;
 
 import com.example.soonsul.liquor.entity.Liquor;
-import com.example.soonsul.liquor.entity.RegionClick;
 import com.example.soonsul.liquor.repository.*;
 import com.example.soonsul.main.dto.RegionLiquorDto;
 import com.example.soonsul.main.dto.WeekLiquorDto;
 import com.example.soonsul.main.entity.Sorting;
 import com.example.soonsul.user.entity.User;
+import com.example.soonsul.util.LiquorGeoIndex;
 import com.example.soonsul.util.LiquorUtil;
 import com.example.soonsul.util.UserUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +21,6 @@ import org.springframework.data.util.Pair;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,7 +31,7 @@ public class MainServiceTest {
     private MainService mainService;
 
     @Mock
-    private ClickRepository clickRepository;
+    private ClickRankingRepository clickRankingRepository;
 
     @Mock
     private LiquorRepository liquorRepository;
@@ -44,41 +43,56 @@ public class MainServiceTest {
     private LiquorUtil liquorUtil;
 
     @Mock
-    private ReviewRepository reviewRepository;
+    private ScrapRepository scrapRepository;
 
     @Mock
-    private ScrapRepository scrapRepository;
+    private RegionClickRankingRepository regionClickRankingRepository;
 
     @Mock
-    private RegionClickRepository regionClickRepository;
+    private LiquorGeoIndex liquorGeoIndex;
 
 
     @Test
     void 이번주_사랑받는_전통주(){
         //given
-        final List<Liquor> liquorList= liquorList();
-        doReturn(liquorList).when(liquorRepository).findAll();
+        final List<String> ranking= Arrays.asList("L013", "L008", "L012", "L011", "L007", "L014", "L004", "L005", "L015", "L003");
+        doReturn(ranking).when(clickRankingRepository).findTopLiquorIds(10);
 
-        final List<Integer> size= Arrays.asList(1, 0, 4, 5, 5, 2, 7, 10, 2, 0, 8, 9, 10, 7, 5);
-        for(int i=0; i<liquorList.size(); i++){
-            doReturn(sizeList(size.get(i))).when(clickRepository).findAllByLiquorId(liquorList.get(i).getLiquorId());
-        }
+        final List<Liquor> liquorList= liquorList();
+        Collections.shuffle(liquorList);
+        doReturn(liquorList).when(liquorRepository).findAllById(ranking);
 
         //when
         final List<WeekLiquorDto> result= mainService.getWeekLiquor();
 
         //then
+        assertEquals(result.size(), 10);
         assertEquals(result.get(0).getLiquorId(), "L013");
         assertEquals(result.get(1).getLiquorId(), "L008");
         assertEquals(result.get(9).getLiquorId(), "L003");
+        verify(liquorRepository, never()).findAll();
+    }
+
+
+    @Test
+    void 이번주_클릭_없음(){
+        //given
+        doReturn(Collections.emptyList()).when(clickRankingRepository).findTopLiquorIds(10);
+
+        //when
+        final List<WeekLiquorDto> result= mainService.getWeekLiquor();
+
+        //then
+        assertEquals(result.size(), 0);
+        verify(liquorRepository, never()).findAllById(any());
     }
 
 
     @Nested
     class 지금_사랑받는_지역술{
 
-        private final Double myLat= 104.2;
-        private final Double myLon= 23.4;
+        private final Double myLat= 37.5665;
+        private final Double myLon= 126.9780;
         private final User user= user();
 
         private final Liquor liquor1= liquor("L001", 4.5, 3000L);
@@ -100,64 +114,51 @@ public class MainServiceTest {
         void init(){
             doReturn(user).when(userUtil).getUserByAuthentication();
             doReturn("").when(liquorUtil).getCodeName(null);
-            doReturn(Collections.emptyList()).when(liquorUtil).getBreweryList(any(String.class));
             doReturn(true).when(scrapRepository).existsByUserAndLiquor(any(User.class), any(Liquor.class));
-            doReturn(10).when(reviewRepository).countByLiquor(any(Liquor.class));
         }
 
 
         @Test
         void 내주변(){
             //given
-            final List<RegionClick> clickList= new ArrayList<>();
+            final List<Pair<LiquorGeoIndex.Location, Double>> nearby= new ArrayList<>();
+            final Map<String, Integer> clickMap= new HashMap<>();
             final List<Integer> clickNumberList= Arrays.asList(10, 2, 14, 20, 43, 1, 4, 3, 8, 23, 33, 0);
-            final List<Double> latList= Arrays.asList(3.0, 8.0, 3.0, 15.2, 8.0, 8.0, 15.2, 15.2, 15.2, 3.0, 15.2, 3.0);
-            final List<Double> lonList= Arrays.asList(12.4, 80.9, 12.4, 100.3, 80.9, 80.9, 100.3, 100.3, 100.3, 12.4, 100.3, 12.4);
             for(int i=0; i<12; i++){
-                for(int j=0; j<clickNumberList.get(i); j++){
-                    clickList.add(regionClick(liquorList.get(i).getLiquorId(), "", latList.get(i), lonList.get(i)));
-                }
-                if(i==0 || i==2 || i==9 || i==11) continue;
-                doReturn(liquorList.get(i)).when(liquorUtil).getLiquor(liquorList.get(i).getLiquorId());
+                final String liquorId= liquorList.get(i).getLiquorId();
+                if(clickNumberList.get(i)>0) clickMap.put(liquorId, clickNumberList.get(i));
+                if(i==10) continue;     //L011: 10km 밖
+                nearby.add(Pair.of(new LiquorGeoIndex.Location(liquorId, "R001", myLat, myLon), i*500.0));
+                if(i==11) continue;     //L012: 클릭 없음
+                doReturn(liquorList.get(i)).when(liquorUtil).getLiquor(liquorId);
             }
-            doReturn(clickList).when(regionClickRepository).findAll();
+            doReturn(nearby).when(liquorGeoIndex).findWithin(myLat, myLon, 10000);
+            doReturn(clickMap).when(regionClickRankingRepository).findClickNumbers(any());
 
             //when
             final List<RegionLiquorDto> result= mainService.getRegionLiquor("Around-me", Sorting.STAR, myLat, myLon);
 
             //then
-            assertEquals(result.size(), 8);
+            assertEquals(result.size(), 10);
             assertEquals(result.get(0).getLiquorId(), "L005");
-            assertEquals(result.get(7).getLiquorId(), "L006");
+            assertEquals(result.get(0).getClickNumber(), 43);
+            assertEquals(result.get(0).getDistance(), 2000.0);
+            assertEquals(result.get(9).getLiquorId(), "L006");
+            verify(regionClickRankingRepository, times(1)).findClickNumbers(any());
         }
 
 
         @Test
         void 지역별_전라남도(){
             //given
-            final List<RegionClick> clicks1= new ArrayList<>();
-            clicks1.add(regionClick("L001","R009",8.0,80.9));
-            clicks1.add(regionClick("L003","R009",8.0,80.9));
-            clicks1.add(regionClick("L003","R009",8.0,80.9));
-            clicks1.add(regionClick("L005","R009",8.0,80.9));
-            final List<RegionClick> clicks2= new ArrayList<>();
-            clicks2.add(regionClick("L006","R010",8.0,80.9));
-            clicks2.add(regionClick("L007","R010",8.0,80.9));
-            clicks2.add(regionClick("L009","R010",8.0,80.9));
-            clicks2.add(regionClick("L011","R010",8.0,80.9));
-            final List<RegionClick> clicks3= new ArrayList<>();
-            clicks3.add(regionClick("L004","R016",8.0,80.9));
-            clicks3.add(regionClick("L008","R016",8.0,80.9));
-            clicks3.add(regionClick("L010","R016",8.0,80.9));
-            clicks3.add(regionClick("L012","R016",8.0,80.9));
-
-            doReturn(clicks1).when(regionClickRepository).findAllByRegion("R009");
-            doReturn(clicks2).when(regionClickRepository).findAllByRegion("R010");
-            doReturn(clicks3).when(regionClickRepository).findAllByRegion("R016");
+            final List<String> codeList= Arrays.asList("R009", "R010", "R016");
+            final Map<String, Integer> clickMap= new HashMap<>();
             for(int i=0; i<12; i++){
                 if(i==1 || i==7) continue;
+                clickMap.put(liquorList.get(i).getLiquorId(), (i==2) ? 2 : 1);
                 doReturn(liquorList.get(i)).when(liquorUtil).getLiquor(liquorList.get(i).getLiquorId());
             }
+            doReturn(clickMap).when(regionClickRankingRepository).findTop(codeList, 10);
 
             //when
             final List<RegionLiquorDto> result= mainService.getRegionLiquor("Jeolla-do", Sorting.LOWEST_COST, null, null);
@@ -166,60 +167,7 @@ public class MainServiceTest {
             assertEquals(result.size(), 10);
             assertEquals(result.get(0).getLiquorId(), "L003");
             assertEquals(result.get(9).getLiquorId(), "L006");
-        }
-    }
-
-
-    @Nested
-    class 클릭정보를_map에_저장{
-
-        private final List<RegionClick> clickList= new ArrayList<>();
-
-        @BeforeEach
-        void init(){
-            clickList.add(regionClick("L001","", 3.0, 12.4));
-            clickList.add(regionClick("L002","", 8.0, 80.9));
-            clickList.add(regionClick("L001","", 3.0, 12.4));
-            clickList.add(regionClick("L002","", 8.0, 80.9));
-            clickList.add(regionClick("L002","", 8.0, 80.9));
-            clickList.add(regionClick("L002","", 8.0, 80.9));
-            clickList.add(regionClick("L003","", 15.2, 100.3));
-        }
-
-        @Test
-        void 내주변(){
-            //given
-            final Double myLat= 104.2;
-            final Double myLon= 23.4;
-
-            //when
-            final HashMap<String, Pair<Integer, Double>> result= mainService.makeLiquorMap(clickList, myLat, myLon);
-
-            //then
-            assertEquals(Math.round(result.get("L001").getSecond()*10) / 10.0, -1.0);
-            assertEquals(result.get("L001").getFirst(), 1);
-            assertEquals(Math.round(result.get("L002").getSecond()*10) / 10.0, 9979.5);
-            assertEquals(result.get("L002").getFirst(), 4);
-            assertEquals(Math.round(result.get("L003").getSecond()*10) / 10.0, 8721.3);
-            assertEquals(result.get("L003").getFirst(), 1);
-            assertNull(result.get("L004"));
-        }
-
-        @Test
-        void 지역별(){
-            //given
-
-            //when
-            final HashMap<String, Pair<Integer, Double>> result= mainService.makeLiquorMap(clickList, null, null);
-
-            //then
-            assertEquals(Math.round(result.get("L001").getSecond()*10) / 10.0, 0.0);
-            assertEquals(result.get("L001").getFirst(), 2);
-            assertEquals(Math.round(result.get("L002").getSecond()*10) / 10.0, 0.0);
-            assertEquals(result.get("L002").getFirst(), 4);
-            assertEquals(Math.round(result.get("L003").getSecond()*10) / 10.0, 0.0);
-            assertEquals(result.get("L003").getFirst(), 1);
-            assertNull(result.get("L004"));
+            verifyNoInteractions(liquorGeoIndex);
         }
     }
 
@@ -320,18 +268,8 @@ public class MainServiceTest {
     private List<Liquor> liquorList(){
         final List<Liquor> list= new ArrayList<>();
         for(int i=1;i<=15;i++){
-            final Liquor liquor= liquor("L"+String.format("%03d", i), 0.0,0L);
-            list.add(liquor);
             if(i==1||i==2||i==6||i==9||i==10) continue;
-            doReturn(liquor).when(liquorUtil).getLiquor(liquor.getLiquorId());
-        }
-        return list;
-    }
-
-    private List<Liquor> sizeList(int size){
-        final List<Liquor> list= new ArrayList<>();
-        for(int i=1;i<=size;i++){
-            list.add(liquor("", 0.0,0L));
+            list.add(liquor("L"+String.format("%03d", i), 0.0,0L));
         }
         return list;
     }
@@ -359,13 +297,4 @@ public class MainServiceTest {
         return User.builder().build();
     }
 
-    private RegionClick regionClick(String liquorId, String region, Double latitude, Double longitude){
-        return RegionClick.builder()
-                .liquorId(liquorId)
-                .region(region)
-                .latitude(latitude)
-                .longitude(longitude)
-                .build();
-    }
-
 }
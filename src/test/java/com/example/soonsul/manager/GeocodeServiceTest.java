@@ -0,0 +1,137 @@
+package com.example.soonsul.manager;
+
+import com.example.soonsul.manager.geocode.Geocode;
+import com.example.soonsul.manager.geocode.GeocodeClient;
+import com.example.soonsul.manager.geocode.GeocodeRepository;
+import com.example.soonsul.manager.geocode.GeocodeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.util.Pair;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GeocodeServiceTest {
+
+    @Mock
+    private GeocodeRepository geocodeRepository;
+
+    private final StubGeocodeClient geocodeClient= new StubGeocodeClient();
+
+    private GeocodeService geocodeService;
+
+
+    @BeforeEach
+    void setUp(){
+        geocodeService= new GeocodeService(geocodeRepository, geocodeClient, new SimpleMeterRegistry());
+        geocodeClient.locations.put("경기 포천시 이동면", Pair.of(38.0, 127.3));
+    }
+
+
+    @Test
+    void 같은_주소는_한번만_조회(){
+        //given
+        doReturn(Optional.empty()).when(geocodeRepository).findById(anyString());
+
+        //when
+        final Pair<Double, Double> first= geocodeService.locate("경기 포천시 이동면");
+        final Pair<Double, Double> second= geocodeService.locate("  경기  포천시 이동면 ");
+
+        //then
+        assertEquals(first, Pair.of(38.0, 127.3));
+        assertEquals(second, first);
+        assertEquals(geocodeClient.calls, 1);
+        verify(geocodeRepository, times(1)).findById("경기 포천시 이동면");
+        verify(geocodeRepository, times(1)).save(any(Geocode.class));
+    }
+
+
+    @Test
+    void 미리_불러온_주소는_api_호출X(){
+        //given
+        final Geocode geocode= Geocode.builder().address("서울 마포구").latitude(37.5).longitude(126.9).build();
+        doReturn(Collections.singletonList(geocode)).when(geocodeRepository).findAllById(any());
+
+        //when
+        geocodeService.prefetch(Arrays.asList("서울 마포구", "서울  마포구", null));
+        final Pair<Double, Double> result= geocodeService.locate("서울 마포구");
+
+        //then
+        assertEquals(result, Pair.of(37.5, 126.9));
+        assertEquals(geocodeClient.calls, 0);
+        verify(geocodeRepository, times(1)).findAllById(Set.of("서울 마포구"));
+        verify(geocodeRepository, never()).findById(anyString());
+    }
+
+
+    @Test
+    void 결과가_없는_주소는_저장X(){
+        //given
+        doReturn(Optional.empty()).when(geocodeRepository).findById(anyString());
+
+        //when
+        final Pair<Double, Double> first= geocodeService.locate("없는 주소");
+        final Pair<Double, Double> second= geocodeService.locate("없는 주소");
+
+        //then
+        assertNull(first);
+        assertNull(second);
+        assertEquals(geocodeClient.calls, 2);
+        verify(geocodeRepository, never()).save(any(Geocode.class));
+    }
+
+
+    @Test
+    void 삭제한_주소는_다시_조회(){
+        //given
+        doReturn(Optional.empty()).when(geocodeRepository).findById(anyString());
+        doReturn(true).when(geocodeRepository).existsById("경기 포천시 이동면");
+        geocodeService.locate("경기 포천시 이동면");
+
+        //when
+        geocodeService.evict(" 경기 포천시  이동면");
+        geocodeService.locate("경기 포천시 이동면");
+
+        //then
+        assertEquals(geocodeClient.calls, 2);
+        verify(geocodeRepository, times(1)).deleteById("경기 포천시 이동면");
+    }
+
+
+    @Test
+    void 메모리를_비우면_DB에서_다시_조회(){
+        //given
+        final Geocode geocode= Geocode.builder().address("서울 마포구").latitude(37.5).longitude(126.9).build();
+        doReturn(Optional.of(geocode)).when(geocodeRepository).findById("서울 마포구");
+        geocodeService.locate("서울 마포구");
+
+        //when
+        geocodeService.clear();
+        geocodeService.locate("서울 마포구");
+
+        //then
+        assertEquals(geocodeClient.calls, 0);
+        verify(geocodeRepository, times(2)).findById("서울 마포구");
+    }
+
+
+    private static class StubGeocodeClient implements GeocodeClient {
+        private final Map<String, Pair<Double, Double>> locations= new HashMap<>();
+        private int calls;
+
+        @Override
+        public Pair<Double, Double> locate(String address) {
+            calls++;
+            return locations.get(address);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.soonsul.manager;
+
+import com.example.soonsul.liquor.repository.LiquorImportRepository;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.manager.dto.LiquorSheetRow;
+import com.example.soonsul.manager.dto.StoredLiquor;
+import com.example.soonsul.manager.geocode.GeocodeService;
+import com.example.soonsul.util.LiquorSearchIndex;
+import com.example.soonsul.util.LiquorUtil;
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.util.Pair;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GoogleSheetsServiceTest {
+
+    @InjectMocks
+    private GoogleSheetsService googleSheetsService;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Sheets sheetsService;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+    @Mock
+    private LiquorImportRepository liquorImportRepository;
+
+    @Mock
+    private LiquorUtil liquorUtil;
+
+    @Mock
+    private LiquorSearchIndex liquorSearchIndex;
+
+    @Mock
+    private GeocodeService geocodeService;
+
+    @Spy
+    private MeterRegistry meterRegistry= new SimpleMeterRegistry();
+
+    @Captor
+    private ArgumentCaptor<List<LiquorSheetRow>> inserts;
+
+    @Captor
+    private ArgumentCaptor<List<LiquorSheetRow>> updates;
+
+    private static final List<String> RANGES= Collections.singletonList("탁주!A2:O265");
+
+
+    @BeforeEach
+    void setUp(){
+        lenient().doReturn("11").when(liquorUtil).getCodeId(anyString());
+        lenient().doReturn(Pair.of(37.5, 127.0)).when(geocodeService).locate(anyString());
+    }
+
+    @AfterEach
+    void tearDown(){
+        googleSheetsService.shutdown();
+    }
+
+
+    @Test
+    void 바뀐_행이_없으면_저장하지_않음() throws IOException {
+        //given
+        final List<Object> row= row("L0010001", "서울 마포구");
+        sheet(Collections.singletonList(row));
+        doReturn(Map.of("L0010001", stored(row, "서울 마포구"))).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository, never()).saveAll(anyList(), anyList());
+        verify(geocodeService, never()).locate(anyString());
+        verifyNoInteractions(liquorSearchIndex);
+    }
+
+
+    @Test
+    void 새_행은_추가_주소가_같은_수정은_지도_api_호출X() throws IOException {
+        //given
+        final List<Object> before= row("L0010001", "서울 마포구");
+        final List<Object> after= new ArrayList<>(before);
+        after.set(7, "9000");
+        sheet(Arrays.asList(after, row("L0010002", "경기 포천시")));
+        doReturn(Map.of("L0010001", stored(before, "서울 마포구"))).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository, times(1)).saveAll(inserts.capture(), updates.capture());
+        assertEquals(inserts.getValue().get(0).getLiquorId(), "L0010002");
+        assertEquals(inserts.getValue().get(0).getLatitude(), 37.5);
+        assertEquals(updates.getValue().get(0).getLowestPrice(), 9000L);
+        assertEquals(updates.getValue().get(0).getLatitude(), 1.0);
+        verify(geocodeService).prefetch(Arrays.asList("서울 마포구", "경기 포천시"));
+        verify(geocodeService, times(1)).locate("경기 포천시");
+        verify(liquorRepository).findAllById(Arrays.asList("L0010002", "L0010001"));
+    }
+
+
+    @Test
+    void 청크_단위로_저장() throws IOException {
+        //given
+        final List<List<Object>> rows= new ArrayList<>();
+        for(int i=0; i<250; i++) rows.add(row(String.format("L001%04d", i), "서울 마포구"));
+        sheet(rows);
+        doReturn(Collections.emptyMap()).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository, times(3)).saveAll(anyList(), eq(Collections.emptyList()));
+    }
+
+
+    @Test
+    void 주소가_잘못된_행만_제외() throws IOException {
+        //given
+        sheet(Arrays.asList(row("L0010001", "-"), row("L0010002", "서울 마포구")));
+        doReturn(Collections.emptyMap()).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository).saveAll(inserts.capture(), anyList());
+        assertEquals(inserts.getValue().size(), 1);
+        assertEquals(inserts.getValue().get(0).getLiquorId(), "L0010002");
+    }
+
+
+    @Test
+    void 청크_저장이_실패하면_한_행씩_다시_저장() throws IOException {
+        //given
+        sheet(Arrays.asList(row("L0010001", "서울 마포구"), row("L0010002", "서울 마포구"), row("L0010003", "서울 마포구")));
+        doReturn(Collections.emptyMap()).when(liquorImportRepository).findAllStored();
+        doThrow(new DataIntegrityViolationException("duplicate name")).when(liquorImportRepository)
+                .saveAll(argThat(list -> list.size()==3 || (list.size()==1 && list.get(0).getLiquorId().equals("L0010002"))), anyList());
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository, times(4)).saveAll(anyList(), anyList());
+        verify(liquorRepository).findAllById(Arrays.asList("L0010001", "L0010003"));
+    }
+
+
+    @Test
+    void 같은_liquorId는_마지막_행만_저장() throws IOException {
+        //given
+        final List<Object> first= row("L0010001", "서울 마포구");
+        final List<Object> last= new ArrayList<>(first);
+        last.set(7, "9000");
+        sheet(Arrays.asList(first, row("L0010002", "서울 마포구"), last));
+        doReturn(Collections.emptyMap()).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", RANGES);
+
+        //then
+        verify(liquorImportRepository, times(1)).saveAll(inserts.capture(), anyList());
+        assertEquals(inserts.getValue().size(), 2);
+        assertEquals(inserts.getValue().get(0).getLowestPrice(), 9000L);
+    }
+
+
+    @Test
+    void 실패한_범위만_제외() throws IOException {
+        //given
+        when(sheetsService.spreadsheets().values().get("sheet", "과실주!A2:O125").execute()).thenThrow(new IOException("quota"));
+        sheet("기타주류!A2:O6", Collections.singletonList(row("L0050001", "서울 마포구")));
+        doReturn(Collections.emptyMap()).when(liquorImportRepository).findAllStored();
+
+        //when
+        googleSheetsService.postLiquor("sheet", Arrays.asList("과실주!A2:O125", "기타주류!A2:O6"));
+
+        //then
+        verify(liquorImportRepository, times(1)).saveAll(inserts.capture(), anyList());
+        assertEquals(inserts.getValue().get(0).getLiquorId(), "L0050001");
+        assertEquals(meterRegistry.get("liquor.import.range").tag("range", "과실주!A2:O125").tag("result", "failure").timer().count(), 1);
+        assertEquals(meterRegistry.get("liquor.import.range").tag("range", "기타주류!A2:O6").tag("result", "success").timer().count(), 1);
+    }
+
+
+    private void sheet(List<List<Object>> rows) throws IOException {
+        sheet(RANGES.get(0), rows);
+    }
+
+    private void sheet(String range, List<List<Object>> rows) throws IOException {
+        when(sheetsService.spreadsheets().values().get("sheet", range).execute()).thenReturn(new ValueRange().setValues(rows));
+    }
+
+    private List<Object> row(String liquorId, String location){
+        return new ArrayList<>(Arrays.asList(liquorId, "이름"+ liquorId, "6", "쌀", "양조장", location, "750", "8000",
+                "-", "-", "-", "-", "O", "X", "-"));
+    }
+
+    private StoredLiquor stored(List<Object> row, String location){
+        return new StoredLiquor(row.get(0).toString(), LiquorSheetRow.of(row).getHash(), location, 1.0, 2.0);
+    }
+}
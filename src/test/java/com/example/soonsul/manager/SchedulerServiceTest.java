@@ -0,0 +1,79 @@
+package com.example.soonsul.manager;
+
+import com.example.soonsul.liquor.service.CounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SchedulerServiceTest {
+
+    @InjectMocks
+    private SchedulerService schedulerService;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+
+    @BeforeEach
+    void setUp(){
+        doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+    }
+
+
+    @Test
+    void 처음_시작한_서버만_backfill(){
+        //given
+        doReturn(true).when(valueOperations).setIfAbsent(eq("reconcile:backfill:v1"), anyString());
+
+        //when
+        schedulerService.backfillOnce();
+
+        //then
+        verify(counterService, times(1)).reconcileCounters();
+        verify(counterService, times(1)).reconcileEvaluations();
+        verify(valueOperations, times(1)).set("reconcile:backfill:v1", "done");
+    }
+
+
+    @Test
+    void 이미_실행됐으면_건너뜀(){
+        //given
+        doReturn(false).when(valueOperations).setIfAbsent(eq("reconcile:backfill:v1"), anyString());
+
+        //when
+        schedulerService.backfillOnce();
+
+        //then
+        verifyNoInteractions(counterService);
+    }
+
+
+    @Test
+    void 실패하면_다음_시작때_다시_실행(){
+        //given
+        doReturn(true).when(valueOperations).setIfAbsent(eq("reconcile:backfill:v1"), anyString());
+        doThrow(new IllegalStateException("lock timeout")).when(counterService).reconcileEvaluations();
+
+        //when
+        schedulerService.backfillOnce();
+
+        //then
+        verify(stringRedisTemplate, times(1)).delete("reconcile:backfill:v1");
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.soonsul.notification;
+
+import com.example.soonsul.notification.dto.OutboxMessage;
+import com.example.soonsul.notification.push.NotificationRelay;
+import com.example.soonsul.notification.push.PushMessage;
+import com.example.soonsul.notification.push.PushSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationRelayTest {
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private PushSender pushSender;
+
+    @Captor
+    private ArgumentCaptor<List<PushMessage>> sent;
+
+    private NotificationRelay notificationRelay;
+
+
+    @BeforeEach
+    void setUp(){
+        notificationRelay= new NotificationRelay(notificationOutboxService, pushSender, new SimpleMeterRegistry());
+    }
+
+
+    @Test
+    void 일시적인_오류만_다시_발송() throws Exception {
+        //given
+        doReturn(Arrays.asList(message(1L, "t1"), message(2L, null), message(3L, "t3"), message(4L, "t4")))
+                .when(notificationOutboxService).claim(PushSender.MAX_TOKENS);
+        doReturn(Collections.singleton(1)).when(pushSender).sendEach(anyList());
+
+        //when
+        notificationRelay.relay();
+
+        //then
+        verify(pushSender, times(1)).sendEach(sent.capture());
+        assertEquals(sent.getValue().size(), 3);        //토큰 없는 알림은 발송X
+        verify(notificationOutboxService, times(1)).complete(Arrays.asList(2L, 1L, 4L), Collections.singletonList(3L));
+    }
+
+
+    @Test
+    void 전송_예외는_전부_다시_발송() throws Exception {
+        //given
+        doReturn(Arrays.asList(message(1L, "t1"), message(2L, "t2")))
+                .when(notificationOutboxService).claim(PushSender.MAX_TOKENS);
+        doThrow(new Exception("unavailable")).when(pushSender).sendEach(anyList());
+
+        //when
+        notificationRelay.relay();
+
+        //then
+        verify(notificationOutboxService, times(1)).complete(Collections.emptyList(), Arrays.asList(1L, 2L));
+    }
+
+
+    @Test
+    void 가득_찬_배치면_이어서_가져옴() throws Exception {
+        //given
+        final List<OutboxMessage> full= new ArrayList<>();
+        for(long i=1; i<=PushSender.MAX_TOKENS; i++) full.add(message(i, "t"+ i));
+        when(notificationOutboxService.claim(PushSender.MAX_TOKENS))
+                .thenReturn(full)
+                .thenReturn(Collections.singletonList(message(501L, "t501")));
+        doReturn(Collections.emptySet()).when(pushSender).sendEach(anyList());
+
+        //when
+        notificationRelay.relay();
+
+        //then
+        verify(notificationOutboxService, times(2)).claim(PushSender.MAX_TOKENS);
+        verify(notificationOutboxService, times(2)).complete(anyList(), eq(Collections.emptyList()));
+    }
+
+
+    @Test
+    void 쌓인_알림이_없으면_발송X() throws Exception {
+        //given
+        doReturn(Collections.emptyList()).when(notificationOutboxService).claim(PushSender.MAX_TOKENS);
+
+        //when
+        notificationRelay.relay();
+
+        //then
+        verify(pushSender, never()).sendEach(anyList());
+        verify(notificationOutboxService, never()).complete(anyList(), anyList());
+    }
+
+
+    private OutboxMessage message(Long outboxId, String token){
+        return new OutboxMessage(outboxId, token, "nick님이 팔로우했습니다.");
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.soonsul.notification;
+
+import com.example.soonsul.liquor.entity.Comment;
+import com.example.soonsul.liquor.repository.CommentRepository;
+import com.example.soonsul.liquor.repository.ReviewGoodRepository;
+import com.example.soonsul.notification.dto.NotificationDto;
+import com.example.soonsul.notification.entity.NotificationType;
+import com.example.soonsul.notification.entity.Notifications;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import com.example.soonsul.util.UserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationServiceTest {
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock
+    private UserUtil userUtil;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private ReviewGoodRepository reviewGoodRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    private final User user= User.builder().userId("U1").build();
+
+
+    @BeforeEach
+    void setUp(){
+        lenient().doReturn(user).when(userUtil).getUserByAuthentication();
+    }
+
+
+    @Test
+    void 조회_시작일은_어제_이번주_이번달_중_가장_이른_날(){
+        //given
+        final LocalDate mondayFirst= LocalDate.of(2023, 5, 1);      //월요일이면서 1일
+        final LocalDate wednesday= LocalDate.of(2023, 5, 17);
+        final LocalDate mondayMidMonth= LocalDate.of(2023, 5, 15);
+
+        //when, then
+        assertEquals(NotificationService.since(mondayFirst), LocalDateTime.of(2023, 4, 30, 0, 0));
+        assertEquals(NotificationService.since(wednesday), LocalDateTime.of(2023, 5, 1, 0, 0));
+        assertEquals(NotificationService.since(mondayMidMonth), LocalDateTime.of(2023, 5, 1, 0, 0));
+    }
+
+
+    @Test
+    void 저장된_대상_정보로_조회(){
+        //given
+        final List<Notifications> list= Arrays.asList(
+                notification(3L, NotificationType.REVIEW_GOOD, 30L, 7L, "맛있어요"),
+                notification(2L, NotificationType.FOLLOW, 20L, null, null),
+                notification(1L, NotificationType.PROMOTION, 10L, 10L, ""));
+        doReturn(new SliceImpl<>(list)).when(notificationRepository).findAllByUser(any(), eq("U1"), any(LocalDateTime.class));
+
+        //when
+        final List<NotificationDto> result= notificationService.getNotificationList(PageRequest.of(0, 10), null);
+
+        //then
+        assertEquals(result.size(), 3);
+        assertEquals(result.get(0).getObjectId(), 7L);
+        assertEquals(result.get(0).getObjectContent(), "맛있어요");
+        assertNull(result.get(1).getObjectId());
+        assertEquals(result.get(2).getObjectId(), 10L);
+        verifyNoInteractions(reviewGoodRepository, commentRepository);
+    }
+
+
+    @Test
+    void 대상_정보가_없는_이전_알림은_조회(){
+        //given
+        final Comment comment= Comment.builder().commentId(5L).content("댓글").build();
+        doReturn(new SliceImpl<>(Arrays.asList(notification(1L, NotificationType.COMMENT, 5L, null, null))))
+                .when(notificationRepository).findAllByUserAfter(any(), eq("U1"), eq(9L), any(LocalDateTime.class));
+        doReturn(Optional.of(comment)).when(commentRepository).findById(5L);
+
+        //when
+        final List<NotificationDto> result= notificationService.getNotificationList(PageRequest.of(0, 10), 9L);
+
+        //then
+        assertEquals(result.get(0).getObjectId(), 5L);
+        assertEquals(result.get(0).getObjectContent(), "댓글");
+    }
+
+
+    @Test
+    void 읽음으로_바뀐_개수만큼_카운터_차감(){
+        //given
+        doReturn(2).when(notificationRepository).updateFlagRead("U1", Arrays.asList(1L, 2L, 3L));
+
+        //when
+        notificationService.putNewNotification(Arrays.asList(1L, 2L, 3L));
+
+        //then
+        verify(userRepository, times(1)).updateUnreadNumber(Collections.singletonList("U1"), -2);
+    }
+
+
+    @Test
+    void 이미_모두_읽었으면_카운터_그대로(){
+        //given
+        doReturn(0).when(notificationRepository).updateFlagReadUpTo("U1", 10L);
+
+        //when
+        notificationService.putReadNotification(10L);
+
+        //then
+        verify(userRepository, never()).updateUnreadNumber(anyList(), anyInt());
+    }
+
+
+    @Test
+    void 읽지_않은_알림_수_조회(){
+        //given
+        doReturn(3).when(userRepository).findUnreadNumber("U1");
+
+        //when
+        final int result= notificationService.getUnreadNumber();
+
+        //then
+        assertEquals(result, 3);
+        assertTrue(notificationService.getNewNotification());
+        verifyNoInteractions(notificationRepository);
+    }
+
+
+    @Test
+    void 댓글_삭제시_대댓글_알림까지_한번에_삭제(){
+        //given
+        doReturn(Arrays.asList(5L, 6L, 7L)).when(commentRepository).findIdsByUpperCommentId(5L);
+
+        //when
+        notificationService.deleteNotification(NotificationType.COMMENT, 5L);
+
+        //then
+        final List<String> types= Arrays.asList("COMMENT", "RECOMMENT");
+        verify(notificationRepository, times(1)).decreaseUnreadNumber(types, Arrays.asList(5L, 6L, 7L));
+        verify(notificationRepository, times(1)).deleteAllByTypeAndObjectId(types, Arrays.asList(5L, 6L, 7L));
+        verify(notificationOutboxRepository, times(1)).deleteAllByTypeAndObjectId(types, Arrays.asList(5L, 6L, 7L));
+    }
+
+
+    @Test
+    void 팔로우_취소는_팔로우_알림만_삭제(){
+        //given
+
+        //when
+        notificationService.deleteNotification(NotificationType.FOLLOW, 3L);
+
+        //then
+        verify(notificationRepository, times(1)).deleteAllByTypeAndObjectId(Collections.singletonList("FOLLOW"), Collections.singletonList(3L));
+        verifyNoInteractions(commentRepository);
+    }
+
+
+    private Notifications notification(Long id, NotificationType type, Long objectId, Long targetId, String excerpt){
+        return Notifications.builder()
+                .notificationId(id)
+                .content("content"+ id)
+                .date(LocalDateTime.now())
+                .type(type)
+                .objectId(objectId)
+                .targetId(targetId)
+                .excerpt(excerpt)
+                .receiveUser(user)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.soonsul.notification;
+
+import com.example.soonsul.notification.exception.PushJobNotExist;
+import com.example.soonsul.notification.push.PromotionPushService;
+import com.example.soonsul.notification.push.PushJob;
+import com.example.soonsul.notification.push.PushResult;
+import com.example.soonsul.notification.push.PushSender;
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PromotionPushServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private final StubPushSender pushSender= new StubPushSender();
+
+    private PromotionPushService promotionPushService;
+
+
+    @AfterEach
+    void close(){
+        promotionPushService.shutdown();
+    }
+
+
+    @Test
+    void 유저를_500명씩_읽어서_저장하고_발송(){
+        //given
+        init(users(1200, 10));
+
+        //when
+        final PushJob job= promotionPushService.dispatch(1L);
+
+        //then
+        assertEquals(await(job), PushJob.Status.DONE);
+        verify(notificationRepository, times(3)).insertAll(anyString(), any(), eq("PROMOTION"), eq(1L), anyList());
+        assertTrue(pushSender.batchSizes.stream().allMatch(size -> size<=PushSender.MAX_TOKENS));
+        assertEquals(job.toDto().getTarget(), 1080);     //10명 중 1명은 토큰 없음
+        assertEquals(job.toDto().getSent(), 1080);
+        assertEquals(job.toDto().getFailed(), 0);
+    }
+
+
+    @Test
+    void 일시적인_오류는_다시_발송(){
+        //given
+        init(users(300, 0));
+        pushSender.exceptionOnce= true;
+        pushSender.retryOnce= 20;
+
+        //when
+        final PushJob job= promotionPushService.dispatch(1L);
+
+        //then
+        assertEquals(await(job), PushJob.Status.DONE);
+        assertEquals(job.toDto().getSent(), 300);
+        assertEquals(job.toDto().getFailed(), 0);
+        assertEquals(pushSender.batchSizes, Arrays.asList(300, 300, 20));
+    }
+
+
+    @Test
+    void 잘못된_토큰과_재시도_초과는_실패(){
+        //given
+        init(users(100, 0));
+        pushSender.invalid= 5;
+        pushSender.retryAlways= 3;
+
+        //when
+        final PushJob job= promotionPushService.dispatch(1L);
+
+        //then
+        assertEquals(await(job), PushJob.Status.DONE);
+        assertEquals(job.toDto().getSent(), 92);
+        assertEquals(job.toDto().getFailed(), 8);
+        assertEquals(pushSender.batchSizes, Arrays.asList(100, 3, 3));
+    }
+
+
+    @Test
+    void 없는_발송_작업(){
+        //given
+        promotionPushService= new PromotionPushService(userRepository, notificationRepository, pushSender, new SimpleMeterRegistry(), 1);
+
+        //when, then
+        assertThrows(PushJobNotExist.class, ()-> promotionPushService.getProgress(99L));
+    }
+
+
+    private void init(List<User> users){
+        promotionPushService= new PromotionPushService(userRepository, notificationRepository, pushSender, new SimpleMeterRegistry(), 1);
+        doAnswer(invocation -> {
+            final Pageable pageable= invocation.getArgument(0);
+            final String after= invocation.getArgument(1);
+            final List<User> rest= users.stream()
+                    .filter(u -> u.getUserId().compareTo(after)>0)
+                    .collect(Collectors.toList());
+            final List<User> page= rest.stream().limit(pageable.getPageSize()).collect(Collectors.toList());
+            return new SliceImpl<>(page, pageable, rest.size()> page.size());
+        }).when(userRepository).findAdvertisingUsers(any(Pageable.class), anyString());
+    }
+
+    private PushJob.Status await(PushJob job){
+        try{
+            return job.getCompletion().get(10, TimeUnit.SECONDS);
+        } catch (Exception e){
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //noTokenEvery번째 유저마다 토큰 없음
+    private List<User> users(int size, int noTokenEvery){
+        final List<User> list= new ArrayList<>();
+        for(int i=0; i<size; i++){
+            list.add(User.builder()
+                    .userId(String.format("U%05d", i))
+                    .deviceToken(noTokenEvery>0 && i%noTokenEvery==0 ? null : "token"+ i)
+                    .flagAdvertising(true)
+                    .build());
+        }
+        return list;
+    }
+
+
+    //로컬 stub: 전송 요청 크기를 기록하고, 설정에 따라 실패를 흉내냄
+    private static class StubPushSender implements PushSender {
+        private final List<Integer> batchSizes= Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean exceptionOnce;
+        private volatile int retryOnce;
+        private volatile int retryAlways;
+        private volatile int invalid;
+
+        @Override
+        public synchronized PushResult send(List<String> tokens, String content) throws Exception {
+            batchSizes.add(tokens.size());
+            if(exceptionOnce){
+                exceptionOnce= false;
+                throw new Exception("unavailable");
+            }
+            final int retry= Math.min(tokens.size(), retryOnce>0 ? retryOnce : retryAlways);
+            retryOnce= 0;
+            final int failure= Math.min(tokens.size()- retry, invalid);
+            invalid= 0;
+            return new PushResult(tokens.size()- retry- failure, failure, new ArrayList<>(tokens.subList(0, retry)));
+        }
+    }
+}
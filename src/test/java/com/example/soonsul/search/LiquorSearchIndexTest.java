@@ -0,0 +1,225 @@
+package com.example.soonsul.search;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.util.LiquorSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.util.Pair;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LiquorSearchIndexTest {
+
+    @InjectMocks
+    private LiquorSearchIndex liquorSearchIndex;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+
+    @BeforeEach
+    void init(){
+        lenient().doReturn(Arrays.asList(
+                liquor("L001", "지평 생막걸리", "지평주조", "쌀, 국"),
+                liquor("L002", "막걸리 한잔", "한잔양조", "쌀"),
+                liquor("L003", "복순도가 손막걸리", "복순도가", "쌀, 누룩"),
+                liquor("L004", "화요 25", "화요", "쌀"),
+                liquor("L005", "감홍로", "막걸리양조장", "보리")
+        )).when(liquorRepository).findAll();
+    }
+
+
+    @Test
+    void 이름_포함_위치_순으로_정렬(){
+        //given
+
+        //when
+        final List<LiquorSearchIndex.Hit> result= liquorSearchIndex.search("막걸리");
+
+        //then
+        assertEquals(ids(result), Arrays.asList("L002", "L001", "L003", "L005"));
+        assertEquals(result.get(0).getStartIdx(), 0);
+        assertEquals(result.get(1).getStartIdx(), "지평 생막걸리".indexOf("막걸리"));
+        assertEquals(result.get(3).getStartIdx(), -1);      //양조장에서 찾은 경우
+    }
+
+
+    @Test
+    void 입력_중인_자모로_검색(){
+        //given
+
+        //when
+        final List<LiquorSearchIndex.Hit> result= liquorSearchIndex.search("생막ㄱ");
+
+        //then
+        assertEquals(ids(result), Collections.singletonList("L001"));
+        assertFalse(result.get(0).isExact());
+    }
+
+
+    @Test
+    void 공백_대소문자_무시(){
+        //given
+
+        //when, then
+        assertEquals(ids(liquorSearchIndex.search("화요25")), Collections.singletonList("L004"));
+        assertEquals(ids(liquorSearchIndex.search("누룩")), Collections.singletonList("L003"));
+        assertTrue(liquorSearchIndex.search("소주").isEmpty());
+    }
+
+
+    @Test
+    void 인덱스_생성_후_DB_조회_없음(){
+        //given
+        liquorSearchIndex.rebuild();
+
+        //when
+        for(int i=0; i<100; i++) liquorSearchIndex.search("막걸리");
+
+        //then
+        verify(liquorRepository, times(1)).findAll();
+    }
+
+
+    @Test
+    void 수정된_전통주만_반영(){
+        //given
+        liquorSearchIndex.rebuild();
+
+        //when
+        liquorSearchIndex.update(Collections.singletonList(liquor("L004", "화요 41", "화요", "쌀")));
+
+        //then
+        assertTrue(liquorSearchIndex.search("화요25").isEmpty());
+        assertEquals(ids(liquorSearchIndex.search("화요41")), Collections.singletonList("L004"));
+        assertEquals(liquorSearchIndex.search("막걸리").size(), 4);
+        verify(liquorRepository, times(1)).findAll();
+    }
+
+
+    @Test
+    void 오타_한글자_검색(){
+        //given
+
+        //when
+        final List<LiquorSearchIndex.Hit> result= liquorSearchIndex.fuzzySearch("생막거리");
+
+        //then
+        assertTrue(liquorSearchIndex.search("생막거리").isEmpty());
+        assertEquals(ids(result), Collections.singletonList("L001"));
+        assertEquals(result.get(0).getDistance(), 1);
+    }
+
+
+    @Test
+    void 오타_단어_단위와_편집_거리_순서(){
+        //given
+
+        //when
+        final List<LiquorSearchIndex.Hit> result= liquorSearchIndex.fuzzySearch("복숭도가 손막걸리");
+        final List<LiquorSearchIndex.Hit> word= liquorSearchIndex.fuzzySearch("감홍노");
+
+        //then
+        assertEquals(ids(result).get(0), "L003");
+        assertEquals(ids(word), Collections.singletonList("L005"));
+        assertTrue(liquorSearchIndex.fuzzySearch("막거").isEmpty());     //두 글자 이하는 오타 허용X
+    }
+
+
+    @Test
+    void 편집_거리_계산(){
+        //given
+
+        //when, then
+        assertEquals(LiquorSearchIndex.distance("막걸리", "막걸리", 2), 0);
+        assertEquals(LiquorSearchIndex.distance("막걸리", "막거리", 2), 1);
+        assertEquals(LiquorSearchIndex.distance("막걸리", "막리걸", 2), 1);     //인접 글자 바뀜
+        assertEquals(LiquorSearchIndex.distance("막걸리", "화요", 2), 3);
+        assertEquals(LiquorSearchIndex.deletes("abc", 1).size(), 4);
+    }
+
+
+    @Test
+    void 라벨_OCR_문자열_매칭(){
+        //given
+        final String ocr= "지평  생막걸리!! 750ml / 알코올 6% 지평주조";
+
+        //when
+        final List<Pair<LiquorSearchIndex.Document, Double>> result= liquorSearchIndex.matchLabel(ocr, 0.3, 5);
+
+        //then
+        assertEquals(result.get(0).getFirst().getLiquorId(), "L001");
+        assertEquals(result.get(0).getSecond(), 1.0);
+        assertTrue(result.stream().allMatch(p -> p.getSecond()>=0.3));
+    }
+
+
+    @Test
+    void 라벨_오타와_자모_분리_입력(){
+        //given
+        final String decomposed= Normalizer.normalize("복순도가 손막걸리", Normalizer.Form.NFD);
+
+        //when
+        final List<Pair<LiquorSearchIndex.Document, Double>> result= liquorSearchIndex.matchLabel(decomposed, 0.6, 1);
+        final List<Pair<LiquorSearchIndex.Document, Double>> typo= liquorSearchIndex.matchLabel("복순도가 손막컬리", 0.5, 1);
+
+        //then
+        assertEquals(result.get(0).getFirst().getLiquorId(), "L003");
+        assertEquals(typo.get(0).getFirst().getLiquorId(), "L003");
+        assertTrue(liquorSearchIndex.matchLabel("소주 360ml", 0.3, 5).isEmpty());
+    }
+
+
+    @Test
+    void 라벨_호환_자모_입력(){
+        //given
+        final String jamo= "\u3142\u3157\u3131\u3145\u315c\u3134\u3137\u3157\u3131\u314f "     //ㅂㅗㄱㅅㅜㄴㄷㅗㄱㅏ
+                + "\u3145\u3157\u3134\u3141\u314f\u3131\u3131\u3153\u3139\u3139\u3163";  //ㅅㅗㄴㅁㅏㄱㄱㅓㄹㄹㅣ
+
+        //when
+        final List<Pair<LiquorSearchIndex.Document, Double>> result= liquorSearchIndex.matchLabel(jamo, 0.6, 1);
+
+        //then
+        assertEquals(LiquorSearchIndex.normalizeLabel("\u3141\u314f\u3131\u3131\u3153\u3139\u3139\u3163"), "막걸리");
+        assertEquals(result.get(0).getFirst().getLiquorId(), "L003");
+    }
+
+
+    @Test
+    void 라벨_후보_개수가_0_이하면_빈_결과(){
+        //given
+        final String ocr= "지평 생막걸리 지평주조";
+
+        //when, then
+        assertTrue(liquorSearchIndex.matchLabel(ocr, 0.3, 0).isEmpty());
+        assertTrue(liquorSearchIndex.matchLabel(ocr, 0.3, -1).isEmpty());
+    }
+
+
+    private List<String> ids(List<LiquorSearchIndex.Hit> hits){
+        return hits.stream().map(h -> h.getDocument().getLiquorId()).collect(Collectors.toList());
+    }
+
+    private Liquor liquor(String liquorId, String name, String brewery, String ingredient){
+        return Liquor.builder()
+                .liquorId(liquorId)
+                .name(name)
+                .brewery(brewery)
+                .ingredient(ingredient)
+                .liquorCategory("LQ01")
+                .build();
+    }
+}
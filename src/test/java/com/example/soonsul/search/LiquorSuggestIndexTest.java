@@ -0,0 +1,119 @@
+package com.example.soonsul.search;
+
+import com.example.soonsul.liquor.entity.Liquor;
+import com.example.soonsul.liquor.repository.LiquorRepository;
+import com.example.soonsul.util.LiquorSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LiquorSuggestIndexTest {
+
+    @InjectMocks
+    private LiquorSuggestIndex liquorSuggestIndex;
+
+    @Mock
+    private LiquorRepository liquorRepository;
+
+
+    @BeforeEach
+    void init(){
+        lenient().doReturn(Arrays.asList(
+                liquor("L001", "지평 생막걸리", 30),
+                liquor("L002", "막걸리 한잔", 5),
+                liquor("L003", "복순도가 손막걸리", 12),
+                liquor("L004", "막사이사이", 50),
+                liquor("L005", "매실원주", 1)
+        )).when(liquorRepository).findAll();
+    }
+
+
+    @Test
+    void 이름_앞부분_인기순(){
+        //given
+
+        //when
+        final List<String> result= ids(liquorSuggestIndex.suggest("막", 10));
+
+        //then
+        assertEquals(result, Arrays.asList("L004", "L002"));
+    }
+
+
+    @Test
+    void 입력_중인_자모와_중간_단어(){
+        //given
+
+        //when, then
+        assertEquals(ids(liquorSuggestIndex.suggest("막ㄱ", 10)), Collections.singletonList("L002"));
+        assertEquals(ids(liquorSuggestIndex.suggest("생막", 10)), Collections.singletonList("L001"));
+        assertEquals(ids(liquorSuggestIndex.suggest("지평생", 10)), Collections.singletonList("L001"));
+    }
+
+
+    @Test
+    void 초성_검색(){
+        //given
+
+        //when, then
+        assertEquals(ids(liquorSuggestIndex.suggest("ㅁㄱㄹ", 10)), Collections.singletonList("L002"));
+        assertEquals(ids(liquorSuggestIndex.suggest("ㅁ", 10)), Arrays.asList("L004", "L002", "L005"));
+        assertEquals(ids(liquorSuggestIndex.suggest("ㅅㅁㄱㄹ", 10)), Arrays.asList("L001", "L003"));
+    }
+
+
+    @Test
+    void 개수_제한과_빈_검색어(){
+        //given
+
+        //when, then
+        assertEquals(liquorSuggestIndex.suggest("ㅁ", 1).size(), 1);
+        assertTrue(liquorSuggestIndex.suggest(" ", 10).isEmpty());
+        assertTrue(liquorSuggestIndex.suggest("소주", 10).isEmpty());
+        verify(liquorRepository, times(1)).findAll();
+    }
+
+
+    @Test
+    void 노드마다_상위_K개만_저장(){
+        //given
+        final List<Liquor> list= new ArrayList<>();
+        for(int i=0; i<30; i++) list.add(liquor("L1"+ i, "막걸리"+ i, i));
+        doReturn(list).when(liquorRepository).findAll();
+
+        //when
+        final List<String> result= ids(liquorSuggestIndex.suggest("막걸리", 100));
+
+        //then
+        assertEquals(result.size(), LiquorSuggestIndex.TOP_K);
+        assertEquals(result.get(0), "L129");
+    }
+
+
+    private List<String> ids(List<Pair<String, String>> list){
+        return list.stream().map(Pair::getFirst).collect(Collectors.toList());
+    }
+
+    private Liquor liquor(String liquorId, String name, int reviewNumber){
+        return Liquor.builder()
+                .liquorId(liquorId)
+                .name(name)
+                .reviewNumber(reviewNumber)
+                .averageRating(0.0)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.soonsul.user;
+
+import com.example.soonsul.user.entity.User;
+import com.example.soonsul.user.oauth.jwt.JwtTokenProvider;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class JwtTokenProviderTest {
+    private static final String SECRET= Base64.getEncoder().encodeToString("soonsul-test-secret-key-0123456789".getBytes());
+
+    private final SimpleMeterRegistry meterRegistry= new SimpleMeterRegistry();
+    private final JwtTokenProvider jwtTokenProvider= new JwtTokenProvider(SECRET, meterRegistry);
+
+
+    @Test
+    void 발급한_토큰에서_userId_조회(){
+        //given
+        final String token= jwtTokenProvider.generateJwtToken(User.builder().userId("user1").build());
+
+        //when
+        final String userId= jwtTokenProvider.getUserIdFromToken(token);
+
+        //then
+        assertThat(userId).isEqualTo("user1");
+        assertThat(jwtTokenProvider.isValidToken(token)).isTrue();
+    }
+
+
+    @Test
+    void 검증된_토큰은_exp_전까지_캐시에서_조회(){
+        //given
+        final String token= jwtTokenProvider.generateJwtToken(User.builder().userId("user1").build());
+
+        //when
+        jwtTokenProvider.getUserIdFromToken(token);
+        final String userId= jwtTokenProvider.getUserIdFromToken(token);
+
+        //then
+        assertThat(userId).isEqualTo("user1");
+        assertThat(meterRegistry.counter("jwt.verify.cache", "result", "miss").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("jwt.verify.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+
+    @Test
+    void 만료된_토큰은_거부(){
+        //given
+        final String token= Jwts.builder()
+                .claim("userId", "user1")
+                .setExpiration(new Date(System.currentTimeMillis()- 1000))
+                .signWith(SignatureAlgorithm.HS256, new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256"))
+                .compact();
+
+        //when, then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromToken(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromToken(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtTokenProvider.isValidToken(token)).isFalse();
+        assertThat(meterRegistry.counter("jwt.verify.cache", "result", "hit").count()).isEqualTo(0.0);
+    }
+
+
+    @Test
+    void 다른_키로_서명한_토큰은_거부(){
+        //given
+        final JwtTokenProvider other= new JwtTokenProvider(
+                Base64.getEncoder().encodeToString("another-secret-key-for-soonsul-0123".getBytes()), new SimpleMeterRegistry());
+        final String token= other.generateJwtToken(User.builder().userId("user1").build());
+
+        //when, then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromToken(token)).isInstanceOf(SignatureException.class);
+        assertThat(jwtTokenProvider.isValidToken(token)).isFalse();
+    }
+}
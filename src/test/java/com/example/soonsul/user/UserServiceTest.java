@@ -1,9 +1,11 @@
 package com.example.soonsul.user;
 
+import com.example.soonsul.cache.UserCache;
 import com.example.soonsul.user.entity.User;
 import com.example.soonsul.user.exception.UserNotExist;
 import com.example.soonsul.user.repository.UserRepository;
 import com.example.soonsul.util.UserUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +17,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +37,9 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
 
     @Nested
     class 현재_접속중인_유저_조회{
@@ -66,6 +75,62 @@ public class UserServiceTest {
 
 
 
+    @Nested
+    class 유저_캐시{
+        @AfterEach
+        void clear(){
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        void 캐시에_있으면_DB_조회X(){
+            //given
+            createAuthentication("user1");
+            doReturn(user("user1")).when(userCache).get("user1");
+
+            //when
+            final User getUser= userUtil.getUserByAuthentication();
+
+            //then
+            assertThat(getUser.getUserId()).isEqualTo("user1");
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        void 같은_요청에서는_한번만_조회(){
+            //given
+            createAuthentication("user1");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            doReturn(Optional.of(user("user1"))).when(userRepository).findById("user1");
+
+            //when
+            final User first= userUtil.getUserByAuthentication();
+            final User second= userUtil.getUserByAuthentication();
+
+            //then
+            assertThat(second).isSameAs(first);
+            verify(userCache, times(1)).get("user1");
+            verify(userCache, times(1)).put(first);
+            verify(userRepository, times(1)).findById("user1");
+        }
+
+        @Test
+        void 수정할_유저는_DB에서_조회하고_캐시_삭제(){
+            //given
+            createAuthentication("user1");
+            doReturn(Optional.of(user("user1"))).when(userRepository).findById("user1");
+
+            //when
+            userUtil.getUserForUpdate();
+
+            //then
+            verify(userCache, never()).get(any());
+            verify(userCache, times(1)).evict("user1");
+        }
+    }
+
+
+
     private void createAuthentication(String userId){
         AbstractAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userId,